@@ -0,0 +1,93 @@
+// 認証APIの負荷試験（k6）
+//
+// 各VU（同時接続）はログインで取得したリフレッシュトークンをローテーションし続け、
+// 取得したアクセストークンをイントロスペクションAPIで検証する。
+// リフレッシュはDBの条件付きUPDATEとユーザー参照を伴うため、DB待ちでブロックするリクエストの代表として使用する。
+//
+//   k6 run -e VUS=1000 -e LOGIN_EMAIL=load@example.com -e LOGIN_PASSWORD=... loadtest/auth-load.js
+//
+// 環境変数:
+//   BASE_URL              対象のURL（既定: http://localhost:8081）
+//   VUS                   同時接続数（既定: 1000）
+//   DURATION              計測時間（既定: 2m）
+//   LOGIN_EMAIL           ACTIVEなユーザーのメールアドレス
+//   LOGIN_PASSWORD        同パスワード
+//   INTROSPECTION_SECRET  設定した場合のみイントロスペクションAPIを呼び出す
+//   THINK_TIME            各反復後の待ち時間（秒、既定: 0）
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const VUS = Number(__ENV.VUS || 1000);
+const THINK_TIME = Number(__ENV.THINK_TIME || 0);
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+export const options = {
+  scenarios: {
+    steady: {
+      executor: 'constant-vus',
+      vus: VUS,
+      duration: __ENV.DURATION || '2m',
+      gracefulStop: '10s',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  // タグ別のp99をサマリーに出力するため、常に成立する閾値を定義する
+  thresholds: {
+    'http_req_duration{name:refresh}': ['p(99)>=0'],
+    'http_req_duration{name:introspect}': ['p(99)>=0'],
+  },
+};
+
+// モジュールスコープの変数はVUごとに保持される
+let refreshToken = null;
+let accessToken = null;
+
+function login() {
+  const res = http.post(
+    `${BASE_URL}/api/v1/auth/login`,
+    JSON.stringify({ email: __ENV.LOGIN_EMAIL, password: __ENV.LOGIN_PASSWORD }),
+    { headers: JSON_HEADERS, tags: { name: 'login' } },
+  );
+  if (res.status === 200) {
+    refreshToken = res.json('refreshToken');
+    accessToken = res.json('accessToken');
+    return;
+  }
+  // 503（ハッシュ処理の受付上限）/ 429 の場合は Retry-After だけ待って次の反復で再試行する
+  sleep(Number(res.headers['Retry-After'] || 1));
+}
+
+export default function () {
+  if (!refreshToken) {
+    login();
+    return;
+  }
+
+  const res = http.post(`${BASE_URL}/api/v1/auth/refresh`, JSON.stringify({ refreshToken }), {
+    headers: JSON_HEADERS,
+    tags: { name: 'refresh' },
+  });
+  if (!check(res, { 'refresh 200': (r) => r.status === 200 })) {
+    refreshToken = null;
+    return;
+  }
+  refreshToken = res.json('refreshToken');
+  accessToken = res.json('accessToken');
+
+  if (__ENV.INTROSPECTION_SECRET) {
+    const introspected = http.post(
+      `${BASE_URL}/api/v1/auth/introspect`,
+      JSON.stringify({ tokens: [accessToken] }),
+      {
+        headers: { ...JSON_HEADERS, 'X-Introspection-Secret': __ENV.INTROSPECTION_SECRET },
+        tags: { name: 'introspect' },
+      },
+    );
+    check(introspected, { 'introspect active': (r) => r.status === 200 && r.json('results.0.active') });
+  }
+
+  if (THINK_TIME > 0) {
+    sleep(THINK_TIME);
+  }
+}
@@ -0,0 +1,41 @@
+#!/bin/bash
+# 従来のスレッドプールと仮想スレッドのスループット・p99を同時接続数ごとに比較する
+#
+# 事前に以下を起動しておく:
+#   platform: ./gradlew bootRun -Pjava21 --args='--server.port=8081'
+#   virtual : ./gradlew bootRun -Pjava21 --args='--server.port=8082 --spring.profiles.active=virtual-threads'
+#
+#   LOGIN_EMAIL=load@example.com LOGIN_PASSWORD=... ./loadtest/compare-threading.sh
+#
+# 結果は loadtest/results/<mode>-<vus>.json（k6のサマリー）に出力し、最後に一覧を表示する。
+set -euo pipefail
+
+cd "$(dirname "$0")"
+mkdir -p results
+
+PLATFORM_URL=${PLATFORM_URL:-http://localhost:8081}
+VIRTUAL_URL=${VIRTUAL_URL:-http://localhost:8082}
+CONCURRENCY=${CONCURRENCY:-"1000 2500 5000 10000"}
+DURATION=${DURATION:-2m}
+
+for vus in $CONCURRENCY; do
+  for mode in platform virtual; do
+    url=$PLATFORM_URL
+    if [ "$mode" = virtual ]; then
+      url=$VIRTUAL_URL
+    fi
+    k6 run --quiet -e BASE_URL="$url" -e VUS="$vus" -e DURATION="$DURATION" \
+      --summary-export "results/${mode}-${vus}.json" auth-load.js > /dev/null
+  done
+done
+
+printf '%-9s %6s %12s %12s %10s\n' mode vus 'req/s' 'p99(ms)' 'failed'
+for vus in $CONCURRENCY; do
+  for mode in platform virtual; do
+    jq -r --arg mode "$mode" --arg vus "$vus" \
+      '[$mode, $vus, (.metrics.http_reqs.rate | floor),
+        (.metrics["http_req_duration{name:refresh}"]["p(99)"] | . * 10 | floor / 10),
+        (.metrics.http_req_failed.value * 100 | floor | tostring + "%")] | @tsv' \
+      "results/${mode}-${vus}.json" | awk '{ printf "%-9s %6s %12s %12s %10s\n", $1, $2, $3, $4, $5 }'
+  done
+done
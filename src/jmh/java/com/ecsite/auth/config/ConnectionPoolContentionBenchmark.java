@@ -0,0 +1,118 @@
+package com.ecsite.auth.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 接続プール競合時のログイン応答時間ベンチマーク
+ *
+ * <p>ログイン1回のDBアクセス（メールアドレスでのユーザー検索と、リフレッシュトークンファミリーのINSERT）を64スレッドで同時に実行し、 {@link Mode#SampleTime}
+ * でp99を計測します。 DBはH2のインメモリDBで、各SQLの後に {@code roundTripMicros} のネットワーク往復を模した待ちを接続保持中に入れます。
+ * パスワード照合は接続を返却した後の {@code hashingMicros} の待ちで模擬します。
+ *
+ * <p>{@code maximumPoolSize} の10はHikariCPの既定値（設定なし）、17と33は {@link
+ * DataSourcePoolConfig#derivePoolSize(int)} が8コア・16コアのノードで算出する値です。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(64)
+public class ConnectionPoolContentionBenchmark {
+
+  private static final int USERS = 1000;
+
+  @Param({"10", "17", "33"})
+  private int maximumPoolSize;
+
+  @Param({"1000"})
+  private long roundTripMicros;
+
+  @Param({"5000"})
+  private long hashingMicros;
+
+  private HikariDataSource dataSource;
+
+  @Setup
+  public void setUp() throws SQLException {
+    HikariConfig config = new HikariConfig();
+    config.setJdbcUrl("jdbc:h2:mem:pool-" + maximumPoolSize + ";DB_CLOSE_DELAY=-1");
+    config.setUsername("sa");
+    config.setPoolName("benchmark-pool");
+    config.setMaximumPoolSize(maximumPoolSize);
+    config.setConnectionTimeout(30000);
+    dataSource = new HikariDataSource(config);
+
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute(
+          "CREATE TABLE IF NOT EXISTS users"
+              + " (id UUID PRIMARY KEY, email VARCHAR(255) UNIQUE, password_hash VARCHAR(255))");
+      statement.execute(
+          "CREATE TABLE IF NOT EXISTS refresh_token_families"
+              + " (id UUID PRIMARY KEY, user_id UUID, current_jti UUID)");
+      try (PreparedStatement insert =
+          connection.prepareStatement("INSERT INTO users VALUES (?, ?, ?)")) {
+        for (int i = 0; i < USERS; i++) {
+          insert.setObject(1, UUID.randomUUID());
+          insert.setString(2, "user" + i + "@example.com");
+          insert.setString(3, "$2a$12$hash");
+          insert.addBatch();
+        }
+        insert.executeBatch();
+      }
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    dataSource.close();
+  }
+
+  @Benchmark
+  public Object login() throws SQLException {
+    String email = "user" + ThreadLocalRandom.current().nextInt(USERS) + "@example.com";
+    UUID userId;
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement select =
+            connection.prepareStatement("SELECT id, password_hash FROM users WHERE email = ?")) {
+      select.setString(1, email);
+      try (ResultSet resultSet = select.executeQuery()) {
+        resultSet.next();
+        userId = resultSet.getObject(1, UUID.class);
+      }
+      LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+    }
+
+    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(hashingMicros));
+
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement insert =
+            connection.prepareStatement("INSERT INTO refresh_token_families VALUES (?, ?, ?)")) {
+      insert.setObject(1, UUID.randomUUID());
+      insert.setObject(2, userId);
+      insert.setObject(3, UUID.randomUUID());
+      insert.executeUpdate();
+      LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+    }
+    return userId;
+  }
+}
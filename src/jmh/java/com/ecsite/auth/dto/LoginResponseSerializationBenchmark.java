@@ -0,0 +1,56 @@
+package com.ecsite.auth.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * LoginResponseのJSONシリアライズのベンチマーク
+ *
+ * <p>Spring MVCのメッセージコンバーターと同じ設定の {@link ObjectMapper} で、ログインAPIのレスポンスボディを生成するコストを計測します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoginResponseSerializationBenchmark {
+
+  private ObjectMapper objectMapper;
+  private LoginResponse response;
+
+  @Setup
+  public void setUp() {
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    response =
+        LoginResponse.builder()
+            .accessToken(
+                "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiIxMjM0NTY3ODkwIiwiZW1haWwiOiJiZW5jaEBleGFtcGxlLmNvbSJ9."
+                    + "SflKxwRJSMeKKF2QT4fwpMeJf36POk6yJV_adQssw5c")
+            .refreshToken(
+                "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiIxMjM0NTY3ODkwIiwidHlwZSI6InJlZnJlc2gifQ."
+                    + "dBjftJeZ4CVP-mB92K27uhbUJU1p1r_wW1gFWFOEjXk")
+            .tokenType("bearer")
+            .expiresIn(900)
+            .user(
+                LoginResponse.UserInfo.builder()
+                    .id(UUID.randomUUID().toString())
+                    .email("bench@example.com")
+                    .roles(new String[] {"user"})
+                    .mfaEnabled(false)
+                    .build())
+            .build();
+  }
+
+  @Benchmark
+  public byte[] writeValueAsBytes() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(response);
+  }
+}
@@ -0,0 +1,46 @@
+package com.ecsite.auth.mapper;
+
+import com.ecsite.auth.dto.UserResponse;
+import com.ecsite.auth.entity.User;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** UserMapper.toUserResponseのベンチマーク */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserMapperBenchmark {
+
+  private UserMapper userMapper;
+  private User user;
+
+  @Setup
+  public void setUp() {
+    userMapper = new UserMapper();
+    user =
+        User.builder()
+            .id(UUID.randomUUID())
+            .email("bench@example.com")
+            .passwordHash("$2a$12$hashedPassword")
+            .firstName("Taro")
+            .lastName("Yamada")
+            .status(User.UserStatus.ACTIVE)
+            .emailVerifiedAt(LocalDateTime.now())
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build();
+  }
+
+  @Benchmark
+  public UserResponse toUserResponse() {
+    return userMapper.toUserResponse(user);
+  }
+}
@@ -0,0 +1,110 @@
+package com.ecsite.auth.notification;
+
+import com.ecsite.auth.entity.NotificationOutbox;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 通知の送信時間ベンチマーク
+ *
+ * <p>アウトボックスの配信処理1回分（{@code BATCH} 件）の通知を {@link HttpNotificationTransport} で送信し、 全件の完了までの時間を
+ * {@link Mode#SampleTime} で計測します。 送信先はローカルに起動したスタブのHTTPサーバーで、各リクエストに {@code backendDelayMillis}
+ * の遅延を入れて遅い送信先を模擬します。
+ *
+ * <p>{@code maxInFlight=1, maxBatchSize=1} は1件ずつ応答を待って送信する同期的な送信手段に相当します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HttpNotificationTransportBenchmark {
+
+  private static final int BATCH = 100;
+
+  @Param({"1", "8"})
+  private int maxInFlight;
+
+  @Param({"1", "50"})
+  private int maxBatchSize;
+
+  @Param({"20"})
+  private long backendDelayMillis;
+
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private HttpNotificationTransport transport;
+
+  @Setup
+  public void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext(
+        "/notifications/bulk",
+        exchange -> {
+          try {
+            exchange.getRequestBody().readAllBytes();
+            Thread.sleep(backendDelayMillis);
+            exchange.sendResponseHeaders(202, -1);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          } finally {
+            exchange.close();
+          }
+        });
+    serverExecutor = Executors.newCachedThreadPool();
+    server.setExecutor(serverExecutor);
+    server.start();
+    transport =
+        new HttpNotificationTransport(
+            new ObjectMapper(),
+            new SimpleMeterRegistry(),
+            "http://127.0.0.1:" + server.getAddress().getPort() + "/notifications/bulk",
+            maxInFlight,
+            maxBatchSize,
+            Duration.ofMillis(5),
+            Duration.ofSeconds(2),
+            Duration.ofSeconds(30),
+            10000,
+            5,
+            Duration.ofSeconds(30));
+  }
+
+  @TearDown
+  public void tearDown() {
+    transport.destroy();
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Benchmark
+  public void sendBatch() {
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[BATCH];
+    for (int i = 0; i < BATCH; i++) {
+      futures[i] =
+          transport.send(
+              new NotificationMessage(
+                  UUID.randomUUID(),
+                  NotificationOutbox.Type.VERIFICATION_EMAIL,
+                  "user" + i + "@example.com",
+                  Map.of("token", "token-" + i)));
+    }
+    CompletableFuture.allOf(futures).join();
+  }
+}
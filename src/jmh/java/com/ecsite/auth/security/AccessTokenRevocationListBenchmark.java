@@ -0,0 +1,80 @@
+package com.ecsite.auth.security;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ecsite.auth.cache.LocalCacheInvalidationBus;
+import com.ecsite.auth.repository.RevokedAccessTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * AccessTokenRevocationListのベンチマーク
+ *
+ * <p>失効していないトークン（Bloomフィルターのみで判定）と、失効済みトークン（判定結果のキャッシュにヒット）の {@code isRevoked} を計測します。 {@code
+ * revokedTokens} 件の失効を登録済みの状態で、毎回異なるjtiを判定します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccessTokenRevocationListBenchmark {
+
+  private static final int PROBES = 4096;
+
+  @Param({"0", "100000"})
+  private int revokedTokens;
+
+  private AccessTokenRevocationList revocationList;
+  private String[] notRevokedJtis;
+  private String[] revokedJtis;
+  private int index;
+
+  @Setup
+  public void setUp() {
+    RevokedAccessTokenRepository repository = mock(RevokedAccessTokenRepository.class);
+    when(repository.existsByJtiAndExpiresAtAfter(any(), any())).thenReturn(true);
+    revocationList =
+        new AccessTokenRevocationList(
+            repository,
+            new LocalCacheInvalidationBus(),
+            new SimpleMeterRegistry(),
+            100000,
+            0.001,
+            Duration.ofMinutes(5));
+    for (int i = 0; i < revokedTokens; i++) {
+      revocationList.onInvalidate(UUID.randomUUID().toString());
+    }
+
+    notRevokedJtis = new String[PROBES];
+    revokedJtis = new String[PROBES];
+    for (int i = 0; i < PROBES; i++) {
+      notRevokedJtis[i] = UUID.randomUUID().toString();
+      revokedJtis[i] = UUID.randomUUID().toString();
+      revocationList.onInvalidate(revokedJtis[i]);
+      revocationList.isRevoked(revokedJtis[i]);
+    }
+  }
+
+  @Benchmark
+  public boolean notRevoked() {
+    index = (index + 1) & (PROBES - 1);
+    return revocationList.isRevoked(notRevokedJtis[index]);
+  }
+
+  @Benchmark
+  public boolean revoked() {
+    index = (index + 1) & (PROBES - 1);
+    return revocationList.isRevoked(revokedJtis[index]);
+  }
+}
@@ -0,0 +1,128 @@
+package com.ecsite.auth.security;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ecsite.auth.cache.LocalCacheInvalidationBus;
+import com.ecsite.auth.cache.UserStatusCache;
+import com.ecsite.auth.entity.User;
+import com.ecsite.auth.repository.RevokedAccessTokenRepository;
+import com.ecsite.auth.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * JwtAuthenticationFilterのベンチマーク
+ *
+ * <p>認証済みリクエスト1件あたりのフィルター処理（トークン検証キャッシュ、失効リスト、ユーザーステータスキャッシュ、SecurityContextへの設定）を計測します。
+ * FilterChainは何もしない実装、UserRepositoryはモックのため、DBアクセスと後続フィルターのコストは含みません。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+  private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256";
+
+  // trueの場合はWebAuthenticationDetailsも生成する（従来の動作）
+  @Param({"false", "true"})
+  public boolean webDetails;
+
+  private JwtAuthenticationFilter filter;
+  private FilterChain filterChain;
+  private String authorizationHeader;
+
+  @Setup
+  public void setUp() {
+    JwtUtil jwtUtil = new JwtUtil(SECRET, 900000L, 2592000000L);
+    UUID userId = UUID.randomUUID();
+    authorizationHeader =
+        "Bearer " + jwtUtil.generateAccessToken(userId, "bench@example.com", "USER");
+
+    UserRepository userRepository = mock(UserRepository.class);
+    when(userRepository.findStatusById(any(UUID.class)))
+        .thenReturn(Optional.of(User.UserStatus.ACTIVE));
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    filter =
+        new JwtAuthenticationFilter(
+            new AccessTokenPolicy(
+                new VerifiedTokenCache(jwtUtil, meterRegistry, 10000),
+                new AccessTokenRevocationList(
+                    mock(RevokedAccessTokenRepository.class),
+                    new LocalCacheInvalidationBus(),
+                    meterRegistry,
+                    100000,
+                    0.001,
+                    Duration.ofMinutes(5))),
+            new UserStatusCache(
+                userRepository,
+                new LocalCacheInvalidationBus(),
+                meterRegistry,
+                Duration.ofMinutes(5),
+                100000,
+                Duration.ofSeconds(5)),
+            new RouteClassifier(),
+            webDetails);
+    // Mockitoのモックは呼び出し履歴を保持し計測を歪めるため、何もしないチェーンを使用する
+    filterChain = (request, response) -> {};
+  }
+
+  @Benchmark
+  public Object authenticatedRequest() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+    request.addHeader("Authorization", authorizationHeader);
+    try {
+      filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+      return SecurityContextHolder.getContext().getAuthentication();
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+  }
+
+  // 退会API以外へのPOST。経路分類のコストを計測する
+  @Benchmark
+  public Object authenticatedPostRequest() throws Exception {
+    MockHttpServletRequest request =
+        new MockHttpServletRequest("POST", "/api/v1/users/me/addresses");
+    request.addHeader("Authorization", authorizationHeader);
+    try {
+      filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+      return SecurityContextHolder.getContext().getAuthentication();
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+  }
+
+  // Kubernetesのヘルスチェック。認証不要の経路のためフィルターはトークンを検証しない
+  @Benchmark
+  public Object healthCheckRequest() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health/liveness");
+    request.addHeader("Authorization", authorizationHeader);
+    filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+    return request;
+  }
+
+  @Benchmark
+  public Object anonymousRequest() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+    filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+    return request;
+  }
+}
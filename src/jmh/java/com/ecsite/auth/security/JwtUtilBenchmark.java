@@ -0,0 +1,62 @@
+package com.ecsite.auth.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JwtUtilのベンチマーク
+ *
+ * <p>起動時に構築した署名鍵・パーサーを再利用する現行実装と、呼び出しごとに鍵とパーサーを再構築する旧実装を比較します。 {@code ./gradlew jmh} で実行し、gcプロファイラの
+ * {@code gc.alloc.rate.norm} で1回あたりのアロケーション量を確認します。
+ *
+ * <p>{@code algorithm} ごとに署名・検証のコストを比較します（ES256 / EdDSAの鍵は起動ごとに生成）。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+public class JwtUtilBenchmark {
+
+  private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256";
+
+  @Param({"HS256", "ES256", "EdDSA"})
+  private String algorithm;
+
+  private JwtUtil jwtUtil;
+  private UUID userId;
+  private String accessToken;
+
+  @Setup
+  public void setUp() {
+    jwtUtil =
+        new JwtUtil(new JwtKeyRing(algorithm, SECRET, "", "", false, ""), 900000L, 2592000000L);
+    userId = UUID.randomUUID();
+    accessToken = jwtUtil.generateAccessToken(userId, "bench@example.com", "USER");
+  }
+
+  @Benchmark
+  public String generateAccessToken() {
+    return jwtUtil.generateAccessToken(userId, "bench@example.com", "USER");
+  }
+
+  @Benchmark
+  public Claims validateToken() {
+    return jwtUtil.validateToken(accessToken);
+  }
+
+  /** 変更前の実装と同じく、呼び出しごとに署名鍵とパーサーを構築して検証します。 */
+  @Benchmark
+  public Claims validateTokenRebuildingParser() {
+    SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    return Jwts.parser().verifyWith(key).build().parseSignedClaims(accessToken).getPayload();
+  }
+}
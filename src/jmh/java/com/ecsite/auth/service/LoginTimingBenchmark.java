@@ -0,0 +1,106 @@
+package com.ecsite.auth.service;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ecsite.auth.dto.LoginRequest;
+import com.ecsite.auth.entity.User;
+import com.ecsite.auth.repository.UserRepository;
+import com.ecsite.auth.security.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * ログイン失敗時の応答時間分布ベンチマーク
+ *
+ * <p>登録済みメールアドレス（パスワード不一致）と未登録メールアドレスのログイン失敗を {@link Mode#SampleTime} で計測し、
+ * 両者のパーセンタイル分布が一致すること（応答時間からユーザーの存在を判別できないこと）を確認します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoginTimingBenchmark {
+
+  @Param({"10"})
+  private int cost;
+
+  private PasswordHashingService passwordHashingService;
+  private LoginService loginService;
+  private LoginRequest knownEmailRequest;
+  private LoginRequest unknownEmailRequest;
+
+  @Setup
+  public void setUp() {
+    BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+    passwordHashingService =
+        new PasswordHashingService(
+            encoder, new SimpleMeterRegistry(), 0, 64, Duration.ofSeconds(1));
+
+    User user =
+        User.builder()
+            .id(UUID.randomUUID())
+            .email("known@example.com")
+            .passwordHash(encoder.encode("CorrectPass123!"))
+            .status(User.UserStatus.ACTIVE)
+            .build();
+    UserRepository userRepository = mock(UserRepository.class);
+    when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+    when(userRepository.findByEmail("known@example.com")).thenReturn(Optional.of(user));
+
+    loginService =
+        new LoginService(
+            userRepository,
+            passwordHashingService,
+            mock(PasswordRehashService.class),
+            mock(RefreshTokenService.class),
+            mock(JwtUtil.class));
+
+    knownEmailRequest = request("known@example.com");
+    unknownEmailRequest = request("unknown@example.com");
+  }
+
+  @TearDown
+  public void tearDown() {
+    passwordHashingService.shutdown();
+  }
+
+  @Benchmark
+  public Object knownEmailWrongPassword() {
+    return attempt(knownEmailRequest);
+  }
+
+  @Benchmark
+  public Object unknownEmail() {
+    return attempt(unknownEmailRequest);
+  }
+
+  private Object attempt(LoginRequest request) {
+    try {
+      return loginService.authenticateUser(request);
+    } catch (BadCredentialsException e) {
+      return e;
+    }
+  }
+
+  private static LoginRequest request(String email) {
+    LoginRequest request = new LoginRequest();
+    request.setEmail(email);
+    request.setPassword("WrongPass123!");
+    return request;
+  }
+}
@@ -0,0 +1,77 @@
+package com.ecsite.auth.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * キャッシュ無効化バスの共通実装
+ *
+ * <p>購読者の管理と、ノード内の購読者へのイベント配信を提供します。
+ */
+@Slf4j
+public abstract class AbstractCacheInvalidationBus implements CacheInvalidationBus {
+
+  private final Map<String, List<CacheInvalidationListener>> listeners = new ConcurrentHashMap<>();
+
+  @Override
+  public void subscribe(String cacheName, CacheInvalidationListener listener) {
+    listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+  }
+
+  /**
+   * ノード内の購読者へイベントを配信します。
+   *
+   * <p>アクティブなトランザクションが存在する場合はコミット後に、存在しない場合は即座に配信します。
+   *
+   * @param cacheName キャッシュ名
+   * @param key 無効化対象のキー
+   */
+  protected void publishLocally(String cacheName, String key) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              dispatch(cacheName, key);
+            }
+          });
+    } else {
+      dispatch(cacheName, key);
+    }
+  }
+
+  /**
+   * 指定キャッシュの購読者へ無効化イベントを配信します。
+   *
+   * @param cacheName キャッシュ名
+   * @param key 無効化対象のキー
+   */
+  protected void dispatch(String cacheName, String key) {
+    for (CacheInvalidationListener listener : listeners.getOrDefault(cacheName, List.of())) {
+      try {
+        listener.onInvalidate(key);
+      } catch (RuntimeException e) {
+        log.error("Cache invalidation listener failed (cache: {}, key: {})", cacheName, key, e);
+      }
+    }
+  }
+
+  /** 全購読者へリセットイベントを配信します。 */
+  protected void resetAll() {
+    listeners.forEach(
+        (cacheName, cacheListeners) -> {
+          for (CacheInvalidationListener listener : cacheListeners) {
+            try {
+              listener.onReset();
+            } catch (RuntimeException e) {
+              log.error("Cache reset listener failed (cache: {})", cacheName, e);
+            }
+          }
+        });
+  }
+}
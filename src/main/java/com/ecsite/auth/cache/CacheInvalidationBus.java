@@ -0,0 +1,28 @@
+package com.ecsite.auth.cache;
+
+/**
+ * キャッシュ無効化バス
+ *
+ * <p>ノードローカルなキャッシュの無効化イベントを全レプリカへ配信します。 イベントはトランザクション内で発行された場合、コミット後に配信されます。
+ *
+ * @see PostgresCacheInvalidationBus
+ * @see LocalCacheInvalidationBus
+ */
+public interface CacheInvalidationBus {
+
+  /**
+   * 無効化イベントを発行します。
+   *
+   * @param cacheName キャッシュ名
+   * @param key 無効化対象のキー
+   */
+  void publish(String cacheName, String key);
+
+  /**
+   * キャッシュの無効化イベントを購読します。
+   *
+   * @param cacheName キャッシュ名
+   * @param listener 購読者
+   */
+  void subscribe(String cacheName, CacheInvalidationListener listener);
+}
@@ -0,0 +1,23 @@
+package com.ecsite.auth.cache;
+
+/**
+ * キャッシュ無効化イベントの購読者
+ *
+ * <p>{@link CacheInvalidationBus} に登録され、他ノードを含む全ノードで発生した無効化イベントを受け取ります。
+ */
+public interface CacheInvalidationListener {
+
+  /**
+   * 指定キーのエントリを無効化します。
+   *
+   * @param key 無効化対象のキー
+   */
+  void onInvalidate(String key);
+
+  /**
+   * 全エントリを無効化します。
+   *
+   * <p>イベントの取りこぼしが発生し得る場合（リスナー接続の再確立時など）に呼び出されます。
+   */
+  void onReset();
+}
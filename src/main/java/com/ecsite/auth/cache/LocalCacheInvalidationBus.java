@@ -0,0 +1,19 @@
+package com.ecsite.auth.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * ノード内のみで完結するキャッシュ無効化バス
+ *
+ * <p>単一ノード構成やH2を使用するテスト環境向けです。 {@code cache.invalidation.mode=local} で有効になります。
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.mode", havingValue = "local")
+public class LocalCacheInvalidationBus extends AbstractCacheInvalidationBus {
+
+  @Override
+  public void publish(String cacheName, String key) {
+    publishLocally(cacheName, key);
+  }
+}
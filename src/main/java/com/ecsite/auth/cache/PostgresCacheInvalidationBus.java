@@ -0,0 +1,172 @@
+package com.ecsite.auth.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * PostgreSQLのLISTEN/NOTIFYを使用したキャッシュ無効化バス
+ *
+ * <p>イベントは {@code pg_notify} で発行されるため、トランザクション内で発行した場合はコミット時に全ノードへ配信されます。 発行元ノードでは
+ * コミット直後にノード内の購読者へも直接配信します（自ノードへのNOTIFYは重複して届きますが、無効化は冪等です）。
+ *
+ * <p>各ノードは専用スレッドで {@code spring.datasource} と同じ接続先へ専用コネクションを張り、チャネルをLISTENします。
+ * コネクションプールの枠を占有しないよう、このコネクションはプール外で作成します。 接続断からの再接続時は、切断中のイベントを取りこぼしている可能性があるため
+ * 全購読者へリセット（全件無効化）を配信します。
+ */
+@Component
+@ConditionalOnProperty(
+    name = "cache.invalidation.mode",
+    havingValue = "postgres",
+    matchIfMissing = true)
+@Slf4j
+public class PostgresCacheInvalidationBus extends AbstractCacheInvalidationBus
+    implements SmartLifecycle {
+
+  private static final char PAYLOAD_SEPARATOR = ':';
+
+  private final JdbcTemplate jdbcTemplate;
+  private final DataSourceProperties dataSourceProperties;
+  private final String channel;
+  private final Duration pollTimeout;
+  private final Duration reconnectDelay;
+  private final Counter receivedCounter;
+  private final Counter reconnectCounter;
+
+  private volatile boolean running;
+  private Thread listenerThread;
+
+  public PostgresCacheInvalidationBus(
+      JdbcTemplate jdbcTemplate,
+      DataSourceProperties dataSourceProperties,
+      MeterRegistry meterRegistry,
+      @Value("${cache.invalidation.channel:auth_schema_cache_invalidation}") String channel,
+      @Value("${cache.invalidation.poll-timeout:500ms}") Duration pollTimeout,
+      @Value("${cache.invalidation.reconnect-delay:5s}") Duration reconnectDelay) {
+    if (!channel.matches("[a-z_][a-z0-9_]*")) {
+      throw new IllegalArgumentException("Invalid cache invalidation channel: " + channel);
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.dataSourceProperties = dataSourceProperties;
+    this.channel = channel;
+    this.pollTimeout = pollTimeout;
+    this.reconnectDelay = reconnectDelay;
+    this.receivedCounter = meterRegistry.counter("cache.invalidation.received");
+    this.reconnectCounter = meterRegistry.counter("cache.invalidation.reconnects");
+  }
+
+  @Override
+  public void publish(String cacheName, String key) {
+    String payload = cacheName + PAYLOAD_SEPARATOR + key;
+    jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, channel, payload);
+    publishLocally(cacheName, key);
+  }
+
+  @Override
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    listenerThread = new Thread(this::listenLoop, "cache-invalidation-listener");
+    listenerThread.setDaemon(true);
+    listenerThread.start();
+  }
+
+  @Override
+  public synchronized void stop() {
+    running = false;
+    if (listenerThread != null) {
+      listenerThread.interrupt();
+      try {
+        listenerThread.join(pollTimeout.toMillis() * 2);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      listenerThread = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void listenLoop() {
+    boolean reconnecting = false;
+    while (running) {
+      try (Connection connection = openConnection()) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + channel);
+        }
+        log.info("Listening for cache invalidation events on channel: {}", channel);
+        if (reconnecting) {
+          reconnectCounter.increment();
+        }
+        // 接続確立前後に発行されたイベントを取りこぼしている可能性があるため全件無効化する
+        resetAll();
+
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+          PGNotification[] notifications =
+              pgConnection.getNotifications((int) pollTimeout.toMillis());
+          if (notifications != null) {
+            for (PGNotification notification : notifications) {
+              handle(notification.getParameter());
+            }
+          }
+        }
+      } catch (SQLException e) {
+        if (!running) {
+          break;
+        }
+        log.warn(
+            "Cache invalidation listener disconnected, retrying in {}: {}",
+            reconnectDelay,
+            e.getMessage());
+        reconnecting = true;
+        sleepBeforeReconnect();
+      }
+    }
+    log.info("Cache invalidation listener stopped");
+  }
+
+  private Connection openConnection() throws SQLException {
+    return DriverManager.getConnection(
+        dataSourceProperties.determineUrl(),
+        dataSourceProperties.determineUsername(),
+        dataSourceProperties.determinePassword());
+  }
+
+  private void handle(String payload) {
+    int separator = payload.indexOf(PAYLOAD_SEPARATOR);
+    if (separator < 0) {
+      log.warn("Ignoring malformed cache invalidation payload: {}", payload);
+      return;
+    }
+    receivedCounter.increment();
+    dispatch(payload.substring(0, separator), payload.substring(separator + 1));
+  }
+
+  private void sleepBeforeReconnect() {
+    try {
+      Thread.sleep(reconnectDelay.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package com.ecsite.auth.cache;
+
+import com.ecsite.auth.datasource.ReplicaRoutingDataSource;
+import com.ecsite.auth.entity.User;
+import com.ecsite.auth.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * ユーザーステータスキャッシュ
+ *
+ * <p>JWT認証フィルターは全リクエストでユーザーのステータス（PENDING_DELETION / DELETED）を確認するため、 ユーザーID →
+ * ステータスを短いTTLでプロセス内にキャッシュし、DBアクセスを削減します。 キャッシュミス時は {@link UserRepository#findStatusById(UUID)}
+ * でステータス列のみを取得します。
+ *
+ * <p>ステータスを変更するサービスは {@link #invalidate(UUID)} を呼び出してください。 無効化は {@link CacheInvalidationBus}
+ * を通じて全ノードへ配信され、トランザクション内で呼び出された場合はコミット後に反映されるため、 コミット前の古いステータスが再キャッシュされることはありません。
+ *
+ * <p>読み取りレプリカを使用する場合（{@link ReplicaRoutingDataSource}）、無効化から {@code
+ * spring.datasource.replicas.stale-read-window} の間はそのユーザーのステータスをプライマリから取得します。
+ * 変更がレプリカに反映される前の古いステータスをTTLの間キャッシュし続けることを防ぐためです。
+ */
+@Component
+@Slf4j
+public class UserStatusCache implements CacheInvalidationListener {
+
+  static final String CACHE_NAME = "user-status";
+
+  private final UserRepository userRepository;
+  private final CacheInvalidationBus invalidationBus;
+  private final Cache<UUID, User.UserStatus> cache;
+  private final Cache<UUID, Boolean> recentlyInvalidated;
+  private final Duration primaryReadWindow;
+  private volatile long resetAtNanos;
+
+  public UserStatusCache(
+      UserRepository userRepository,
+      CacheInvalidationBus invalidationBus,
+      MeterRegistry meterRegistry,
+      @Value("${cache.user-status.ttl:5m}") Duration ttl,
+      @Value("${cache.user-status.maximum-size:100000}") long maximumSize,
+      @Value("${spring.datasource.replicas.stale-read-window:5s}") Duration primaryReadWindow) {
+    this.userRepository = userRepository;
+    this.invalidationBus = invalidationBus;
+    this.cache =
+        Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maximumSize).recordStats().build();
+    this.recentlyInvalidated =
+        Caffeine.newBuilder().expireAfterWrite(primaryReadWindow).maximumSize(maximumSize).build();
+    this.primaryReadWindow = primaryReadWindow;
+    this.resetAtNanos = System.nanoTime() - primaryReadWindow.toNanos();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    invalidationBus.subscribe(CACHE_NAME, this);
+  }
+
+  /**
+   * ユーザーのステータスを取得します。
+   *
+   * @param userId ユーザーID
+   * @return ユーザーステータス（ユーザーが存在しない場合はnull）
+   */
+  public User.UserStatus getStatus(UUID userId) {
+    return cache.get(
+        userId,
+        id ->
+            readFromPrimary(List.of(id))
+                ? ReplicaRoutingDataSource.onPrimary(() -> loadStatus(id))
+                : loadStatus(id));
+  }
+
+  /**
+   * 複数ユーザーのステータスを取得します。
+   *
+   * <p>キャッシュに存在しないユーザーは {@link UserRepository#findStatusesByIdIn(Collection)} の1回のクエリでまとめて取得します。
+   *
+   * @param userIds ユーザーIDのコレクション
+   * @return ユーザーID → ステータス（存在しないユーザーは含まない）
+   */
+  public Map<UUID, User.UserStatus> getStatuses(Collection<UUID> userIds) {
+    return cache.getAll(
+        userIds,
+        missing ->
+            readFromPrimary(missing)
+                ? ReplicaRoutingDataSource.onPrimary(() -> loadStatuses(missing))
+                : loadStatuses(missing));
+  }
+
+  /**
+   * 全ノードのユーザーのキャッシュエントリを無効化します。
+   *
+   * <p>アクティブなトランザクションが存在する場合はコミット後に反映されます。
+   *
+   * @param userId ユーザーID
+   */
+  public void invalidate(UUID userId) {
+    invalidationBus.publish(CACHE_NAME, userId.toString());
+  }
+
+  @Override
+  public void onInvalidate(String key) {
+    UUID userId = UUID.fromString(key);
+    recentlyInvalidated.put(userId, Boolean.TRUE);
+    cache.invalidate(userId);
+    log.debug("User status cache evicted for user: {}", key);
+  }
+
+  @Override
+  public void onReset() {
+    resetAtNanos = System.nanoTime();
+    cache.invalidateAll();
+    log.info("User status cache cleared");
+  }
+
+  private boolean readFromPrimary(Collection<? extends UUID> userIds) {
+    if (System.nanoTime() - resetAtNanos < primaryReadWindow.toNanos()) {
+      return true;
+    }
+    for (UUID userId : userIds) {
+      if (recentlyInvalidated.getIfPresent(userId) != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private User.UserStatus loadStatus(UUID userId) {
+    return userRepository.findStatusById(userId).orElse(null);
+  }
+
+  private Map<UUID, User.UserStatus> loadStatuses(Set<? extends UUID> userIds) {
+    return userRepository.findStatusesByIdIn(List.copyOf(userIds)).stream()
+        .collect(
+            Collectors.toMap(
+                UserRepository.UserStatusView::getId, UserRepository.UserStatusView::getStatus));
+  }
+}
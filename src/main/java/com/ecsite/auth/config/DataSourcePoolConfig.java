@@ -0,0 +1,63 @@
+package com.ecsite.auth.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * DB接続プール設定
+ *
+ * <p>{@code spring.datasource.hikari.maximum-pool-size}
+ * が指定されていない場合、接続プールの最大サイズをCPUコア数から算出します（{@link #derivePoolSize(int)}）。
+ * その他のプール設定（タイムアウト、リーク検出、PreparedStatementキャッシュ）は {@code application.yml} の {@code
+ * spring.datasource.hikari} で指定します。
+ *
+ * <p>プールのメトリクス（{@code hikaricp.connections.*}）はSpring Bootにより自動で登録され、Actuatorの {@code metrics}
+ * エンドポイントで参照できます。
+ */
+@Configuration
+@Slf4j
+public class DataSourcePoolConfig {
+
+  static final String MAXIMUM_POOL_SIZE_PROPERTY = "spring.datasource.hikari.maximum-pool-size";
+
+  /** HikariCPの既定の最大サイズ。算出値がこれを下回る場合はこの値を使用する */
+  static final int MINIMUM_POOL_SIZE = 10;
+
+  /**
+   * プロパティのバインド後、プール開始前に最大サイズを設定します。
+   *
+   * @param environment 環境
+   * @return HikariDataSourceの最大サイズを設定するBeanPostProcessor
+   */
+  @Bean
+  static BeanPostProcessor hikariPoolSizer(Environment environment) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource
+            && !environment.containsProperty(MAXIMUM_POOL_SIZE_PROPERTY)) {
+          int poolSize = derivePoolSize(Runtime.getRuntime().availableProcessors());
+          dataSource.setMaximumPoolSize(poolSize);
+          log.info("Derived connection pool size {} for {}", poolSize, dataSource.getPoolName());
+        }
+        return bean;
+      }
+    };
+  }
+
+  /**
+   * CPUコア数から接続プールの最大サイズを算出します。
+   *
+   * <p>HikariCPの推奨式 {@code コア数 * 2 + 1} を使用し、HikariCPの既定値（{@value #MINIMUM_POOL_SIZE}）を下限とします。
+   *
+   * @param availableProcessors CPUコア数
+   * @return 最大サイズ
+   */
+  static int derivePoolSize(int availableProcessors) {
+    return Math.max(MINIMUM_POOL_SIZE, availableProcessors * 2 + 1);
+  }
+}
@@ -0,0 +1,101 @@
+package com.ecsite.auth.config;
+
+import com.ecsite.auth.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 読み取りレプリカ設定
+ *
+ * <p>{@code spring.datasource.replicas.urls}（カンマ区切りのJDBC URL）が指定された場合のみ有効になり、
+ * 読み取り専用トランザクションをレプリカへ振り分ける {@link ReplicaRoutingDataSource} をアプリケーションのDataSourceとします。
+ * 未指定の場合はSpring Bootの自動設定によるプライマリのみのDataSourceを使用します。
+ *
+ * <p>レプリカの接続プールはユーザー名・パスワードと {@code spring.datasource.hikari} の設定をプライマリから引き継ぎ、 プール名は {@code
+ * <プライマリのプール名>-replica-<番号>} となります。
+ */
+@Configuration
+@ConditionalOnExpression("!'${spring.datasource.replicas.urls:}'.isBlank()")
+@Slf4j
+public class ReplicaDataSourceConfig {
+
+  /**
+   * プライマリの接続プールを作成します。
+   *
+   * @param properties {@code spring.datasource} の設定
+   * @return プライマリの接続プール
+   */
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  /**
+   * プライマリとレプリカを振り分けるDataSourceを作成します。
+   *
+   * @param primaryDataSource プライマリの接続プール
+   * @param urls レプリカのJDBC URL
+   * @param maxLag 振り分け対象とするレプリケーション遅延の上限
+   * @param checkInterval 遅延の計測間隔
+   * @param meterRegistry メトリクスレジストリ
+   * @return 振り分けDataSource
+   */
+  @Bean(destroyMethod = "close")
+  public ReplicaRoutingDataSource replicaRoutingDataSource(
+      HikariDataSource primaryDataSource,
+      @Value("${spring.datasource.replicas.urls}") List<String> urls,
+      @Value("${spring.datasource.replicas.max-lag:1s}") Duration maxLag,
+      @Value("${spring.datasource.replicas.check-interval:2s}") Duration checkInterval,
+      MeterRegistry meterRegistry) {
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    for (String url : urls) {
+      if (url.isBlank()) {
+        continue;
+      }
+      HikariConfig config = new HikariConfig();
+      primaryDataSource.copyStateTo(config);
+      config.setJdbcUrl(url.trim());
+      config.setPoolName(primaryDataSource.getPoolName() + "-replica-" + (replicas.size() + 1));
+      config.setReadOnly(true);
+      // レプリカが停止していても起動を妨げない（遅延の計測に失敗したレプリカは振り分け対象から除外される）
+      config.setInitializationFailTimeout(-1);
+      // レプリカはBeanではないため、hikaricp.connections.* のメトリクスをここで登録する
+      config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+      replicas.put(config.getPoolName(), new HikariDataSource(config));
+    }
+    log.info("Routing read-only transactions to replicas {}", replicas.keySet());
+    return new ReplicaRoutingDataSource(
+        primaryDataSource, replicas, maxLag, checkInterval, meterRegistry);
+  }
+
+  /**
+   * アプリケーションが使用するDataSourceを作成します。
+   *
+   * <p>接続の取得を最初のSQL実行まで遅らせ、トランザクションの読み取り専用属性が確定してから振り分け先を決定します。
+   *
+   * @param replicaRoutingDataSource 振り分けDataSource
+   * @return DataSource
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+  }
+}
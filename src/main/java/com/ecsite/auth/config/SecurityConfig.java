@@ -1,13 +1,16 @@
 package com.ecsite.auth.config;
 
 import com.ecsite.auth.security.JwtAuthenticationFilter;
+import com.ecsite.auth.security.PasswordHashPolicy;
+import com.ecsite.auth.security.RouteClassifier;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -17,6 +20,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
+  private final RouteClassifier routeClassifier;
 
   @Bean
   public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -25,19 +29,7 @@ public class SecurityConfig {
             session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
         .authorizeHttpRequests(
             auth ->
-                auth.requestMatchers("/api/v1/auth/register")
-                    .permitAll()
-                    .requestMatchers("/api/v1/auth/login")
-                    .permitAll()
-                    .requestMatchers("/api/v1/auth/verify-email")
-                    .permitAll()
-                    .requestMatchers("/api/v1/auth/forgot-password")
-                    .permitAll()
-                    .requestMatchers("/api/v1/auth/reset-password")
-                    .permitAll()
-                    .requestMatchers("/api/v1/会員登録")
-                    .permitAll()
-                    .requestMatchers("/actuator/**")
+                auth.requestMatchers(routeClassifier::isPermitAll)
                     .permitAll()
                     .anyRequest()
                     .authenticated())
@@ -47,7 +39,14 @@ public class SecurityConfig {
   }
 
   @Bean
-  public BCryptPasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder(12);
+  public PasswordHashPolicy passwordHashPolicy(
+      @Value("${password-hashing.algorithm:bcrypt}") String algorithm,
+      @Value("${password-hashing.bcrypt-strength:12}") int bcryptStrength) {
+    return new PasswordHashPolicy(algorithm, bcryptStrength);
+  }
+
+  @Bean
+  public PasswordEncoder passwordEncoder(PasswordHashPolicy passwordHashPolicy) {
+    return passwordHashPolicy.createEncoder();
   }
 }
@@ -1,5 +1,6 @@
 package com.ecsite.auth.controller;
 
+import com.ecsite.auth.dto.AuthTokenResponse;
 import com.ecsite.auth.dto.CreateUserRequest;
 import com.ecsite.auth.dto.EmailVerificationRequest;
 import com.ecsite.auth.dto.EmailVerificationResponse;
@@ -8,20 +9,31 @@ import com.ecsite.auth.dto.LoginRequest;
 import com.ecsite.auth.dto.LoginResponse;
 import com.ecsite.auth.dto.MemberRegistrationRequest;
 import com.ecsite.auth.dto.PasswordResetResponse;
+import com.ecsite.auth.dto.RefreshTokenRequest;
 import com.ecsite.auth.dto.RegistrationResponse;
 import com.ecsite.auth.dto.ResetPasswordRequest;
+import com.ecsite.auth.entity.RefreshTokenFamily;
+import com.ecsite.auth.exception.LoginRateLimitedException;
+import com.ecsite.auth.exception.PasswordHashingOverloadedException;
 import com.ecsite.auth.exception.UserAlreadyExistsException;
+import com.ecsite.auth.ratelimit.LoginRateLimiter;
+import com.ecsite.auth.security.AccessTokenRevocationList;
+import com.ecsite.auth.security.JwtAuthentication;
 import com.ecsite.auth.service.EmailVerificationService;
 import com.ecsite.auth.service.LoginService;
 import com.ecsite.auth.service.PasswordResetService;
+import com.ecsite.auth.service.RefreshTokenService;
 import com.ecsite.auth.service.UserRegistrationService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -42,6 +54,9 @@ public class AuthController {
   private final EmailVerificationService emailVerificationService;
   private final LoginService loginService;
   private final PasswordResetService passwordResetService;
+  private final LoginRateLimiter loginRateLimiter;
+  private final RefreshTokenService refreshTokenService;
+  private final AccessTokenRevocationList accessTokenRevocationList;
 
   /**
    * 既存の会員登録エンドポイント
@@ -107,20 +122,80 @@ public class AuthController {
    * <ul>
    *   <li>400 Bad Request: バリデーションエラー（メール形式不正、必須項目未入力）
    *   <li>401 Unauthorized: 認証失敗（メール/パスワード不正、アカウント非アクティブ）
+   *   <li>429 Too Many Requests: ログイン失敗回数の上限超過によるロックアウト中（Retry-After付き）
+   *   <li>503 Service Unavailable: パスワード検証の受付上限超過（Retry-After付き）
    * </ul>
    *
    * @param request ログインリクエスト（email, password, rememberMe）。nullは許可されない。
+   * @param httpRequest 接続元IPアドレスの取得に使用するHTTPリクエスト
    * @return HTTP 200とJWTトークン（アクセストークン、リフレッシュトークン）およびユーザー情報
    * @since 1.0
    * @see LoginService#authenticateUser(LoginRequest)
    */
   @PostMapping("/auth/login")
-  public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
+  public ResponseEntity<LoginResponse> login(
+      @Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
     log.info("Login request received for email: {}", request.getEmail());
-    LoginResponse response = loginService.authenticateUser(request);
+    String clientIp = httpRequest.getRemoteAddr();
+    loginRateLimiter.checkAllowed(request.getEmail(), clientIp);
+
+    LoginResponse response;
+    try {
+      response = loginService.authenticateUser(request);
+    } catch (BadCredentialsException e) {
+      loginRateLimiter.recordFailure(request.getEmail(), clientIp);
+      throw e;
+    }
+    loginRateLimiter.recordSuccess(request.getEmail());
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * トークンリフレッシュAPI
+   *
+   * <p>リフレッシュトークンをローテーションし、新しいアクセストークンとリフレッシュトークンを発行します。 パスワード照合は行いません。
+   * 使用済みのリフレッシュトークンが再提示された場合は、そのトークンファミリー全体を失効させます。
+   *
+   * <p>エラーレスポンス:
+   *
+   * <ul>
+   *   <li>400 Bad Request: バリデーションエラー（リフレッシュトークン未入力）
+   *   <li>401 Unauthorized: リフレッシュトークンが不正・期限切れ・失効済み・再利用、またはアカウント非アクティブ
+   * </ul>
+   *
+   * @param request トークンリフレッシュリクエスト（refreshToken）
+   * @return HTTP 200と新しいトークン
+   * @see RefreshTokenService#refresh(String)
+   */
+  @PostMapping("/auth/refresh")
+  public ResponseEntity<AuthTokenResponse> refresh(
+      @Valid @RequestBody RefreshTokenRequest request) {
+    AuthTokenResponse response = refreshTokenService.refresh(request.getRefreshToken());
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * ログアウトAPI
+   *
+   * <p>リクエストのアクセストークンを有効期限前に失効させ、ユーザーのリフレッシュトークンファミリーをすべて失効させます。
+   * アクセストークンの失効は全ノードへ配信され、以降同じトークンでは認証されません。 リフレッシュトークンも以降は401で拒否されるため、
+   * ログアウト後に新しいアクセストークンを取得するには再ログインが必要です。
+   *
+   * @param authentication 認証済みのアクセストークン（{@link com.ecsite.auth.security.JwtAuthenticationFilter}
+   *     が設定）
+   * @return HTTP 204
+   * @see AccessTokenRevocationList#revoke(String, UUID, java.time.Instant)
+   * @see RefreshTokenService#revokeAll(UUID, String)
+   */
+  @PostMapping("/auth/logout")
+  public ResponseEntity<Void> logout(JwtAuthentication authentication) {
+    UUID userId = UUID.fromString(authentication.getName());
+    accessTokenRevocationList.revoke(
+        authentication.getJti(), userId, authentication.getExpiresAt());
+    refreshTokenService.revokeAll(userId, RefreshTokenFamily.REVOKED_LOGOUT);
+    return ResponseEntity.noContent().build();
+  }
+
   /**
    * EC-15: パスワードリセット要求API
    *
@@ -193,6 +268,55 @@ public class AuthController {
     return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
   }
 
+  /**
+   * パスワードハッシュ処理の受付上限超過時のエラーハンドラ
+   *
+   * <p>PasswordHashingOverloadedExceptionをキャッチし、HTTP 503 Service Unavailableレスポンスを {@code
+   * Retry-After} ヘッダー付きで返す。
+   *
+   * @param ex PasswordHashingOverloadedException
+   * @return HTTP 503とエラー詳細を含むレスポンス
+   */
+  @ExceptionHandler(PasswordHashingOverloadedException.class)
+  public ResponseEntity<Map<String, Object>> handlePasswordHashingOverloaded(
+      PasswordHashingOverloadedException ex) {
+    log.warn("Password hashing overloaded: {}", ex.getMessage());
+
+    Map<String, Object> errorResponse = new HashMap<>();
+    errorResponse.put("status", "error");
+    errorResponse.put("message", ex.getMessage());
+    errorResponse.put("timestamp", LocalDateTime.now());
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(
+            HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+        .body(errorResponse);
+  }
+
+  /**
+   * ログイン試行回数の上限超過時のエラーハンドラ
+   *
+   * <p>LoginRateLimitedExceptionをキャッチし、HTTP 429 Too Many Requestsレスポンスを {@code Retry-After}
+   * ヘッダー（ロックアウトの残り秒数）付きで返す。
+   *
+   * @param ex LoginRateLimitedException
+   * @return HTTP 429とエラー詳細を含むレスポンス
+   */
+  @ExceptionHandler(LoginRateLimitedException.class)
+  public ResponseEntity<Map<String, Object>> handleLoginRateLimited(LoginRateLimitedException ex) {
+    log.warn("Login rate limited: {}", ex.getMessage());
+
+    Map<String, Object> errorResponse = new HashMap<>();
+    errorResponse.put("status", "error");
+    errorResponse.put("message", ex.getMessage());
+    errorResponse.put("timestamp", LocalDateTime.now());
+
+    long retryAfterSeconds = (ex.getRetryAfter().toMillis() + 999) / 1000;
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfterSeconds)))
+        .body(errorResponse);
+  }
+
   @ExceptionHandler(UserAlreadyExistsException.class)
   public ResponseEntity<Map<String, Object>> handleUserAlreadyExists(
       UserAlreadyExistsException ex) {
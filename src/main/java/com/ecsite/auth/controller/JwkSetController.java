@@ -0,0 +1,73 @@
+package com.ecsite.auth.controller;
+
+import com.ecsite.auth.security.JwtKeyRing;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 公開鍵セット（JWKS）コントローラー
+ *
+ * <p>他サービスがアクセストークンを自身で検証するための公開鍵を {@code /.well-known/jwks.json} で公開します。 レスポンスは {@code
+ * jwt.signing.jwks-max-age} の間キャッシュ可能で、ETagによる条件付きリクエストには304を返します（If-None-Matchはカンマ区切りの複数の値と {@code
+ * *} を受け付け、{@code W/} の有無を区別しない弱い比較で照合します）。 鍵のローテーションでは、新しい鍵を公開してから {@code jwks-max-age}
+ * 以上経過した後に署名鍵を切り替えてください。
+ */
+@RestController
+public class JwkSetController {
+
+  private final JwtKeyRing keyRing;
+  private final CacheControl cacheControl;
+
+  public JwkSetController(
+      JwtKeyRing keyRing, @Value("${jwt.signing.jwks-max-age:5m}") Duration maxAge) {
+    this.keyRing = keyRing;
+    this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+  }
+
+  /**
+   * 公開鍵セットを返します。
+   *
+   * @param ifNoneMatch If-None-Matchヘッダー
+   * @return HTTP 200と公開鍵セット。ETagが一致する場合はHTTP 304
+   */
+  @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<String> jwks(
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    String eTag = keyRing.jwkSetETag();
+    if (ifNoneMatch != null && matchesAny(ifNoneMatch, eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(eTag)
+          .cacheControl(cacheControl)
+          .build();
+    }
+    return ResponseEntity.ok().eTag(eTag).cacheControl(cacheControl).body(keyRing.jwkSetJson());
+  }
+
+  /**
+   * If-None-Matchの値のいずれかがETagと弱い比較で一致するかを判定します。
+   *
+   * <p>Spring MVCの {@code checkNotModified} はGETの {@code *} を一致とみなさないため、ここで照合します。
+   */
+  static boolean matchesAny(String ifNoneMatch, String eTag) {
+    String opaqueTag = weak(eTag);
+    for (String candidate : ifNoneMatch.split(",")) {
+      String value = candidate.trim();
+      if ("*".equals(value) || weak(value).equals(opaqueTag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String weak(String eTag) {
+    return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+  }
+}
@@ -0,0 +1,130 @@
+package com.ecsite.auth.controller;
+
+import com.ecsite.auth.dto.TokenIntrospectionRequest;
+import com.ecsite.auth.dto.TokenIntrospectionResponse;
+import com.ecsite.auth.service.TokenIntrospectionService;
+import jakarta.validation.Valid;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * トークンイントロスペクションコントローラー
+ *
+ * <p>APIゲートウェイが最大 {@value TokenIntrospectionRequest#MAX_TOKENS}
+ * 件のアクセストークンを1回のリクエストで検証するためのAPIを提供します。 呼び出し元は {@value #CLIENT_SECRET_HEADER} ヘッダーで {@code
+ * introspection.client-secret} を提示する必要があり、 設定が空の場合はすべてのリクエストを拒否します。
+ *
+ * <p>エンドポイント:
+ *
+ * <ul>
+ *   <li>POST /api/v1/auth/introspect - トークンの一括検証
+ * </ul>
+ */
+@RestController
+@RequestMapping("/api/v1/auth")
+@Slf4j
+public class TokenIntrospectionController {
+
+  static final String CLIENT_SECRET_HEADER = "X-Introspection-Secret";
+
+  private final TokenIntrospectionService tokenIntrospectionService;
+  private final byte[] clientSecret;
+
+  public TokenIntrospectionController(
+      TokenIntrospectionService tokenIntrospectionService,
+      @Value("${introspection.client-secret:}") String clientSecret) {
+    this.tokenIntrospectionService = tokenIntrospectionService;
+    this.clientSecret = clientSecret.getBytes(StandardCharsets.UTF_8);
+    if (clientSecret.isEmpty()) {
+      log.info("introspection.client-secret is not set; token introspection is disabled");
+    }
+  }
+
+  /**
+   * トークン一括検証API
+   *
+   * <p>各トークンの署名・有効期限・種別・失効・ユーザーステータスを検証し、リクエストと同じ順序で結果を返します。
+   *
+   * <p>エラーレスポンス:
+   *
+   * <ul>
+   *   <li>400 Bad Request: バリデーションエラー（トークン未指定、件数超過）
+   *   <li>401 Unauthorized: クライアントシークレットが不正、または未設定
+   * </ul>
+   *
+   * @param secret クライアントシークレット
+   * @param request トークンイントロスペクションリクエスト
+   * @return HTTP 200と検証結果
+   * @see TokenIntrospectionService#introspect(java.util.List)
+   */
+  @PostMapping("/introspect")
+  public ResponseEntity<TokenIntrospectionResponse> introspect(
+      @RequestHeader(value = CLIENT_SECRET_HEADER, required = false) String secret,
+      @Valid @RequestBody TokenIntrospectionRequest request) {
+    if (!authenticated(secret)) {
+      throw new BadCredentialsException("Invalid introspection client secret");
+    }
+    return ResponseEntity.ok(
+        TokenIntrospectionResponse.builder()
+            .results(tokenIntrospectionService.introspect(request.getTokens()))
+            .build());
+  }
+
+  @ExceptionHandler(BadCredentialsException.class)
+  public ResponseEntity<Map<String, Object>> handleBadCredentials(BadCredentialsException ex) {
+    log.warn("Introspection rejected: {}", ex.getMessage());
+
+    Map<String, Object> errorResponse = new HashMap<>();
+    errorResponse.put("status", "error");
+    errorResponse.put("message", ex.getMessage());
+    errorResponse.put("timestamp", LocalDateTime.now());
+
+    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+  }
+
+  @ExceptionHandler(MethodArgumentNotValidException.class)
+  public ResponseEntity<Map<String, Object>> handleValidationExceptions(
+      MethodArgumentNotValidException ex) {
+    Map<String, Object> errorResponse = new HashMap<>();
+    errorResponse.put("status", "error");
+    errorResponse.put("message", "Validation failed");
+    errorResponse.put(
+        "errors",
+        ex.getBindingResult().getFieldErrors().stream()
+            .map(
+                error ->
+                    Map.of(
+                        "field",
+                        error.getField(),
+                        "message",
+                        error.getDefaultMessage() != null
+                            ? error.getDefaultMessage()
+                            : "Invalid value"))
+            .collect(Collectors.toList()));
+    errorResponse.put("timestamp", LocalDateTime.now());
+
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+  }
+
+  private boolean authenticated(String secret) {
+    return clientSecret.length > 0
+        && secret != null
+        && MessageDigest.isEqual(clientSecret, secret.getBytes(StandardCharsets.UTF_8));
+  }
+}
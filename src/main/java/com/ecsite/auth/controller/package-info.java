@@ -7,6 +7,7 @@
  *
  * <ul>
  *   <li>{@link com.ecsite.auth.controller.AuthController} - 認証関連エンドポイント（登録、ログイン、メール認証）
+ *   <li>{@link com.ecsite.auth.controller.JwkSetController} - トークン検証用の公開鍵セット
  * </ul>
  *
  * <p>提供するエンドポイント:
@@ -15,6 +16,7 @@
  *   <li>POST /api/v1/auth/register - ユーザー登録
  *   <li>POST /api/v1/auth/login - ログイン
  *   <li>POST /api/v1/auth/verify-email - メール認証
+ *   <li>GET /.well-known/jwks.json - 公開鍵セット（JWKS）
  * </ul>
  *
  * @since 1.0
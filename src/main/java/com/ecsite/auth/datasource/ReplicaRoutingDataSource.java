@@ -0,0 +1,236 @@
+package com.ecsite.auth.datasource;
+
+import com.ecsite.auth.scheduling.PeriodicTask;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 読み取り専用トランザクションをレプリカへ振り分けるDataSource
+ *
+ * <p>{@code @Transactional(readOnly = true)} のトランザクション（Spring
+ * Dataの参照メソッドを含む）はレプリカへ、それ以外はプライマリへ接続します。 接続先はトランザクション開始後に決まるため、{@link
+ * org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} で包んで使用してください。
+ *
+ * <p>各レプリカのレプリケーション遅延を {@code check-interval} ごとに計測し、{@code max-lag} 以内のレプリカのみをラウンドロビンで使用します。
+ * 遅延の計測に失敗したレプリカ、WALを受信していない（プライマリから切断された）ため遅延が不明なレプリカ、遅延が大きいレプリカは除外され、 使用できるレプリカがない場合はプライマリへ接続します。
+ * 遅延の判定には {@code pg_stat_wal_receiver} を参照するため、 接続ユーザーには {@code pg_monitor}（{@code
+ * pg_read_all_stats}）ロールが必要です。
+ *
+ * <p>書き込み直後の値を読む必要がある参照は {@link #onPrimary(Supplier)} でプライマリへ接続してください。
+ *
+ * <p>メトリクス:
+ *
+ * <ul>
+ *   <li>{@code datasource.replica.lag}: レプリカごとの遅延（秒、計測失敗時・不明時はNaN）
+ *   <li>{@code datasource.replica.available}: 使用可能なレプリカ数
+ *   <li>{@code datasource.replica.fallbacks}: 使用できるレプリカがなくプライマリへ接続した回数
+ * </ul>
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements PeriodicTask {
+
+  static final String PRIMARY = "primary";
+
+  // レプリカでない（リカバリー中でない）場合と、WALを受信中で受信済みWALをすべて適用済みの場合は遅延0とみなす。
+  // WAL受信プロセスが停止・切断している場合は最後に受信したLSNのまま止まり、受信済みと適用済みが一致して遅延0に見えるため、
+  // 遅延は不明（NULL）とする。最後に適用したトランザクションの日時が不明な場合もNULLとする。
+  // pg_stat_wal_receiverのstatusはpg_read_all_stats（pg_monitor）の権限がない場合NULLになり、不明として扱われる
+  static final String LAG_QUERY =
+      "SELECT CASE"
+          + " WHEN NOT pg_is_in_recovery() THEN 0"
+          + " WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming')"
+          + " THEN NULL"
+          + " WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+          + " ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())"
+          + " END";
+
+  private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+  private final Map<String, DataSource> replicas;
+  private final double maxLagSeconds;
+  private final Duration checkInterval;
+  private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+  private final AtomicInteger nextReplica = new AtomicInteger();
+  private final Counter fallbackCounter;
+
+  private volatile List<String> availableReplicas = List.of();
+
+  public ReplicaRoutingDataSource(
+      DataSource primary,
+      Map<String, DataSource> replicas,
+      Duration maxLag,
+      Duration checkInterval,
+      MeterRegistry meterRegistry) {
+    this.replicas = new LinkedHashMap<>(replicas);
+    this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+    this.checkInterval = checkInterval;
+
+    Map<Object, Object> targets = new HashMap<>(replicas);
+    targets.put(PRIMARY, primary);
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+    setLenientFallback(false);
+
+    replicas
+        .keySet()
+        .forEach(
+            name -> {
+              lagSeconds.put(name, Double.NaN);
+              Gauge.builder("datasource.replica.lag", lagSeconds, lags -> lags.get(name))
+                  .tag("replica", name)
+                  .baseUnit("seconds")
+                  .register(meterRegistry);
+            });
+    Gauge.builder("datasource.replica.available", this, ds -> ds.availableReplicas.size())
+        .register(meterRegistry);
+    this.fallbackCounter = meterRegistry.counter("datasource.replica.fallbacks");
+  }
+
+  /**
+   * 読み取り専用トランザクション内であってもプライマリへ接続して処理を実行します。
+   *
+   * @param action 処理
+   * @param <T> 戻り値の型
+   * @return 処理の戻り値
+   */
+  public static <T> T onPrimary(Supplier<T> action) {
+    Boolean previous = PRIMARY_ONLY.get();
+    PRIMARY_ONLY.set(Boolean.TRUE);
+    try {
+      return action.get();
+    } finally {
+      if (previous == null) {
+        PRIMARY_ONLY.remove();
+      } else {
+        PRIMARY_ONLY.set(previous);
+      }
+    }
+  }
+
+  /**
+   * 現在のスレッドが {@link #onPrimary(Supplier)} の処理中かを返します。
+   *
+   * @return プライマリへの接続が強制されている場合true
+   */
+  public static boolean isPrimaryOnly() {
+    return Boolean.TRUE.equals(PRIMARY_ONLY.get());
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (isPrimaryOnly() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return PRIMARY;
+    }
+    List<String> candidates = availableReplicas;
+    if (candidates.isEmpty()) {
+      fallbackCounter.increment();
+      return PRIMARY;
+    }
+    return candidates.get(Math.floorMod(nextReplica.getAndIncrement(), candidates.size()));
+  }
+
+  /** 各レプリカの遅延を計測し、使用するレプリカを更新します。 */
+  public void checkReplicas() {
+    List<String> available = new ArrayList<>(replicas.size());
+    replicas.forEach(
+        (name, dataSource) -> {
+          try {
+            double lag = measureLag(dataSource);
+            lagSeconds.put(name, lag);
+            if (Double.isNaN(lag)) {
+              log.warn(
+                  "Replica {} excluded: replication lag unknown "
+                      + "(WAL receiver not streaming, or missing pg_read_all_stats)",
+                  name);
+            } else if (lag <= maxLagSeconds) {
+              available.add(name);
+            } else {
+              log.warn("Replica {} excluded: replication lag {}s", name, lag);
+            }
+          } catch (SQLException e) {
+            lagSeconds.put(name, Double.NaN);
+            log.warn("Replica {} excluded: {}", name, e.getMessage());
+          }
+        });
+    availableReplicas = List.copyOf(available);
+  }
+
+  /**
+   * 使用可能なレプリカ名を返します。
+   *
+   * @return 使用可能なレプリカ名
+   */
+  public List<String> availableReplicas() {
+    return availableReplicas;
+  }
+
+  @Override
+  public String threadName() {
+    return "replica-lag-check";
+  }
+
+  @Override
+  public Duration interval() {
+    return checkInterval;
+  }
+
+  @Override
+  public Duration initialDelay() {
+    return Duration.ZERO;
+  }
+
+  @Override
+  public void runOnce() {
+    checkReplicas();
+  }
+
+  @Override
+  public void afterStop() {
+    availableReplicas = List.of();
+  }
+
+  /** レプリカの接続プールを閉じます。プライマリは閉じません。 */
+  public void close() {
+    replicas.values().stream()
+        .filter(AutoCloseable.class::isInstance)
+        .map(AutoCloseable.class::cast)
+        .forEach(
+            dataSource -> {
+              try {
+                dataSource.close();
+              } catch (Exception e) {
+                log.warn("Failed to close replica pool: {}", e.getMessage());
+              }
+            });
+  }
+
+  private double measureLag(DataSource dataSource) throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.setQueryTimeout((int) Math.max(1, checkInterval.toSeconds()));
+      try (ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+        resultSet.next();
+        double lag = resultSet.getDouble(1);
+        return resultSet.wasNull() ? Double.NaN : lag;
+      }
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.ecsite.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * トークンリフレッシュリクエストDTO
+ *
+ * <p>リフレッシュトークンを使用して新しいアクセストークンとリフレッシュトークンを発行する際のリクエストデータ。
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenRequest {
+
+  @NotBlank(message = "Refresh token is required")
+  private String refreshToken;
+}
@@ -0,0 +1,37 @@
+package com.ecsite.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * トークンイントロスペクションリクエストDTO
+ *
+ * <p>APIゲートウェイが複数のアクセストークンをまとめて検証する際のリクエストボディを表現する。
+ *
+ * <p>バリデーション:
+ *
+ * <ul>
+ *   <li>tokens: 必須、1件以上 {@value #MAX_TOKENS} 件以下、各要素は空でないこと
+ * </ul>
+ *
+ * @see TokenIntrospectionResponse
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenIntrospectionRequest {
+
+  /** 1リクエストで検証できるトークンの最大件数 */
+  public static final int MAX_TOKENS = 100;
+
+  @NotEmpty(message = "Tokens are required")
+  @Size(max = MAX_TOKENS, message = "At most " + MAX_TOKENS + " tokens can be introspected at once")
+  private List<@NotBlank(message = "Token must not be blank") String> tokens;
+}
@@ -0,0 +1,61 @@
+package com.ecsite.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+
+/**
+ * トークンイントロスペクションレスポンスDTO
+ *
+ * <p>リクエストのトークンと同じ順序で検証結果を返す。 トークンが無効な場合は {@code active=false} のみを返し、無効な理由は返さない。
+ *
+ * @see TokenIntrospectionRequest
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenIntrospectionResponse {
+
+  private List<Result> results;
+
+  /**
+   * トークン1件の検証結果
+   *
+   * <ul>
+   *   <li>active: トークンが有効な場合true（署名・有効期限・失効・ユーザーステータスを確認済み）
+   *   <li>sub: ユーザーID
+   *   <li>role: ロール
+   *   <li>jti: トークンID
+   *   <li>exp: 有効期限（エポック秒）
+   * </ul>
+   *
+   * <p>無効なトークンの検証結果は1つのインスタンスを共有するため、不変にしています。
+   */
+  @Value
+  @Builder
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public static class Result {
+
+    private static final Result INACTIVE = new Result(false, null, null, null, null);
+
+    boolean active;
+    String sub;
+    String role;
+    String jti;
+    Long exp;
+
+    /**
+     * 無効なトークンの検証結果を返します。
+     *
+     * @return {@code active=false} の検証結果（共有の不変インスタンス）
+     */
+    public static Result inactive() {
+      return INACTIVE;
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.ecsite.auth.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+/**
+ * 通知アウトボックスエンティティ
+ *
+ * <p>送信する通知を業務データと同じトランザクションで保存します。 行はコミット後に {@link
+ * com.ecsite.auth.notification.NotificationOutboxDispatcher} が配信し、配信できた時点で削除されます。
+ */
+@Entity
+@Table(name = "notification_outbox", schema = "auth_schema")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutbox {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.AUTO)
+  @Column(name = "id", updatable = false, nullable = false)
+  private UUID id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "type", nullable = false, updatable = false, length = 40)
+  private Type type;
+
+  @Column(name = "recipient", nullable = false, updatable = false, length = 100)
+  private String recipient;
+
+  @Column(name = "payload", nullable = false, updatable = false, columnDefinition = "TEXT")
+  private String payload;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false, length = 20)
+  @Builder.Default
+  private Status status = Status.PENDING;
+
+  @Column(name = "attempts", nullable = false)
+  @Builder.Default
+  private int attempts = 0;
+
+  @Column(name = "next_attempt_at", nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  @Column(name = "last_error", length = 500)
+  private String lastError;
+
+  @CreationTimestamp
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  /** 通知の種類 */
+  public enum Type {
+    /** メール認証 */
+    VERIFICATION_EMAIL,
+    /** パスワードリセット */
+    PASSWORD_RESET_EMAIL,
+    /** 退会確認 */
+    WITHDRAWAL_CONFIRMATION
+  }
+
+  /** 配信ステータス */
+  public enum Status {
+    /** 配信待ち（再試行待ちを含む） */
+    PENDING,
+    /** 再試行の上限に達し、配信を断念した */
+    FAILED
+  }
+}
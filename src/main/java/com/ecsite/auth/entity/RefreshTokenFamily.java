@@ -0,0 +1,84 @@
+package com.ecsite.auth.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+/**
+ * リフレッシュトークンファミリーエンティティ
+ *
+ * <p>1回のログインで発行されたリフレッシュトークンと、そのローテーションで発行された後続トークンを1つのファミリーとして管理します。
+ * トークンごとに行を持たず、ファミリーの先頭（現在有効なトークンのjti）のみを保持するため、 ローテーションしても行数は増えません。
+ * 先頭以外のjtiが提示された場合は再利用（トークン漏洩）とみなし、ファミリー全体を失効させます。
+ */
+@Entity
+@Table(name = "refresh_token_families", schema = "auth_schema")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenFamily {
+
+  /** 再利用検知による失効 */
+  public static final String REVOKED_REUSE_DETECTED = "REUSE_DETECTED";
+
+  /** ログアウトによる失効 */
+  public static final String REVOKED_LOGOUT = "LOGOUT";
+
+  /** パスワードリセットによる失効 */
+  public static final String REVOKED_PASSWORD_RESET = "PASSWORD_RESET";
+
+  /** 退会による失効 */
+  public static final String REVOKED_WITHDRAWN = "WITHDRAWN";
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.AUTO)
+  @Column(name = "id", updatable = false, nullable = false)
+  private UUID id;
+
+  @Column(name = "user_id", nullable = false, updatable = false)
+  private UUID userId;
+
+  @Column(name = "current_jti", nullable = false)
+  private UUID currentJti;
+
+  @Column(name = "generation", nullable = false)
+  private int generation;
+
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+
+  @Column(name = "revoked_at")
+  private LocalDateTime revokedAt;
+
+  @Column(name = "revoked_reason", length = 30)
+  private String revokedReason;
+
+  @CreationTimestamp
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  @UpdateTimestamp
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  /**
+   * ファミリーが失効済みかどうかを判定します。
+   *
+   * @return 失効済みの場合true
+   */
+  public boolean isRevoked() {
+    return revokedAt != null;
+  }
+}
@@ -0,0 +1,42 @@
+package com.ecsite.auth.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+/**
+ * 失効済みアクセストークンエンティティ
+ *
+ * <p>ログアウトなどで有効期限前に無効化したアクセストークンのjtiを保持します。 有効期限を過ぎたトークンは署名検証で拒否されるため、行は {@code expires_at}
+ * を過ぎた時点で不要になります。
+ */
+@Entity
+@Table(name = "revoked_access_tokens", schema = "auth_schema")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedAccessToken {
+
+  @Id
+  @Column(name = "jti", updatable = false, nullable = false)
+  private UUID jti;
+
+  @Column(name = "user_id", nullable = false, updatable = false)
+  private UUID userId;
+
+  @Column(name = "expires_at", nullable = false, updatable = false)
+  private LocalDateTime expiresAt;
+
+  @CreationTimestamp
+  @Column(name = "revoked_at", nullable = false, updatable = false)
+  private LocalDateTime revokedAt;
+}
@@ -73,7 +73,16 @@ public class User {
     INACTIVE,
     SUSPENDED,
     PENDING_DELETION,
-    DELETED
+    DELETED;
+
+    /**
+     * このステータスのユーザーが発行済みのアクセストークンで認証できるかを判定します。
+     *
+     * @return 退会処理中（PENDING_DELETION）・退会済み（DELETED）以外の場合true
+     */
+    public boolean acceptsAccessTokens() {
+      return this != PENDING_DELETION && this != DELETED;
+    }
   }
 
   public boolean isEmailVerified() {
@@ -0,0 +1,22 @@
+package com.ecsite.auth.exception;
+
+import java.time.Duration;
+
+/**
+ * ログイン試行回数の上限超過例外
+ *
+ * <p>メールアドレスまたは接続元IPアドレスがロックアウト中の場合にスローされます。 クライアントには {@code Retry-After} 付きの429を返します。
+ */
+public class LoginRateLimitedException extends RuntimeException {
+
+  private final Duration retryAfter;
+
+  public LoginRateLimitedException(String message, Duration retryAfter) {
+    super(message);
+    this.retryAfter = retryAfter;
+  }
+
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+}
@@ -0,0 +1,22 @@
+package com.ecsite.auth.exception;
+
+import java.time.Duration;
+
+/**
+ * パスワードハッシュ処理の受付上限超過例外
+ *
+ * <p>ハッシュ処理用スレッドプールのキューが満杯の場合にスローされます。 クライアントには {@code Retry-After} 付きの503を返します。
+ */
+public class PasswordHashingOverloadedException extends RuntimeException {
+
+  private final Duration retryAfter;
+
+  public PasswordHashingOverloadedException(String message, Duration retryAfter) {
+    super(message);
+    this.retryAfter = retryAfter;
+  }
+
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+}
@@ -0,0 +1,116 @@
+package com.ecsite.auth.notification;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 送信先の障害時に送信を止めるサーキットブレーカー
+ *
+ * <p>連続して {@code failureThreshold} 回失敗するとOPENになり、{@code openDuration} の間は送信を試みずに即座に失敗させます。
+ * 期間の経過後は1件だけ試行を許可し（HALF_OPEN）、成功すればCLOSEDへ戻り、失敗すれば再びOPENになります。
+ */
+public class CircuitBreaker {
+
+  /** 状態 */
+  public enum State {
+    /** 通常どおり送信する */
+    CLOSED,
+    /** 送信を止めている */
+    OPEN,
+    /** 回復を確認するため1件だけ送信している */
+    HALF_OPEN
+  }
+
+  private final int failureThreshold;
+  private final long openDurationNanos;
+  private final LongSupplier nanoClock;
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private long openedAtNanos;
+  private boolean trialInFlight;
+
+  /**
+   * サーキットブレーカーを作成します。
+   *
+   * @param failureThreshold OPENにする連続失敗回数
+   * @param openDuration OPENを維持する期間
+   */
+  public CircuitBreaker(int failureThreshold, Duration openDuration) {
+    this(failureThreshold, openDuration, System::nanoTime);
+  }
+
+  CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+    if (failureThreshold < 1) {
+      throw new IllegalArgumentException("failureThreshold must be positive");
+    }
+    this.failureThreshold = failureThreshold;
+    this.openDurationNanos = openDuration.toNanos();
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * 送信を試みてよいかを判定します。
+   *
+   * <p>trueを返した場合、呼び出し元は送信結果を {@link #onSuccess()} または {@link #onFailure()} で必ず通知してください。
+   *
+   * @return 送信してよい場合true
+   */
+  public synchronized boolean tryAcquire() {
+    halfOpenIfExpired();
+    if (state == State.HALF_OPEN) {
+      if (trialInFlight) {
+        return false;
+      }
+      trialInFlight = true;
+      return true;
+    }
+    return state == State.CLOSED;
+  }
+
+  /**
+   * 送信要求を受け付けてよいかを判定します。
+   *
+   * <p>OPENの期間が経過していればHALF_OPENにします。 {@link #tryAcquire()} と異なり試行の枠は確保しないため、
+   * 送信待ちキューへの追加可否の判定に使用します。
+   *
+   * @return OPENの期間中でなければtrue
+   */
+  public synchronized boolean allowsRequests() {
+    halfOpenIfExpired();
+    return state != State.OPEN;
+  }
+
+  private void halfOpenIfExpired() {
+    if (state == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= openDurationNanos) {
+      state = State.HALF_OPEN;
+      trialInFlight = false;
+    }
+  }
+
+  /** 送信の成功を記録します。 */
+  public synchronized void onSuccess() {
+    consecutiveFailures = 0;
+    trialInFlight = false;
+    state = State.CLOSED;
+  }
+
+  /** 送信の失敗を記録します。 */
+  public synchronized void onFailure() {
+    consecutiveFailures++;
+    if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+      state = State.OPEN;
+      openedAtNanos = nanoClock.getAsLong();
+      trialInFlight = false;
+    }
+  }
+
+  /**
+   * 現在の状態を返します。
+   *
+   * @return 状態
+   */
+  public synchronized State state() {
+    return state;
+  }
+}
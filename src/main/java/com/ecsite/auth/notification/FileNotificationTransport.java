@@ -0,0 +1,65 @@
+package com.ecsite.auth.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 通知をファイルに追記する送信手段
+ *
+ * <p>{@code notification.transport.mode=file} で有効になり、通知を1件1行のJSON（JSON Lines）として {@code
+ * notification.transport.file.path} に追記します。 外部のメール基盤なしで配信内容を確認するローカル環境・結合試験向けです。
+ */
+@Component
+@ConditionalOnProperty(name = "notification.transport.mode", havingValue = "file")
+@Slf4j
+public class FileNotificationTransport implements NotificationTransport {
+
+  private final ObjectMapper objectMapper;
+  private final Path path;
+
+  public FileNotificationTransport(
+      ObjectMapper objectMapper,
+      @Value("${notification.transport.file.path:notifications.jsonl}") String path) {
+    this.objectMapper = objectMapper;
+    this.path = Path.of(path).toAbsolutePath();
+    try {
+      if (this.path.getParent() != null) {
+        Files.createDirectories(this.path.getParent());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to create notification directory for " + path, e);
+    }
+    log.info("Writing notifications to {}", this.path);
+  }
+
+  @Override
+  public CompletableFuture<Void> send(NotificationMessage message) {
+    Map<String, Object> line = new LinkedHashMap<>();
+    line.put("id", message.id());
+    line.put("type", message.type());
+    line.put("recipient", message.recipient());
+    line.put("parameters", message.parameters());
+    try {
+      byte[] json = (objectMapper.writeValueAsString(line) + "\n").getBytes(StandardCharsets.UTF_8);
+      // 複数スレッドからの追記で行が混ざらないよう、1行ずつ書き込む
+      synchronized (this) {
+        Files.write(path, json, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+      }
+      return CompletableFuture.completedFuture(null);
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+}
@@ -0,0 +1,273 @@
+package com.ecsite.auth.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Notification ServiceへHTTPで非同期に送信する送信手段
+ *
+ * <p>{@code notification.transport.mode=http} で有効になります。 {@link #send(NotificationMessage)}
+ * は通知を送信待ちキューへ追加するのみで、呼び出し元をブロックしません。 キューの通知は最大 {@code max-batch-size} 件ずつ1回のバルクリクエスト（{@code POST
+ * url}）にまとめて送信し、 件数が揃わない場合も最初の通知の追加から {@code linger} 後に送信します。 同時に送信中のリクエストは {@code max-in-flight}
+ * 件までで、上限に達している間はキューで待機します。
+ *
+ * <p>リクエストボディは {@code {"notifications":[{"id":...,"type":...,"recipient":...,"parameters":{...}}]}}
+ * 形式で、2xx応答でバルクリクエスト内の全通知を送信済みとします。 接続エラー・タイムアウト・5xx応答が {@code circuit-breaker.failure-threshold}
+ * 回続くと {@link CircuitBreaker} がOPENになり、 {@code circuit-breaker.open-duration}
+ * の間は送信せずに即座に失敗させます（アウトボックスの通知は再送間隔を空けて再送されます）。 期間の経過後に受け付けた通知は1回のバルクリクエストで試行し、 成功すれば送信を再開します。 キューが
+ * {@code queue-capacity} 件に達している場合も即座に失敗させます。
+ *
+ * <p>メトリクス:
+ *
+ * <ul>
+ *   <li>{@code notification.http.requests}: バルクリクエストの応答時間（{@code outcome} タグ付き）
+ *   <li>{@code notification.http.batch-size}: バルクリクエストあたりの通知数
+ *   <li>{@code notification.http.in-flight} / {@code notification.http.queued}: 送信中のリクエスト数と送信待ちの通知数
+ *   <li>{@code notification.http.rejected}: キュー満杯またはサーキットブレーカーにより即座に失敗させた通知数
+ *   <li>{@code notification.http.circuit-breaker.open}: サーキットブレーカーがOPEN（HALF_OPENを含む）の場合1
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "notification.transport.mode", havingValue = "http")
+@Slf4j
+public class HttpNotificationTransport implements NotificationTransport, DisposableBean {
+
+  private final HttpClient httpClient;
+  private final ObjectMapper objectMapper;
+  private final URI uri;
+  private final int maxBatchSize;
+  private final Duration linger;
+  private final Duration requestTimeout;
+  private final int queueCapacity;
+  private final int maxInFlight;
+  private final Semaphore inFlight;
+  private final CircuitBreaker circuitBreaker;
+  private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger queued = new AtomicInteger();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  private final ScheduledExecutorService flusher;
+  private final Timer.Builder requestTimer;
+  private final MeterRegistry meterRegistry;
+  private final DistributionSummary batchSizeSummary;
+  private final Counter rejectedCounter;
+
+  public HttpNotificationTransport(
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${notification.transport.http.url}") String url,
+      @Value("${notification.transport.http.max-in-flight:8}") int maxInFlight,
+      @Value("${notification.transport.http.max-batch-size:50}") int maxBatchSize,
+      @Value("${notification.transport.http.linger:20ms}") Duration linger,
+      @Value("${notification.transport.http.connect-timeout:2s}") Duration connectTimeout,
+      @Value("${notification.transport.http.request-timeout:10s}") Duration requestTimeout,
+      @Value("${notification.transport.http.queue-capacity:10000}") int queueCapacity,
+      @Value("${notification.transport.http.circuit-breaker.failure-threshold:5}")
+          int failureThreshold,
+      @Value("${notification.transport.http.circuit-breaker.open-duration:30s}")
+          Duration openDuration) {
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.uri = URI.create(url);
+    this.maxInFlight = maxInFlight;
+    this.maxBatchSize = maxBatchSize;
+    this.linger = linger;
+    this.requestTimeout = requestTimeout;
+    this.queueCapacity = queueCapacity;
+    this.inFlight = new Semaphore(maxInFlight);
+    this.circuitBreaker = new CircuitBreaker(failureThreshold, openDuration);
+    this.flusher =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread thread = new Thread(r, "notification-http-flusher");
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.httpClient =
+        HttpClient.newBuilder().connectTimeout(connectTimeout).executor(flusher).build();
+    this.requestTimer = Timer.builder("notification.http.requests").publishPercentileHistogram();
+    this.batchSizeSummary = meterRegistry.summary("notification.http.batch-size");
+    this.rejectedCounter = meterRegistry.counter("notification.http.rejected");
+    Gauge.builder(
+            "notification.http.in-flight", this, t -> t.maxInFlight - t.inFlight.availablePermits())
+        .register(meterRegistry);
+    Gauge.builder("notification.http.queued", queued, AtomicInteger::get).register(meterRegistry);
+    Gauge.builder(
+            "notification.http.circuit-breaker.open",
+            circuitBreaker,
+            cb -> cb.state() == CircuitBreaker.State.CLOSED ? 0 : 1)
+        .register(meterRegistry);
+    log.info(
+        "Sending notifications to {} (max in-flight {}, batch size {})",
+        uri,
+        maxInFlight,
+        maxBatchSize);
+  }
+
+  @Override
+  public CompletableFuture<Void> send(NotificationMessage message) {
+    if (!circuitBreaker.allowsRequests()) {
+      rejectedCounter.increment();
+      return CompletableFuture.failedFuture(
+          new IllegalStateException("Notification backend circuit breaker is open"));
+    }
+    if (queued.incrementAndGet() > queueCapacity) {
+      queued.decrementAndGet();
+      rejectedCounter.increment();
+      return CompletableFuture.failedFuture(
+          new IllegalStateException("Notification send queue is full"));
+    }
+    Pending pending = new Pending(message, new CompletableFuture<>());
+    queue.add(pending);
+    if (queued.get() >= maxBatchSize) {
+      flusher.execute(this::flush);
+    } else if (flushScheduled.compareAndSet(false, true)) {
+      flusher.schedule(this::flush, linger.toNanos(), TimeUnit.NANOSECONDS);
+    }
+    return pending.future();
+  }
+
+  /** 送信待ちの通知を、送信中のリクエスト数の上限までバルクリクエストにまとめて送信します。 */
+  private void flush() {
+    flushScheduled.set(false);
+    while (!queue.isEmpty() && inFlight.tryAcquire()) {
+      if (!circuitBreaker.tryAcquire()) {
+        inFlight.release();
+        // HALF_OPENで試行中の場合は、試行の完了時に送信するか失敗させる
+        if (circuitBreaker.state() == CircuitBreaker.State.OPEN) {
+          failQueued();
+        }
+        return;
+      }
+      List<Pending> batch = new ArrayList<>(maxBatchSize);
+      Pending pending;
+      while (batch.size() < maxBatchSize && (pending = queue.poll()) != null) {
+        batch.add(pending);
+      }
+      queued.addAndGet(-batch.size());
+      post(batch);
+    }
+    // 上限に達して残った通知は、送信中のリクエストの完了時に送信する
+  }
+
+  private void post(List<Pending> batch) {
+    HttpRequest request;
+    try {
+      request =
+          HttpRequest.newBuilder(uri)
+              .timeout(requestTimeout)
+              .header("Content-Type", "application/json")
+              .POST(HttpRequest.BodyPublishers.ofString(body(batch)))
+              .build();
+    } catch (JsonProcessingException e) {
+      complete(batch, 0, e);
+      return;
+    }
+    batchSizeSummary.record(batch.size());
+    long startNanos = System.nanoTime();
+    httpClient
+        .sendAsync(request, HttpResponse.BodyHandlers.discarding())
+        .whenComplete(
+            (response, error) -> {
+              long elapsed = System.nanoTime() - startNanos;
+              int status = response == null ? 0 : response.statusCode();
+              requestTimer
+                  .tag("outcome", error != null ? "ERROR" : String.valueOf(status / 100) + "xx")
+                  .register(meterRegistry)
+                  .record(elapsed, TimeUnit.NANOSECONDS);
+              complete(batch, status, error);
+            });
+  }
+
+  private void complete(List<Pending> batch, int status, Throwable error) {
+    boolean success = error == null && status / 100 == 2;
+    // 4xxは送信先が正常に応答しているため、サーキットブレーカーの失敗に数えない
+    if (success || (error == null && status / 100 == 4)) {
+      circuitBreaker.onSuccess();
+    } else {
+      circuitBreaker.onFailure();
+    }
+    inFlight.release();
+    Throwable failure =
+        success ? null : error != null ? error : new IllegalStateException("HTTP " + status);
+    for (Pending pending : batch) {
+      if (failure == null) {
+        pending.future().complete(null);
+      } else {
+        pending.future().completeExceptionally(failure);
+      }
+    }
+    if (!queue.isEmpty()) {
+      flusher.execute(this::flush);
+    }
+  }
+
+  private void failQueued() {
+    Pending pending;
+    while ((pending = queue.poll()) != null) {
+      queued.decrementAndGet();
+      rejectedCounter.increment();
+      pending
+          .future()
+          .completeExceptionally(
+              new IllegalStateException("Notification backend circuit breaker is open"));
+    }
+  }
+
+  private String body(List<Pending> batch) throws JsonProcessingException {
+    List<Map<String, Object>> notifications = new ArrayList<>(batch.size());
+    for (Pending pending : batch) {
+      NotificationMessage message = pending.message();
+      Map<String, Object> notification = new LinkedHashMap<>();
+      notification.put("id", message.id());
+      notification.put("type", message.type());
+      notification.put("recipient", message.recipient());
+      notification.put("parameters", message.parameters());
+      notifications.add(notification);
+    }
+    return objectMapper.writeValueAsString(Map.of("notifications", notifications));
+  }
+
+  /**
+   * サーキットブレーカーの状態を返します。
+   *
+   * @return 状態
+   */
+  public CircuitBreaker.State circuitBreakerState() {
+    return circuitBreaker.state();
+  }
+
+  @Override
+  public void destroy() {
+    flusher.shutdownNow();
+  }
+
+  private record Pending(NotificationMessage message, CompletableFuture<Void> future) {}
+}
@@ -0,0 +1,52 @@
+package com.ecsite.auth.notification;
+
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 通知をログに出力する送信手段
+ *
+ * <p>{@code notification.transport.mode=log}（既定）で有効になります。 Notification Serviceとの連携前の開発環境向けで、
+ * 認証URLなどをログから確認できます。
+ */
+@Component
+@ConditionalOnProperty(
+    name = "notification.transport.mode",
+    havingValue = "log",
+    matchIfMissing = true)
+@Slf4j
+public class LogNotificationTransport implements NotificationTransport {
+
+  @Override
+  public CompletableFuture<Void> send(NotificationMessage message) {
+    String recipient = message.recipient();
+    switch (message.type()) {
+      case VERIFICATION_EMAIL -> {
+        String token = message.parameters().get("token");
+        log.info("Sending verification email to: {}", recipient);
+        log.info("Verification token: {}", token);
+        log.info(
+            "Verification URL: http://localhost:8081/api/v1/auth/verify-email?token={}", token);
+      }
+      case PASSWORD_RESET_EMAIL -> {
+        String token = message.parameters().get("token");
+        log.info("Sending password reset email to: {}", recipient);
+        log.info("Password reset token: {}", token);
+        log.info(
+            "Password reset URL: http://localhost:8081/api/v1/auth/reset-password?token={}", token);
+      }
+      case WITHDRAWAL_CONFIRMATION -> {
+        log.info("Sending withdrawal confirmation email to: {}", recipient);
+        log.info(
+            "Account will be permanently deleted at: {}",
+            message.parameters().get("scheduledDeletionAt"));
+        log.info(
+            "If you did not request this, please contact support immediately at"
+                + " support@example.com");
+      }
+    }
+    return CompletableFuture.completedFuture(null);
+  }
+}
@@ -0,0 +1,16 @@
+package com.ecsite.auth.notification;
+
+import com.ecsite.auth.entity.NotificationOutbox;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 配信する通知
+ *
+ * @param id 通知ID（再送時も同じ値。送信先での重複排除に使用できる）
+ * @param type 通知の種類
+ * @param recipient 送信先メールアドレス
+ * @param parameters 通知のパラメーター（トークンなど）
+ */
+public record NotificationMessage(
+    UUID id, NotificationOutbox.Type type, String recipient, Map<String, String> parameters) {}
@@ -0,0 +1,333 @@
+package com.ecsite.auth.notification;
+
+import com.ecsite.auth.entity.NotificationOutbox;
+import com.ecsite.auth.scheduling.PeriodicTask;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 通知アウトボックスの配信処理
+ *
+ * <p>専用スレッドが {@code notification.outbox.poll-interval} ごとに配信待ちの通知を最大 {@code batch-size} 件取得し、{@link
+ * NotificationTransport} で送信します。 取得は {@code FOR UPDATE SKIP LOCKED} で行い、取得した行の {@code
+ * next_attempt_at} を {@code lease} 後へ進めてすぐにコミットするため、
+ * 複数ノードが同時に動作しても同じ通知を重複して取得せず、送信中にDB接続や行ロックを保持しません。 送信中にノードが停止した場合、その通知はリース期限の経過後に他のノードが再送します。
+ *
+ * <p>送信できた通知は削除し、失敗した通知は試行回数に応じて {@code initial-backoff} から倍々に（最大 {@code max-backoff}）間隔を空けて再送します。
+ * {@code max-attempts} 回失敗した通知はステータスをFAILEDにして再送を止め、{@code failed-retention} の経過後に {@link
+ * com.ecsite.auth.service.ExpiredTokenReaper} が削除します。 配信は少なくとも1回（at-least-once）のため、 送信先では {@link
+ * NotificationMessage#id()} で重複を排除してください。
+ *
+ * <p>メトリクス:
+ *
+ * <ul>
+ *   <li>{@code notification.outbox.sent}: 送信できた通知数（{@code type} タグ付き）
+ *   <li>{@code notification.outbox.retried}: 再送を予定した通知数
+ *   <li>{@code notification.outbox.failed}: 再送を断念した通知数
+ *   <li>{@code notification.outbox.delay}: 通知の保存から送信完了までの時間
+ *   <li>{@code notification.outbox.dispatch.failures}: DBエラーで配信処理が中断した回数
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(
+    name = "notification.outbox.dispatcher.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+@Slf4j
+public class NotificationOutboxDispatcher implements PeriodicTask {
+
+  static final int MAX_ERROR_LENGTH = 500;
+
+  private static final TypeReference<Map<String, String>> PARAMETERS_TYPE =
+      new TypeReference<>() {};
+
+  private static final String CLAIM_SQL =
+      "UPDATE auth_schema.notification_outbox o SET attempts = o.attempts + 1, next_attempt_at = ? "
+          + "WHERE o.id IN (SELECT id FROM auth_schema.notification_outbox "
+          + "WHERE status = 'PENDING' AND next_attempt_at <= ? "
+          + "ORDER BY next_attempt_at LIMIT ? FOR UPDATE SKIP LOCKED) "
+          + "RETURNING o.id, o.type, o.recipient, o.payload, o.attempts, o.created_at";
+
+  private static final String DELETE_SQL =
+      "DELETE FROM auth_schema.notification_outbox WHERE id = ?";
+
+  private static final String RESCHEDULE_SQL =
+      "UPDATE auth_schema.notification_outbox "
+          + "SET status = ?, next_attempt_at = ?, last_error = ? WHERE id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NotificationTransport transport;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final int batchSize;
+  private final Duration pollInterval;
+  private final Duration lease;
+  private final Duration sendTimeout;
+  private final int maxAttempts;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+  private final Counter retriedCounter;
+  private final Counter failedCounter;
+  private final Counter dispatchFailureCounter;
+  private final Timer delayTimer;
+  private final Object dispatchLock = new Object();
+
+  private volatile boolean stopping;
+
+  public NotificationOutboxDispatcher(
+      JdbcTemplate jdbcTemplate,
+      NotificationTransport transport,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${notification.outbox.batch-size:100}") int batchSize,
+      @Value("${notification.outbox.poll-interval:1s}") Duration pollInterval,
+      @Value("${notification.outbox.lease:2m}") Duration lease,
+      @Value("${notification.outbox.send-timeout:30s}") Duration sendTimeout,
+      @Value("${notification.outbox.max-attempts:10}") int maxAttempts,
+      @Value("${notification.outbox.initial-backoff:10s}") Duration initialBackoff,
+      @Value("${notification.outbox.max-backoff:1h}") Duration maxBackoff) {
+    if (sendTimeout.compareTo(lease) >= 0) {
+      throw new IllegalArgumentException(
+          "notification.outbox.send-timeout must be shorter than notification.outbox.lease");
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.transport = transport;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.batchSize = batchSize;
+    this.pollInterval = pollInterval;
+    this.lease = lease;
+    this.sendTimeout = sendTimeout;
+    this.maxAttempts = maxAttempts;
+    this.initialBackoff = initialBackoff;
+    this.maxBackoff = maxBackoff;
+    this.retriedCounter = meterRegistry.counter("notification.outbox.retried");
+    this.failedCounter = meterRegistry.counter("notification.outbox.failed");
+    this.dispatchFailureCounter = meterRegistry.counter("notification.outbox.dispatch.failures");
+    this.delayTimer = meterRegistry.timer("notification.outbox.delay");
+  }
+
+  /**
+   * 配信待ちの通知を1バッチ分取得して送信し、結果をアウトボックスへ反映します。
+   *
+   * <p>通常は専用スレッドから呼び出されます。
+   *
+   * @return 取得した通知の件数
+   */
+  public int dispatch() {
+    synchronized (dispatchLock) {
+      LocalDateTime now = LocalDateTime.now();
+      List<ClaimedRow> claimed =
+          jdbcTemplate.query(
+              CLAIM_SQL,
+              (rs, rowNum) -> claimedRow(rs),
+              Timestamp.valueOf(now.plus(lease)),
+              Timestamp.valueOf(now),
+              batchSize);
+      if (claimed.isEmpty()) {
+        return 0;
+      }
+
+      List<CompletableFuture<Void>> futures = new ArrayList<>(claimed.size());
+      for (ClaimedRow row : claimed) {
+        futures.add(send(row));
+      }
+
+      List<Object[]> delivered = new ArrayList<>();
+      List<Object[]> rescheduled = new ArrayList<>();
+      long deadline = System.nanoTime() + sendTimeout.toNanos();
+      for (int i = 0; i < claimed.size(); i++) {
+        ClaimedRow row = claimed.get(i);
+        Throwable error = await(futures.get(i), deadline);
+        if (error == null) {
+          delivered.add(new Object[] {row.id()});
+          meterRegistry.counter("notification.outbox.sent", "type", row.type()).increment();
+          delayTimer.record(Duration.between(row.createdAt(), LocalDateTime.now()));
+        } else {
+          rescheduled.add(reschedule(row, error));
+        }
+      }
+      if (!delivered.isEmpty()) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, delivered);
+      }
+      if (!rescheduled.isEmpty()) {
+        jdbcTemplate.batchUpdate(RESCHEDULE_SQL, rescheduled);
+      }
+      return claimed.size();
+    }
+  }
+
+  /**
+   * 再送までの待ち時間を返します。
+   *
+   * @param attempts 失敗した試行を含む試行回数（1以上）
+   * @param initialBackoff 初回の待ち時間
+   * @param maxBackoff 待ち時間の上限
+   * @return {@code initialBackoff * 2^(attempts - 1)}（上限 {@code maxBackoff}）
+   */
+  static Duration backoff(int attempts, Duration initialBackoff, Duration maxBackoff) {
+    int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+    long millis = initialBackoff.toMillis() << exponent;
+    return millis < 0 || millis > maxBackoff.toMillis() ? maxBackoff : Duration.ofMillis(millis);
+  }
+
+  private CompletableFuture<Void> send(ClaimedRow row) {
+    NotificationMessage message;
+    try {
+      message =
+          new NotificationMessage(
+              row.id(),
+              NotificationOutbox.Type.valueOf(row.type()),
+              row.recipient(),
+              objectMapper.readValue(row.payload(), PARAMETERS_TYPE));
+    } catch (JsonProcessingException | IllegalArgumentException e) {
+      return CompletableFuture.failedFuture(new MalformedNotificationException(e));
+    }
+    try {
+      return transport.send(message);
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private static Throwable await(CompletableFuture<Void> future, long deadlineNanos) {
+    try {
+      future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+      return null;
+    } catch (ExecutionException e) {
+      return e.getCause();
+    } catch (TimeoutException e) {
+      return e;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return e;
+    }
+  }
+
+  private Object[] reschedule(ClaimedRow row, Throwable error) {
+    String message = error.getClass().getSimpleName() + ": " + error.getMessage();
+    if (message.length() > MAX_ERROR_LENGTH) {
+      message = message.substring(0, MAX_ERROR_LENGTH);
+    }
+    if (error instanceof MalformedNotificationException || row.attempts() >= maxAttempts) {
+      failedCounter.increment();
+      log.error(
+          "Giving up notification {} ({}) after {} attempts: {}",
+          row.id(),
+          row.type(),
+          row.attempts(),
+          message);
+      return new Object[] {
+        NotificationOutbox.Status.FAILED.name(),
+        Timestamp.valueOf(LocalDateTime.now()),
+        message,
+        row.id()
+      };
+    }
+    retriedCounter.increment();
+    Duration delay = backoff(row.attempts(), initialBackoff, maxBackoff);
+    log.warn(
+        "Notification {} ({}) failed on attempt {}, retrying in {}: {}",
+        row.id(),
+        row.type(),
+        row.attempts(),
+        delay,
+        message);
+    return new Object[] {
+      NotificationOutbox.Status.PENDING.name(),
+      Timestamp.valueOf(LocalDateTime.now().plus(delay)),
+      message,
+      row.id()
+    };
+  }
+
+  private void poll() {
+    try {
+      // バッチが埋まっている間は待たずに続けて取得する
+      while (!stopping && dispatch() >= batchSize) {
+        log.debug("Notification outbox backlog remains, dispatching next batch");
+      }
+    } catch (DataAccessException e) {
+      dispatchFailureCounter.increment();
+      log.warn("Failed to dispatch notification outbox: {}", e.getMessage());
+    }
+  }
+
+  @Override
+  public String threadName() {
+    return "notification-outbox-dispatcher";
+  }
+
+  @Override
+  public Duration interval() {
+    return pollInterval;
+  }
+
+  @Override
+  public void runOnce() {
+    poll();
+  }
+
+  @Override
+  public void beforeStop() {
+    // 取得済みのバッチを送信し終えたら、配信待ちが残っていても次のバッチを取得しない
+    stopping = true;
+  }
+
+  @Override
+  public Duration stopTimeout() {
+    // 送信中のバッチの結果を反映してから停止する
+    return sendTimeout;
+  }
+
+  private static ClaimedRow claimedRow(ResultSet rs) throws SQLException {
+    return new ClaimedRow(
+        rs.getObject("id", UUID.class),
+        rs.getString("type"),
+        rs.getString("recipient"),
+        rs.getString("payload"),
+        rs.getInt("attempts"),
+        rs.getTimestamp("created_at").toLocalDateTime());
+  }
+
+  private record ClaimedRow(
+      UUID id,
+      String type,
+      String recipient,
+      String payload,
+      int attempts,
+      LocalDateTime createdAt) {}
+
+  /** 保存内容を解釈できず、再送しても配信できない通知 */
+  private static final class MalformedNotificationException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    MalformedNotificationException(Throwable cause) {
+      super("Malformed notification: " + cause.getMessage(), cause);
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.ecsite.auth.notification;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 通知の送信手段
+ *
+ * <p>{@code notification.transport.mode} で実装を選択します。 {@link NotificationOutboxDispatcher}
+ * はアウトボックスから取得した通知をまとめて渡し、返されたFutureの完了を待って配信結果をアウトボックスへ反映します。
+ * 同じ通知が再送される場合があるため（送信後、結果の反映前にノードが停止した場合など）、送信先では {@link NotificationMessage#id()} で重複を排除してください。
+ */
+public interface NotificationTransport {
+
+  /**
+   * 通知を送信します。
+   *
+   * @param message 通知
+   * @return 送信が完了した時点で完了するFuture。送信に失敗した場合は例外で完了する
+   */
+  CompletableFuture<Void> send(NotificationMessage message);
+}
@@ -0,0 +1,26 @@
+package com.ecsite.auth.ratelimit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * ノード内のみで完結するログイン失敗回数ストア
+ *
+ * <p>単一ノード構成やH2を使用するテスト環境向けです。 {@code rate-limit.mode=local} で有効になり、 失敗回数は {@link LoginRateLimiter}
+ * のプロセス内カウンターのみで判定します。
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.mode", havingValue = "local")
+public class LocalLoginAttemptStore implements LoginAttemptStore {
+
+  @Override
+  public void recordFailure(String key) {}
+
+  @Override
+  public long globalCount(String key) {
+    return 0;
+  }
+
+  @Override
+  public void reset(String key) {}
+}
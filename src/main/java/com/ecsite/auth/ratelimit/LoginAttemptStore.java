@@ -0,0 +1,32 @@
+package com.ecsite.auth.ratelimit;
+
+/**
+ * ログイン失敗回数のクラスタ共有ストア
+ *
+ * <p>各ノードの {@link LoginRateLimiter} は自ノードの失敗回数をプロセス内で数えたうえで、このストアを通じて全ノード合計の失敗回数を参照します。
+ * ログイン処理のたびにネットワークアクセスが発生しないよう、実装は記録と参照のいずれも呼び出し元をブロックしてはいけません。
+ */
+public interface LoginAttemptStore {
+
+  /**
+   * ログイン失敗を1件記録します。
+   *
+   * @param key レート制限キー
+   */
+  void recordFailure(String key);
+
+  /**
+   * 直近で取得した全ノード合計のウィンドウ内失敗回数を返します。
+   *
+   * @param key レート制限キー
+   * @return 全ノード合計の失敗回数（未取得の場合は0）
+   */
+  long globalCount(String key);
+
+  /**
+   * キーの失敗回数を全ノードで解除します。
+   *
+   * @param key レート制限キー
+   */
+  void reset(String key);
+}
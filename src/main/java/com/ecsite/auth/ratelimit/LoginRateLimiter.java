@@ -0,0 +1,151 @@
+package com.ecsite.auth.ratelimit;
+
+import com.ecsite.auth.exception.LoginRateLimitedException;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * ログイン試行のレートリミッター
+ *
+ * <p>ログイン失敗回数をメールアドレス単位と接続元IPアドレス単位のスライディングウィンドウで数え、 上限に達したキーを一定時間ロックアウトします。
+ * 判定はDB検索やパスワードハッシュ照合の前に行うため、クレデンシャルスタッフィング攻撃でもBCryptのCPUを消費しません。
+ *
+ * <p>失敗回数は {@link LoginAttemptStore} を通じて全ノードで共有するため、攻撃を複数ノードへ分散しても上限は全ノード合計に適用されます。
+ *
+ * <p>ログイン成功時はメールアドレスのカウンターのみを解除します。IPアドレスのカウンターは、攻撃者が自身のアカウントで
+ * ログインしてカウンターを解除できないよう、ウィンドウの経過でのみ減少します。
+ */
+@Component
+@Slf4j
+public class LoginRateLimiter {
+
+  static final String LOCKED_MESSAGE = "Too many failed login attempts. Please retry later.";
+
+  private final boolean enabled;
+  private final SlidingWindowRateLimiter emailLimiter;
+  private final SlidingWindowRateLimiter ipLimiter;
+  private final Counter emailRejectedCounter;
+  private final Counter ipRejectedCounter;
+
+  @Autowired
+  public LoginRateLimiter(
+      LoginAttemptStore loginAttemptStore,
+      MeterRegistry meterRegistry,
+      @Value("${rate-limit.enabled:true}") boolean enabled,
+      @Value("${rate-limit.login-attempts:5}") int loginAttempts,
+      @Value("${rate-limit.ip-login-attempts:50}") int ipLoginAttempts,
+      @Value("${rate-limit.window:5m}") Duration window,
+      @Value("${rate-limit.lockout-duration:5m}") Duration lockoutDuration,
+      @Value("${rate-limit.maximum-keys:100000}") long maximumKeys) {
+    this(
+        loginAttemptStore,
+        meterRegistry,
+        enabled,
+        loginAttempts,
+        ipLoginAttempts,
+        window,
+        lockoutDuration,
+        maximumKeys,
+        Ticker.systemTicker());
+  }
+
+  LoginRateLimiter(
+      LoginAttemptStore loginAttemptStore,
+      MeterRegistry meterRegistry,
+      boolean enabled,
+      int loginAttempts,
+      int ipLoginAttempts,
+      Duration window,
+      Duration lockoutDuration,
+      long maximumKeys,
+      Ticker ticker) {
+    this.enabled = enabled;
+    this.emailLimiter =
+        new SlidingWindowRateLimiter(
+            "email",
+            loginAttempts,
+            window,
+            lockoutDuration,
+            maximumKeys,
+            ticker,
+            loginAttemptStore,
+            meterRegistry);
+    this.ipLimiter =
+        new SlidingWindowRateLimiter(
+            "ip",
+            ipLoginAttempts,
+            window,
+            lockoutDuration,
+            maximumKeys,
+            ticker,
+            loginAttemptStore,
+            meterRegistry);
+    this.emailRejectedCounter =
+        meterRegistry.counter("login.rate-limit.rejected", "dimension", "email");
+    this.ipRejectedCounter = meterRegistry.counter("login.rate-limit.rejected", "dimension", "ip");
+  }
+
+  /**
+   * メールアドレスまたはIPアドレスがロックアウト中でないことを確認します。
+   *
+   * @param email メールアドレス
+   * @param clientIp 接続元IPアドレス
+   * @throws LoginRateLimitedException いずれかがロックアウト中の場合
+   */
+  public void checkAllowed(String email, String clientIp) {
+    if (!enabled) {
+      return;
+    }
+    Duration emailLockout = emailLimiter.remainingLockout(normalize(email));
+    if (!emailLockout.isZero()) {
+      emailRejectedCounter.increment();
+      throw new LoginRateLimitedException(LOCKED_MESSAGE, emailLockout);
+    }
+    Duration ipLockout = ipLimiter.remainingLockout(clientIp);
+    if (!ipLockout.isZero()) {
+      ipRejectedCounter.increment();
+      throw new LoginRateLimitedException(LOCKED_MESSAGE, ipLockout);
+    }
+  }
+
+  /**
+   * ログイン失敗を記録します。
+   *
+   * @param email メールアドレス
+   * @param clientIp 接続元IPアドレス
+   */
+  public void recordFailure(String email, String clientIp) {
+    if (!enabled) {
+      return;
+    }
+    if (emailLimiter.recordFailure(normalize(email))) {
+      log.warn("Login locked out for email: {}", email);
+    }
+    if (ipLimiter.recordFailure(clientIp)) {
+      log.warn("Login locked out for IP address: {}", clientIp);
+    }
+  }
+
+  /**
+   * ログイン成功時にメールアドレスの失敗回数を解除します。
+   *
+   * @param email メールアドレス
+   */
+  public void recordSuccess(String email) {
+    if (!enabled) {
+      return;
+    }
+    emailLimiter.reset(normalize(email));
+  }
+
+  private static String normalize(String email) {
+    return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+  }
+}
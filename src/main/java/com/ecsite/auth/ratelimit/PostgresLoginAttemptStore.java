@@ -0,0 +1,267 @@
+package com.ecsite.auth.ratelimit;
+
+import com.ecsite.auth.scheduling.PeriodicTask;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Array;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * PostgreSQLで全ノードのログイン失敗回数を共有するストア
+ *
+ * <p>失敗回数は {@code auth_schema.login_attempts} にキーとサブウィンドウ（ウィンドウの1/{@value
+ * SlidingWindowCounter#SLOTS}）単位で保持します。 ログイン処理では自ノードの差分をメモリ上で加算するのみで、 専用スレッドが {@code
+ * rate-limit.sync.flush-interval} ごとに差分をまとめてUPSERTし、続けて自ノードが追跡中のキーの全ノード合計を読み戻します。
+ * そのため全ノード合計は最大でフラッシュ間隔1回分遅れますが、ログイン処理でDBアクセスは発生しません。
+ *
+ * <p>サブウィンドウ番号はエポックミリ秒から算出するため、全ノードで {@code rate-limit.window} を揃え、時刻を同期してください。
+ * ウィンドウ外になった行はフラッシュ時に定期的に削除します。
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.mode", havingValue = "postgres", matchIfMissing = true)
+@Slf4j
+public class PostgresLoginAttemptStore implements LoginAttemptStore, PeriodicTask {
+
+  static final int MAX_KEY_LENGTH = 330;
+
+  private static final int READ_CHUNK_SIZE = 500;
+
+  private static final String UPSERT_SQL =
+      "INSERT INTO auth_schema.login_attempts (limit_key, bucket, attempts) VALUES (?, ?, ?) "
+          + "ON CONFLICT (limit_key, bucket) "
+          + "DO UPDATE SET attempts = auth_schema.login_attempts.attempts + EXCLUDED.attempts";
+
+  private static final String SELECT_TOTALS_SQL =
+      "SELECT limit_key, SUM(attempts) FROM auth_schema.login_attempts "
+          + "WHERE limit_key = ANY(?) AND bucket > ? GROUP BY limit_key";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final long bucketMillis;
+  private final long windowMillis;
+  private final long maximumKeys;
+  private final Duration flushInterval;
+  private final Map<BucketKey, Integer> pendingDeltas = new ConcurrentHashMap<>();
+  private final Set<String> pendingResets = ConcurrentHashMap.newKeySet();
+  private final Map<String, TrackedKey> trackedKeys = new ConcurrentHashMap<>();
+  private final Object flushLock = new Object();
+  private final Timer flushTimer;
+  private final Counter flushFailureCounter;
+
+  private long lastPurgeMillis;
+
+  public PostgresLoginAttemptStore(
+      JdbcTemplate jdbcTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${rate-limit.window:5m}") Duration window,
+      @Value("${rate-limit.maximum-keys:100000}") long maximumKeys,
+      @Value("${rate-limit.sync.flush-interval:250ms}") Duration flushInterval) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.windowMillis = window.toMillis();
+    this.bucketMillis = Math.max(1, windowMillis / SlidingWindowCounter.SLOTS);
+    this.maximumKeys = maximumKeys;
+    this.flushInterval = flushInterval;
+    this.flushTimer = meterRegistry.timer("login.rate-limit.sync");
+    this.flushFailureCounter = meterRegistry.counter("login.rate-limit.sync.failures");
+    Gauge.builder("login.rate-limit.sync.pending", pendingDeltas, Map::size)
+        .register(meterRegistry);
+    Gauge.builder("login.rate-limit.sync.tracked-keys", trackedKeys, Map::size)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void recordFailure(String key) {
+    if (key.length() > MAX_KEY_LENGTH) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    pendingDeltas.merge(new BucketKey(key, now / bucketMillis), 1, Integer::sum);
+    TrackedKey tracked = trackedKeys.get(key);
+    if (tracked == null && trackedKeys.size() < maximumKeys) {
+      tracked = trackedKeys.computeIfAbsent(key, k -> new TrackedKey());
+    }
+    if (tracked != null) {
+      tracked.lastFailureMillis = now;
+    }
+  }
+
+  @Override
+  public long globalCount(String key) {
+    TrackedKey tracked = trackedKeys.get(key);
+    return tracked == null ? 0 : tracked.globalCount;
+  }
+
+  @Override
+  public void reset(String key) {
+    trackedKeys.remove(key);
+    if (key.length() <= MAX_KEY_LENGTH) {
+      pendingResets.add(key);
+    }
+  }
+
+  /**
+   * 未反映の差分と解除をDBへ書き込み、追跡中のキーの全ノード合計を読み戻します。
+   *
+   * <p>通常は専用スレッドから {@code rate-limit.sync.flush-interval} ごとに呼び出されます。
+   * DBに接続できない場合、差分と解除は次回のフラッシュまで保持します。
+   */
+  public void flush() {
+    synchronized (flushLock) {
+      flushTimer.record(
+          () -> {
+            try {
+              long now = System.currentTimeMillis();
+              writeDeltas();
+              writeResets();
+              readTotals(now);
+              purgeExpired(now);
+            } catch (DataAccessException e) {
+              flushFailureCounter.increment();
+              log.warn("Failed to synchronize login attempts: {}", e.getMessage());
+            }
+          });
+    }
+  }
+
+  private void writeDeltas() {
+    Map<BucketKey, Integer> drained = new HashMap<>();
+    for (BucketKey key : pendingDeltas.keySet()) {
+      Integer delta = pendingDeltas.remove(key);
+      if (delta != null) {
+        drained.put(key, delta);
+      }
+    }
+    if (drained.isEmpty()) {
+      return;
+    }
+
+    // 複数ノードが同じ行を更新してもデッドロックしないよう、常にキー順で書き込む
+    List<Object[]> batch = new ArrayList<>(drained.size());
+    drained.entrySet().stream()
+        .sorted(Map.Entry.comparingByKey())
+        .forEach(
+            e -> batch.add(new Object[] {e.getKey().key(), e.getKey().bucket(), e.getValue()}));
+    try {
+      jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+    } catch (DataAccessException e) {
+      drained.forEach((key, delta) -> pendingDeltas.merge(key, delta, Integer::sum));
+      throw e;
+    }
+  }
+
+  private void writeResets() {
+    if (pendingResets.isEmpty()) {
+      return;
+    }
+    List<String> drained = new ArrayList<>();
+    for (String key : pendingResets) {
+      if (pendingResets.remove(key)) {
+        drained.add(key);
+      }
+    }
+    List<Object[]> batch = new ArrayList<>(drained.size());
+    drained.forEach(key -> batch.add(new Object[] {key}));
+    try {
+      jdbcTemplate.batchUpdate("DELETE FROM auth_schema.login_attempts WHERE limit_key = ?", batch);
+    } catch (DataAccessException e) {
+      // 書き込めなかった解除は次回のフラッシュで再試行する
+      pendingResets.addAll(drained);
+      throw e;
+    }
+  }
+
+  private void readTotals(long now) {
+    trackedKeys.entrySet().removeIf(e -> now - e.getValue().lastFailureMillis > windowMillis);
+    if (trackedKeys.isEmpty()) {
+      return;
+    }
+
+    long minBucket = now / bucketMillis - SlidingWindowCounter.SLOTS;
+    List<String> keys = new ArrayList<>(trackedKeys.keySet());
+    for (int from = 0; from < keys.size(); from += READ_CHUNK_SIZE) {
+      List<String> chunk = keys.subList(from, Math.min(from + READ_CHUNK_SIZE, keys.size()));
+      Map<String, Long> totals = new HashMap<>();
+      jdbcTemplate.query(
+          SELECT_TOTALS_SQL,
+          ps -> {
+            Array array = ps.getConnection().createArrayOf("varchar", chunk.toArray());
+            ps.setArray(1, array);
+            ps.setLong(2, minBucket);
+          },
+          rs -> {
+            totals.put(rs.getString(1), rs.getLong(2));
+          });
+      for (String key : chunk) {
+        TrackedKey tracked = trackedKeys.get(key);
+        if (tracked != null) {
+          tracked.globalCount = totals.getOrDefault(key, 0L);
+        }
+      }
+    }
+  }
+
+  private void purgeExpired(long now) {
+    if (now - lastPurgeMillis < windowMillis) {
+      return;
+    }
+    lastPurgeMillis = now;
+    int deleted =
+        jdbcTemplate.update(
+            "DELETE FROM auth_schema.login_attempts WHERE bucket <= ?",
+            now / bucketMillis - SlidingWindowCounter.SLOTS);
+    log.debug("Purged {} expired login attempt rows", deleted);
+  }
+
+  @Override
+  public String threadName() {
+    return "login-attempt-sync";
+  }
+
+  @Override
+  public Duration interval() {
+    return flushInterval;
+  }
+
+  @Override
+  public void runOnce() {
+    flush();
+  }
+
+  @Override
+  public Duration stopTimeout() {
+    return flushInterval.multipliedBy(2);
+  }
+
+  @Override
+  public void afterStop() {
+    // 停止時に未反映の差分を書き出す
+    flush();
+  }
+
+  private record BucketKey(String key, long bucket) implements Comparable<BucketKey> {
+
+    @Override
+    public int compareTo(BucketKey other) {
+      int result = key.compareTo(other.key);
+      return result != 0 ? result : Long.compare(bucket, other.bucket);
+    }
+  }
+
+  private static final class TrackedKey {
+    private volatile long globalCount;
+    private volatile long lastFailureMillis;
+  }
+}
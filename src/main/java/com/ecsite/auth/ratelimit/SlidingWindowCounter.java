@@ -0,0 +1,97 @@
+package com.ecsite.auth.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ロックフリーのスライディングウィンドウカウンター
+ *
+ * <p>ウィンドウを {@value #SLOTS} 個のサブウィンドウ（スロット）に分割し、各スロットに「サブウィンドウ番号（上位32ビット）+ 件数（下位32ビット）」を
+ * 1つのlong値として保持します。加算はスロット単位のCASのみで行い、古いサブウィンドウのスロットは加算時に上書きされるため、 ロックやリセット処理は不要です。集計は直近 {@value
+ * #SLOTS} サブウィンドウ分のスロットのみを合算するため、 誤差はサブウィンドウ1つ分（ウィンドウの1/{@value #SLOTS}）以内です。
+ */
+class SlidingWindowCounter {
+
+  static final int SLOTS = 10;
+
+  private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+  private final long slotNanos;
+  private final AtomicLongArray slots = new AtomicLongArray(SLOTS);
+  private final AtomicLong lockedUntilNanos = new AtomicLong(Long.MIN_VALUE);
+
+  SlidingWindowCounter(long windowNanos) {
+    this.slotNanos = Math.max(1, windowNanos / SLOTS);
+  }
+
+  /**
+   * 現在のサブウィンドウに件数を加算し、加算後のウィンドウ内合計を返します。
+   *
+   * @param nowNanos 現在時刻（ナノ秒）
+   * @param delta 加算する件数
+   * @return ウィンドウ内の合計件数
+   */
+  long add(long nowNanos, int delta) {
+    long epoch = nowNanos / slotNanos;
+    int index = (int) Math.floorMod(epoch, (long) SLOTS);
+    long current;
+    long updated;
+    do {
+      current = slots.get(index);
+      long count = epochOf(current) == (int) epoch ? current & COUNT_MASK : 0;
+      updated = pack(epoch, Math.min(count + delta, COUNT_MASK));
+    } while (!slots.compareAndSet(index, current, updated));
+    return sum(epoch);
+  }
+
+  /**
+   * ウィンドウ内の合計件数を返します。
+   *
+   * @param nowNanos 現在時刻（ナノ秒）
+   * @return ウィンドウ内の合計件数
+   */
+  long count(long nowNanos) {
+    return sum(nowNanos / slotNanos);
+  }
+
+  /**
+   * 指定時刻までロックアウトします。既存のロックアウトより短くなる場合は延長しません。
+   *
+   * @param untilNanos ロックアウト終了時刻（ナノ秒）
+   */
+  void lockUntil(long untilNanos) {
+    lockedUntilNanos.accumulateAndGet(untilNanos, Math::max);
+  }
+
+  /**
+   * ロックアウトの残り時間を返します。
+   *
+   * @param nowNanos 現在時刻（ナノ秒）
+   * @return 残り時間（ナノ秒）。ロックアウトされていない場合は0
+   */
+  long remainingLockoutNanos(long nowNanos) {
+    long until = lockedUntilNanos.get();
+    return until == Long.MIN_VALUE ? 0 : Math.max(0, until - nowNanos);
+  }
+
+  private long sum(long epoch) {
+    long total = 0;
+    for (int i = 0; i < SLOTS; i++) {
+      long value = slots.get(i);
+      int age = (int) epoch - epochOf(value);
+      if (age >= 0 && age < SLOTS) {
+        total += value & COUNT_MASK;
+      }
+    }
+    return total;
+  }
+
+  // サブウィンドウ番号は下位32ビットのみ保持し、差分はintの循環演算で求める
+  private static int epochOf(long value) {
+    return (int) (value >>> 32);
+  }
+
+  private static long pack(long epoch, long count) {
+    return (epoch << 32) | count;
+  }
+}
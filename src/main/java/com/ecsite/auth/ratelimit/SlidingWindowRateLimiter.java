@@ -0,0 +1,116 @@
+package com.ecsite.auth.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+
+/**
+ * キー単位のスライディングウィンドウ・レートリミッター
+ *
+ * <p>キーごとに {@link SlidingWindowCounter} を保持し、ウィンドウ内の失敗回数が上限に達したキーを一定時間ロックアウトします。
+ * カウンターはCaffeineキャッシュで管理し、ウィンドウとロックアウト期間のいずれよりも長くアクセスのないキーは破棄され、 キー数の上限を超えた場合も古いキーから削除されるため、
+ * 攻撃で大量のキーが生成されてもメモリ使用量は一定に保たれます。
+ *
+ * <p>失敗は {@link LoginAttemptStore} にも記録し、自ノードの失敗回数と全ノード合計の大きい方で上限を判定します。
+ * 他ノードでの失敗により全ノード合計が上限に達したキーは、判定時点から自ノードでもロックアウトします。
+ */
+class SlidingWindowRateLimiter {
+
+  private final String keyPrefix;
+  private final int maxAttempts;
+  private final long windowNanos;
+  private final long lockoutNanos;
+  private final Ticker ticker;
+  private final LoginAttemptStore store;
+  private final Cache<String, SlidingWindowCounter> counters;
+
+  SlidingWindowRateLimiter(
+      String dimension,
+      int maxAttempts,
+      Duration window,
+      Duration lockoutDuration,
+      long maximumKeys,
+      Ticker ticker,
+      LoginAttemptStore store,
+      MeterRegistry meterRegistry) {
+    this.keyPrefix = dimension + ":";
+    this.maxAttempts = maxAttempts;
+    this.windowNanos = window.toNanos();
+    this.lockoutNanos = lockoutDuration.toNanos();
+    this.ticker = ticker;
+    this.store = store;
+    this.counters =
+        Caffeine.newBuilder()
+            .expireAfterAccess(window.compareTo(lockoutDuration) >= 0 ? window : lockoutDuration)
+            .maximumSize(maximumKeys)
+            .ticker(ticker)
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, counters, "login-attempts." + dimension);
+  }
+
+  /**
+   * キーのロックアウト残り時間を返します。全ノード合計が上限未満の場合、カウンターが存在しないキーのエントリは作成しません。
+   *
+   * @param key キー
+   * @return 残り時間。ロックアウトされていない場合は {@link Duration#ZERO}
+   */
+  Duration remainingLockout(String key) {
+    long now = ticker.read();
+    SlidingWindowCounter counter = counters.getIfPresent(key);
+    if (counter != null) {
+      long remaining = counter.remainingLockoutNanos(now);
+      if (remaining > 0) {
+        return Duration.ofNanos(remaining);
+      }
+    }
+    if (store.globalCount(keyPrefix + key) < maxAttempts) {
+      return Duration.ZERO;
+    }
+    if (counter == null) {
+      counter = counters.get(key, k -> new SlidingWindowCounter(windowNanos));
+    }
+    counter.lockUntil(now + lockoutNanos);
+    return Duration.ofNanos(counter.remainingLockoutNanos(now));
+  }
+
+  /**
+   * 失敗を記録し、ウィンドウ内の失敗回数が上限に達した場合はキーをロックアウトします。
+   *
+   * @param key キー
+   * @return 今回の記録でロックアウトされた場合true
+   */
+  boolean recordFailure(String key) {
+    long now = ticker.read();
+    store.recordFailure(keyPrefix + key);
+    SlidingWindowCounter counter = counters.get(key, k -> new SlidingWindowCounter(windowNanos));
+    long count = Math.max(counter.add(now, 1), store.globalCount(keyPrefix + key));
+    if (count >= maxAttempts && counter.remainingLockoutNanos(now) == 0) {
+      counter.lockUntil(now + lockoutNanos);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * キーの失敗回数とロックアウトを全ノードで解除します。
+   *
+   * @param key キー
+   */
+  void reset(String key) {
+    counters.invalidate(key);
+    store.reset(keyPrefix + key);
+  }
+
+  /**
+   * 保持しているキー数の概算値を返します。
+   *
+   * @return キー数
+   */
+  long estimatedSize() {
+    return counters.estimatedSize();
+  }
+}
@@ -0,0 +1,15 @@
+package com.ecsite.auth.repository;
+
+import com.ecsite.auth.entity.NotificationOutbox;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 通知アウトボックスリポジトリ
+ *
+ * <p>通知の保存に使用します。 配信対象の取得と配信結果の反映は {@link
+ * com.ecsite.auth.notification.NotificationOutboxDispatcher} がSQLで直接行います。
+ */
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, UUID> {}
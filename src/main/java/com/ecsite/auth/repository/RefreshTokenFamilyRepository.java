@@ -0,0 +1,77 @@
+package com.ecsite.auth.repository;
+
+import com.ecsite.auth.entity.RefreshTokenFamily;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * リフレッシュトークンファミリーリポジトリ
+ *
+ * <p>リフレッシュトークンファミリーのデータベース操作を提供します。
+ */
+@Repository
+public interface RefreshTokenFamilyRepository extends JpaRepository<RefreshTokenFamily, UUID> {
+
+  /**
+   * ファミリーの先頭が提示されたjtiと一致し、有効期限内かつ未失効の場合のみ、先頭を新しいjtiへ進めます。
+   *
+   * <p>同一トークンによる並行リフレッシュは、いずれか1件のみが成功します。
+   *
+   * @param id ファミリーID
+   * @param currentJti 提示されたリフレッシュトークンのjti
+   * @param newJti 新しく発行するリフレッシュトークンのjti
+   * @param expiresAt 新しいリフレッシュトークンの有効期限
+   * @param now 現在日時
+   * @return 更新件数（ローテーションできなかった場合は0）
+   */
+  @Modifying
+  @Query(
+      "UPDATE RefreshTokenFamily f SET f.currentJti = :newJti, f.generation = f.generation + 1,"
+          + " f.expiresAt = :expiresAt, f.updatedAt = :now"
+          + " WHERE f.id = :id AND f.currentJti = :currentJti"
+          + " AND f.revokedAt IS NULL AND f.expiresAt > :now")
+  int rotate(
+      @Param("id") UUID id,
+      @Param("currentJti") UUID currentJti,
+      @Param("newJti") UUID newJti,
+      @Param("expiresAt") LocalDateTime expiresAt,
+      @Param("now") LocalDateTime now);
+
+  /**
+   * ファミリーを失効させます。
+   *
+   * @param id ファミリーID
+   * @param reason 失効理由
+   * @param now 現在日時
+   * @return 更新件数（既に失効済みの場合は0）
+   */
+  @Modifying
+  @Query(
+      "UPDATE RefreshTokenFamily f SET f.revokedAt = :now, f.revokedReason = :reason,"
+          + " f.updatedAt = :now WHERE f.id = :id AND f.revokedAt IS NULL")
+  int revoke(@Param("id") UUID id, @Param("reason") String reason, @Param("now") LocalDateTime now);
+
+  /**
+   * ユーザーの未失効のファミリーをすべて失効させます。
+   *
+   * <p>パスワードリセット・退会など、発行済みのリフレッシュトークンをすべて無効にする場合に使用します。
+   *
+   * @param userId ユーザーID
+   * @param reason 失効理由
+   * @param now 現在日時
+   * @return 失効させたファミリーの件数
+   */
+  @Modifying
+  @Query(
+      "UPDATE RefreshTokenFamily f SET f.revokedAt = :now, f.revokedReason = :reason,"
+          + " f.updatedAt = :now WHERE f.userId = :userId AND f.revokedAt IS NULL")
+  int revokeAllForUser(
+      @Param("userId") UUID userId,
+      @Param("reason") String reason,
+      @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,50 @@
+package com.ecsite.auth.repository;
+
+import com.ecsite.auth.entity.RevokedAccessToken;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 失効済みアクセストークンリポジトリ
+ *
+ * <p>失効済みアクセストークンのデータベース操作を提供します。
+ */
+@Repository
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, UUID> {
+
+  /**
+   * 有効期限内の失効済みトークンが存在するかを判定します。
+   *
+   * @param jti トークンID
+   * @param now 現在日時
+   * @return 存在する場合true
+   */
+  boolean existsByJtiAndExpiresAtAfter(UUID jti, LocalDateTime now);
+
+  /**
+   * 有効期限内の失効済みトークンのjtiを取得します。
+   *
+   * @param now 現在日時
+   * @return jtiのリスト
+   */
+  @Query("SELECT r.jti FROM RevokedAccessToken r WHERE r.expiresAt > :now")
+  List<UUID> findActiveJtis(@Param("now") LocalDateTime now);
+
+  /**
+   * 有効期限を過ぎた行を削除します。
+   *
+   * @param now 現在日時
+   * @return 削除件数
+   */
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM RevokedAccessToken r WHERE r.expiresAt <= :now")
+  int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,15 +1,80 @@
 package com.ecsite.auth.repository;
 
 import com.ecsite.auth.entity.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
 
+  /**
+   * メールアドレスでユーザーを取得します。
+   *
+   * <p>読み取り専用トランザクションで実行するため、読み取りレプリカが構成されている場合はレプリカから取得します（書き込みトランザクション内で呼び出された場合はプライマリ）。
+   *
+   * @param email メールアドレス
+   * @return ユーザー（存在しない場合はEmpty）
+   */
+  @Transactional(readOnly = true)
   Optional<User> findByEmail(String email);
 
   boolean existsByEmail(String email);
+
+  /**
+   * ユーザーのステータスのみを取得します。
+   *
+   * <p>エンティティ全体を読み込まず、status列のみを射影します。 読み取りレプリカが構成されている場合はレプリカから取得します。
+   *
+   * @param id ユーザーID
+   * @return ユーザーステータス（存在しない場合はEmpty）
+   */
+  @Transactional(readOnly = true)
+  @Query("SELECT u.status FROM User u WHERE u.id = :id")
+  Optional<User.UserStatus> findStatusById(@Param("id") UUID id);
+
+  /**
+   * 複数ユーザーのステータスを1回のクエリで取得します。
+   *
+   * @param ids ユーザーIDのコレクション
+   * @return 存在するユーザーのIDとステータス
+   */
+  @Transactional(readOnly = true)
+  @Query("SELECT u.id AS id, u.status AS status FROM User u WHERE u.id IN :ids")
+  List<UserStatusView> findStatusesByIdIn(@Param("ids") Collection<UUID> ids);
+
+  /**
+   * パスワードハッシュを更新します。
+   *
+   * <p>保存済みハッシュが {@code currentHash} と一致する場合のみ更新するため、 再ハッシュ中に行われたパスワードリセットを上書きしません。
+   *
+   * @param id ユーザーID
+   * @param currentHash 現在のハッシュ
+   * @param newHash 新しいハッシュ
+   * @return 更新件数（0または1）
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE User u SET u.passwordHash = :newHash WHERE u.id = :id AND u.passwordHash ="
+          + " :currentHash")
+  int updatePasswordHash(
+      @Param("id") UUID id,
+      @Param("currentHash") String currentHash,
+      @Param("newHash") String newHash);
+
+  /** ユーザーIDとステータスの射影 */
+  interface UserStatusView {
+
+    UUID getId();
+
+    User.UserStatus getStatus();
+  }
 }
@@ -0,0 +1,59 @@
+package com.ecsite.auth.scheduling;
+
+import java.time.Duration;
+
+/**
+ * 専用スレッドで一定間隔ごとに実行するバックグラウンド処理
+ *
+ * <p>このインターフェースを実装したBeanは {@link PeriodicTaskRunner} が起動・停止します。 処理ごとに専用のデーモンスレッドを1つ作成し、 前回の処理の終了から
+ * {@link #interval()} の間隔を空けて {@link #runOnce()} を呼び出します（処理が間隔より長引いても重複して実行しない）。
+ *
+ * <p>ノード単位で処理を無効にする場合は、実装クラスに {@code @ConditionalOnProperty} を付けてBean自体を登録しないでください。
+ */
+public interface PeriodicTask {
+
+  /**
+   * 処理を実行するスレッドの名前を返します。
+   *
+   * @return スレッド名
+   */
+  String threadName();
+
+  /**
+   * 前回の処理の終了から次の処理の開始までの間隔を返します。
+   *
+   * @return 実行間隔
+   */
+  Duration interval();
+
+  /**
+   * 起動から最初の処理までの待ちを返します。
+   *
+   * @return 最初の処理までの待ち（既定は {@link #interval()}）
+   */
+  default Duration initialDelay() {
+    return interval();
+  }
+
+  /**
+   * 1回分の処理を実行します。
+   *
+   * <p>DBエラーなど想定される失敗は実装クラスでメトリクスに記録してください。 例外がスローされた場合もログに出力して次回の処理を実行します。
+   */
+  void runOnce();
+
+  /** 停止を指示する前に呼び出されます。実行中の処理を区切りの良いところで切り上げる場合に使用します。 */
+  default void beforeStop() {}
+
+  /**
+   * 停止時に実行中の処理の完了を待つ上限を返します。
+   *
+   * @return 待ちの上限。{@link Duration#ZERO} の場合は待たずに割り込んで停止する（既定）
+   */
+  default Duration stopTimeout() {
+    return Duration.ZERO;
+  }
+
+  /** 処理を停止した後に呼び出されます。未反映のデータの書き出しなどに使用します。 */
+  default void afterStop() {}
+}
@@ -0,0 +1,118 @@
+package com.ecsite.auth.scheduling;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link PeriodicTask} の起動・停止
+ *
+ * <p>アプリケーションの起動時に、登録されたすべての {@link PeriodicTask} をそれぞれの専用スレッドで開始します。 処理ごとにスレッドを分けるため、
+ * 長い処理（退会ユーザーの匿名化など）が短い間隔の処理（ログイン失敗回数の同期など）を遅らせることはありません。
+ *
+ * <p>停止時は、各処理の {@link PeriodicTask#beforeStop()} を呼び出した後、{@link PeriodicTask#stopTimeout()}
+ * が0の処理には割り込み、それ以外の処理は実行中の処理の完了を上限まで待ちます。 待ちはすべての処理へ停止を指示してから行うため、停止にかかる時間は最も長い上限までです。 最後に各処理の
+ * {@link PeriodicTask#afterStop()} を呼び出します。
+ */
+@Component
+@Slf4j
+public class PeriodicTaskRunner implements SmartLifecycle {
+
+  private final ObjectProvider<PeriodicTask> tasks;
+  private final List<Scheduled> scheduled = new ArrayList<>();
+
+  private volatile boolean running;
+
+  public PeriodicTaskRunner(ObjectProvider<PeriodicTask> tasks) {
+    this.tasks = tasks;
+  }
+
+  @Override
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    tasks.orderedStream().forEach(task -> scheduled.add(schedule(task)));
+    log.info("Started {} periodic tasks", scheduled.size());
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    for (Scheduled s : scheduled) {
+      s.task().beforeStop();
+      if (s.task().stopTimeout().isZero()) {
+        // 処理中のバッチはコミット済みか未コミットのどちらかのため、割り込んで停止する
+        s.scheduler().shutdownNow();
+      } else {
+        s.scheduler().shutdown();
+      }
+    }
+    for (Scheduled s : scheduled) {
+      awaitTermination(s);
+      try {
+        s.task().afterStop();
+      } catch (RuntimeException e) {
+        log.warn("Periodic task {} failed on stop: {}", s.task().threadName(), e.getMessage());
+      }
+    }
+    scheduled.clear();
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private Scheduled schedule(PeriodicTask task) {
+    ScheduledExecutorService scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread thread = new Thread(r, task.threadName());
+              thread.setDaemon(true);
+              return thread;
+            });
+    scheduler.scheduleWithFixedDelay(
+        () -> runOnce(task),
+        task.initialDelay().toMillis(),
+        task.interval().toMillis(),
+        TimeUnit.MILLISECONDS);
+    return new Scheduled(task, scheduler);
+  }
+
+  private void runOnce(PeriodicTask task) {
+    try {
+      task.runOnce();
+    } catch (RuntimeException e) {
+      // 例外をスローしたタスクはScheduledExecutorServiceが以降実行しなくなるため、ここで止める
+      log.error("Periodic task {} failed", task.threadName(), e);
+    }
+  }
+
+  private void awaitTermination(Scheduled s) {
+    Duration timeout = s.task().stopTimeout();
+    if (timeout.isZero()) {
+      return;
+    }
+    try {
+      if (!s.scheduler().awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        log.warn("Periodic task {} did not finish within {}", s.task().threadName(), timeout);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private record Scheduled(PeriodicTask task, ScheduledExecutorService scheduler) {}
+}
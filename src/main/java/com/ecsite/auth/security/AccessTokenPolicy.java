@@ -0,0 +1,65 @@
+package com.ecsite.auth.security;
+
+import com.ecsite.auth.entity.User;
+import io.jsonwebtoken.JwtException;
+import org.springframework.stereotype.Component;
+
+/**
+ * アクセストークンの受け入れ基準
+ *
+ * <p>{@link JwtAuthenticationFilter} と {@link com.ecsite.auth.service.TokenIntrospectionService}
+ * は、いずれもこのクラスでトークンを判定します。 基準を変更する場合はこのクラスのみを変更してください。
+ *
+ * <ol>
+ *   <li>署名と有効期限（{@link VerifiedTokenCache} で検証済みの場合は省略）
+ *   <li>トークン種別がACCESSであること（リフレッシュトークン・メール認証トークンは受け付けない）
+ *   <li>失効していないこと（{@link AccessTokenRevocationList}）
+ *   <li>ユーザーのステータスがアクセストークンを受け付けること（{@link User.UserStatus#acceptsAccessTokens()}）
+ * </ol>
+ *
+ * <p>1〜3は {@link #verify(String)}、4は {@link #acceptsStatus(User.UserStatus)} で判定します。
+ * ユーザーステータスの取得方法（1件ずつ / 一括）は呼び出し元が選択します。
+ */
+@Component
+public class AccessTokenPolicy {
+
+  static final String ACCESS_TOKEN_TYPE = "ACCESS";
+
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final AccessTokenRevocationList revocationList;
+
+  public AccessTokenPolicy(
+      VerifiedTokenCache verifiedTokenCache, AccessTokenRevocationList revocationList) {
+    this.verifiedTokenCache = verifiedTokenCache;
+    this.revocationList = revocationList;
+  }
+
+  /**
+   * トークンの署名・種別・失効を検証します。
+   *
+   * @param token 生のJWTトークン文字列
+   * @return 検証済みのトークン
+   * @throws JwtException 署名が不正・期限切れ、アクセストークンでない、または失効済みの場合
+   * @throws IllegalArgumentException トークンが空の場合
+   */
+  public VerifiedTokenCache.VerifiedToken verify(String token) {
+    VerifiedTokenCache.VerifiedToken verified = verifiedTokenCache.verify(token);
+    if (!ACCESS_TOKEN_TYPE.equals(verified.type())) {
+      throw new JwtException("Not an access token (type: " + verified.type() + ")");
+    }
+    if (revocationList.isRevoked(verified.jti())) {
+      throw new JwtException("Token is revoked (jti: " + verified.jti() + ")");
+    }
+    return verified;
+  }
+
+  /**
+   * ユーザーのステータスがアクセストークンを受け付けるかを判定します。
+   *
+   * @param status ユーザーのステータス（ユーザーが存在しない場合null）
+   * @return 受け付ける場合true
+   */
+  public boolean acceptsStatus(User.UserStatus status) {
+    return status != null && status.acceptsAccessTokens();
+  }
+}
@@ -0,0 +1,187 @@
+package com.ecsite.auth.security;
+
+import com.ecsite.auth.cache.CacheInvalidationBus;
+import com.ecsite.auth.cache.CacheInvalidationListener;
+import com.ecsite.auth.entity.RevokedAccessToken;
+import com.ecsite.auth.repository.RevokedAccessTokenRepository;
+import com.ecsite.auth.scheduling.PeriodicTask;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * アクセストークン失効リスト
+ *
+ * <p>失効させたアクセストークンのjtiは {@code auth_schema.revoked_access_tokens} を正とし、各ノードはその写しを {@link
+ * BloomFilter} で保持します。 失効していないトークン（ほぼすべてのリクエスト）はBloomフィルターの判定のみで通過するため、DBアクセスは発生しません。
+ * Bloomフィルターが陽性の場合に限り、DBで失効済みかを確認し、結果を短時間キャッシュします。
+ *
+ * <p>失効は {@link CacheInvalidationBus} で全ノードへ配信され、各ノードのBloomフィルターへ即時に追加されます。 Bloomフィルターは要素を削除できないため、
+ * {@code jwt.revocation.rebuild-interval} ごとに有効期限内の行のみから作り直し、同時に有効期限を過ぎた行を削除します。
+ * リスナー接続の再確立時（イベントを取りこぼした可能性がある場合）も作り直します。
+ *
+ * <p>DBに接続できない間は、直前に構築したBloomフィルターと配信済みの失効で判定を続けます。
+ */
+@Component
+@Slf4j
+public class AccessTokenRevocationList implements CacheInvalidationListener, PeriodicTask {
+
+  static final String CACHE_NAME = "jwt.revoked-access-tokens";
+
+  private final RevokedAccessTokenRepository repository;
+  private final CacheInvalidationBus invalidationBus;
+  private final long expectedRevocations;
+  private final double falsePositiveRate;
+  private final Duration rebuildInterval;
+  private final Cache<String, Boolean> confirmed;
+  private final Counter bloomHitCounter;
+  private final Counter rejectedCounter;
+  private final Counter rebuildFailureCounter;
+  private final Object rebuildLock = new Object();
+
+  private volatile BloomFilter filter;
+  private volatile BloomFilter pendingFilter;
+
+  public AccessTokenRevocationList(
+      RevokedAccessTokenRepository repository,
+      CacheInvalidationBus invalidationBus,
+      MeterRegistry meterRegistry,
+      @Value("${jwt.revocation.expected-revocations:100000}") long expectedRevocations,
+      @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+      @Value("${jwt.revocation.rebuild-interval:5m}") Duration rebuildInterval) {
+    this.repository = repository;
+    this.invalidationBus = invalidationBus;
+    this.expectedRevocations = expectedRevocations;
+    this.falsePositiveRate = falsePositiveRate;
+    this.rebuildInterval = rebuildInterval;
+    this.filter = new BloomFilter(expectedRevocations, falsePositiveRate);
+    this.confirmed =
+        Caffeine.newBuilder()
+            .expireAfterWrite(rebuildInterval)
+            .maximumSize(expectedRevocations)
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, confirmed, CACHE_NAME);
+    this.bloomHitCounter = meterRegistry.counter("jwt.revocation.bloom-hits");
+    this.rejectedCounter = meterRegistry.counter("jwt.revocation.rejected");
+    this.rebuildFailureCounter = meterRegistry.counter("jwt.revocation.rebuild.failures");
+    invalidationBus.subscribe(CACHE_NAME, this);
+  }
+
+  /**
+   * アクセストークンが失効済みかを判定します。
+   *
+   * @param jti トークンID
+   * @return 失効済みの場合true
+   */
+  public boolean isRevoked(String jti) {
+    if (jti == null || !filter.mightContain(jti)) {
+      return false;
+    }
+    bloomHitCounter.increment();
+    boolean revoked = confirmed.get(jti, this::lookup);
+    if (revoked) {
+      rejectedCounter.increment();
+    }
+    return revoked;
+  }
+
+  /**
+   * アクセストークンを全ノードで失効させます。
+   *
+   * @param jti トークンID
+   * @param userId ユーザーID
+   * @param expiresAt トークンの有効期限
+   */
+  public void revoke(String jti, UUID userId, Instant expiresAt) {
+    repository.save(
+        RevokedAccessToken.builder()
+            .jti(UUID.fromString(jti))
+            .userId(userId)
+            .expiresAt(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+            .build());
+    invalidationBus.publish(CACHE_NAME, jti);
+    log.info("Access token revoked for user: {} (jti: {})", userId, jti);
+  }
+
+  /** DBの有効期限内の行からBloomフィルターを作り直し、有効期限を過ぎた行を削除します。 */
+  public void rebuild() {
+    synchronized (rebuildLock) {
+      BloomFilter rebuilt = new BloomFilter(expectedRevocations, falsePositiveRate);
+      // 読み込み中に配信された失効を取りこぼさないよう、読み込み前から新旧両方へ追加する
+      pendingFilter = rebuilt;
+      try {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> jtis = repository.findActiveJtis(now);
+        jtis.forEach(jti -> rebuilt.put(jti.toString()));
+        filter = rebuilt;
+        confirmed.invalidateAll();
+        int deleted = repository.deleteExpired(now);
+        log.debug("Rebuilt revocation filter with {} tokens, purged {} rows", jtis.size(), deleted);
+      } catch (DataAccessException e) {
+        rebuildFailureCounter.increment();
+        log.warn("Failed to rebuild access token revocation filter: {}", e.getMessage());
+      } finally {
+        pendingFilter = null;
+      }
+    }
+  }
+
+  @Override
+  public void onInvalidate(String key) {
+    // 作り直し中の新フィルターを先に読むことで、差し替えの前後いずれでも新フィルターへ追加される
+    BloomFilter pending = pendingFilter;
+    if (pending != null) {
+      pending.put(key);
+    }
+    filter.put(key);
+    confirmed.invalidate(key);
+  }
+
+  @Override
+  public void onReset() {
+    rebuild();
+  }
+
+  @Override
+  public String threadName() {
+    return "access-token-revocation-rebuild";
+  }
+
+  @Override
+  public Duration interval() {
+    return rebuildInterval;
+  }
+
+  @Override
+  public Duration initialDelay() {
+    return Duration.ZERO;
+  }
+
+  @Override
+  public void runOnce() {
+    rebuild();
+  }
+
+  private boolean lookup(String jti) {
+    UUID id;
+    try {
+      id = UUID.fromString(jti);
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+    return repository.existsByJtiAndExpiresAtAfter(id, LocalDateTime.now());
+  }
+}
@@ -0,0 +1,118 @@
+package com.ecsite.auth.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 文字列用のスレッドセーフなBloomフィルター
+ *
+ * <p>{@link #mightContain(CharSequence)} はオブジェクトを生成せず、ロックも取得しません。 falseの場合は未登録であることが確定し、
+ * trueの場合は登録済みか偽陽性のいずれかです。 要素の削除はできないため、不要な要素を除くには新しいフィルターを作り直してください。
+ *
+ * <p>ハッシュは文字列を1回走査して得た64ビット値2つから、ダブルハッシュ法で {@code k} 個のビット位置を導出します。
+ */
+final class BloomFilter {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+  private static final long GOLDEN_RATIO = 0x9e3779b97f4a7c15L;
+
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashFunctions;
+
+  /**
+   * 想定要素数と偽陽性率から最適なビット数とハッシュ関数の数を決定します。
+   *
+   * @param expectedInsertions 想定要素数
+   * @param falsePositiveRate 想定要素数を登録したときの偽陽性率（0より大きく1未満）
+   */
+  BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    if (expectedInsertions <= 0) {
+      throw new IllegalArgumentException("expectedInsertions must be positive");
+    }
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+    }
+    double bits = -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+    int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, ((long) bits + 63) >>> 6));
+    this.words = new AtomicLongArray(wordCount);
+    this.bitCount = (long) wordCount << 6;
+    this.hashFunctions =
+        Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+  }
+
+  /**
+   * 要素を登録します。
+   *
+   * @param value 要素
+   */
+  void put(CharSequence value) {
+    long hash1 = hash(value);
+    long hash2 = mix(hash1 ^ GOLDEN_RATIO);
+    hash1 = mix(hash1);
+    for (int i = 0; i < hashFunctions; i++) {
+      long index = Math.floorMod(hash1 + i * hash2, bitCount);
+      int word = (int) (index >>> 6);
+      long mask = 1L << index;
+      long current = words.get(word);
+      while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+        current = words.get(word);
+      }
+    }
+  }
+
+  /**
+   * 要素が登録されている可能性があるかを判定します。
+   *
+   * @param value 要素
+   * @return 登録済みまたは偽陽性の場合true。falseの場合は未登録が確定
+   */
+  boolean mightContain(CharSequence value) {
+    long hash1 = hash(value);
+    long hash2 = mix(hash1 ^ GOLDEN_RATIO);
+    hash1 = mix(hash1);
+    for (int i = 0; i < hashFunctions; i++) {
+      long index = Math.floorMod(hash1 + i * hash2, bitCount);
+      if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * ビット数を返します。
+   *
+   * @return ビット数
+   */
+  long bitCount() {
+    return bitCount;
+  }
+
+  /**
+   * ハッシュ関数の数を返します。
+   *
+   * @return ハッシュ関数の数
+   */
+  int hashFunctions() {
+    return hashFunctions;
+  }
+
+  private static long hash(CharSequence value) {
+    long hash = FNV_OFFSET_BASIS;
+    for (int i = 0, length = value.length(); i < length; i++) {
+      hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+    }
+    return hash;
+  }
+
+  // MurmurHash3のfmix64。FNV-1aの下位ビットの偏りを拡散する
+  private static long mix(long hash) {
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb93e1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
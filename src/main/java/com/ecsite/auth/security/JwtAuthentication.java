@@ -0,0 +1,161 @@
+package com.ecsite.auth.security;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 検証済みアクセストークンによる認証情報
+ *
+ * <p>{@link JwtAuthenticationFilter} がリクエストごとに生成する不変の {@link Authentication} です。
+ * 権限リストはロールごとに1つだけ生成して共有するため、生成時の割り当てはこのオブジェクト自身のみです（詳細情報を有効にした場合を除く）。
+ *
+ * <p>プリンシパルは従来の {@code UsernamePasswordAuthenticationToken} と同じくユーザーIDの文字列です。
+ */
+public final class JwtAuthentication implements Authentication {
+
+  private static final long serialVersionUID = 1L;
+
+  // ロールは署名検証済みトークンのクレームのみから渡されるため、種類は発行側のロール数に限られる
+  private static final ConcurrentMap<String, List<GrantedAuthority>> AUTHORITIES =
+      new ConcurrentHashMap<>();
+
+  private final String userId;
+  private final String role;
+  private final String jti;
+  private final Instant expiresAt;
+  private final List<GrantedAuthority> authorities;
+  private final Object details;
+
+  /**
+   * 認証情報を作成します。
+   *
+   * @param userId ユーザーID
+   * @param role ロール（{@code ROLE_} 接頭辞なし）
+   * @param jti トークンID
+   * @param expiresAt トークンの有効期限
+   * @param details 認証の詳細情報（不要な場合はnull）
+   */
+  public JwtAuthentication(
+      String userId, String role, String jti, Instant expiresAt, Object details) {
+    this.userId = userId;
+    this.role = role;
+    this.jti = jti;
+    this.expiresAt = expiresAt;
+    this.authorities = authoritiesFor(role);
+    this.details = details;
+  }
+
+  /**
+   * ロールに対応する権限リストを返します。同じロールには常に同じインスタンスを返します。
+   *
+   * @param role ロール（{@code ROLE_} 接頭辞なし）
+   * @return {@code ROLE_<role>} のみを含む不変リスト。ロールがnullの場合は空のリスト
+   */
+  static List<GrantedAuthority> authoritiesFor(String role) {
+    if (role == null) {
+      return List.of();
+    }
+    List<GrantedAuthority> authorities = AUTHORITIES.get(role);
+    if (authorities != null) {
+      return authorities;
+    }
+    return AUTHORITIES.computeIfAbsent(role, r -> List.of(new SimpleGrantedAuthority("ROLE_" + r)));
+  }
+
+  /**
+   * ロールを返します。
+   *
+   * @return ロール（{@code ROLE_} 接頭辞なし）
+   */
+  public String getRole() {
+    return role;
+  }
+
+  /**
+   * トークンIDを返します。
+   *
+   * @return トークンID
+   */
+  public String getJti() {
+    return jti;
+  }
+
+  /**
+   * トークンの有効期限を返します。
+   *
+   * @return トークンの有効期限
+   */
+  public Instant getExpiresAt() {
+    return expiresAt;
+  }
+
+  @Override
+  public Collection<? extends GrantedAuthority> getAuthorities() {
+    return authorities;
+  }
+
+  @Override
+  public Object getCredentials() {
+    return null;
+  }
+
+  @Override
+  public Object getDetails() {
+    return details;
+  }
+
+  @Override
+  public Object getPrincipal() {
+    return userId;
+  }
+
+  @Override
+  public String getName() {
+    return userId;
+  }
+
+  @Override
+  public boolean isAuthenticated() {
+    return true;
+  }
+
+  @Override
+  public void setAuthenticated(boolean isAuthenticated) {
+    if (!isAuthenticated) {
+      throw new IllegalArgumentException(
+          "JwtAuthentication is immutable; clear the SecurityContext instead");
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof JwtAuthentication other)) {
+      return false;
+    }
+    return Objects.equals(userId, other.userId)
+        && Objects.equals(role, other.role)
+        && Objects.equals(jti, other.jti)
+        && Objects.equals(expiresAt, other.expiresAt)
+        && Objects.equals(details, other.details);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(userId, role, jti);
+  }
+
+  @Override
+  public String toString() {
+    return "JwtAuthentication[userId=" + userId + ", role=" + role + ", jti=" + jti + "]";
+  }
+}
@@ -1,19 +1,15 @@
 package com.ecsite.auth.security;
 
+import com.ecsite.auth.cache.UserStatusCache;
 import com.ecsite.auth.entity.User;
-import com.ecsite.auth.repository.UserRepository;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Collections;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -23,16 +19,43 @@ import org.springframework.web.filter.OncePerRequestFilter;
  * JWT認証フィルター
  *
  * <p>HTTPリクエストのAuthorizationヘッダーからJWTトークンを抽出し、検証します。 トークンが有効な場合、SecurityContextに認証情報を設定します。
+ * 署名検証の結果は {@link VerifiedTokenCache} に、ユーザーステータスは {@link UserStatusCache} にキャッシュされます。
  *
- * <p>退会処理中（PENDING_DELETION）または退会済み（DELETED）のユーザーのトークンは無効として扱います。
+ * <p>トークンの受け入れ基準（署名・種別・失効・ユーザーステータス）は {@link AccessTokenPolicy} で判定します。 ただし {@link RouteClassifier}
+ * が退会APIと分類した経路では、退会処理の再実行に備えてユーザーステータスを問わず認証します。
+ *
+ * <p>認証不要の経路（公開APIとActuator）ではフィルター自体を実行しません。
+ *
+ * <p>SecurityContextには {@link JwtAuthentication} を設定します。 権限リストはロールごとに共有し、リクエストの詳細情報（{@code
+ * WebAuthenticationDetails}）は {@code jwt.authentication.web-details} が有効な場合のみ生成します。
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-  private final JwtUtil jwtUtil;
-  private final UserRepository userRepository;
+  private static final WebAuthenticationDetailsSource DETAILS_SOURCE =
+      new WebAuthenticationDetailsSource();
+
+  private final AccessTokenPolicy accessTokenPolicy;
+  private final UserStatusCache userStatusCache;
+  private final RouteClassifier routeClassifier;
+  private final boolean webDetails;
+
+  public JwtAuthenticationFilter(
+      AccessTokenPolicy accessTokenPolicy,
+      UserStatusCache userStatusCache,
+      RouteClassifier routeClassifier,
+      @Value("${jwt.authentication.web-details:false}") boolean webDetails) {
+    this.accessTokenPolicy = accessTokenPolicy;
+    this.userStatusCache = userStatusCache;
+    this.routeClassifier = routeClassifier;
+    this.webDetails = webDetails;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return routeClassifier.isPermitAll(request);
+  }
 
   @Override
   protected void doFilterInternal(
@@ -48,52 +71,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     try {
       String token = authHeader.substring(7);
-      Claims claims = jwtUtil.validateToken(token);
-
-      String userId = claims.getSubject();
-      String role = claims.get("role", String.class);
+      VerifiedTokenCache.VerifiedToken verifiedToken = accessTokenPolicy.verify(token);
+      String userId = verifiedToken.userId();
 
       if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-        boolean isWithdrawalEndpoint = isWithdrawalEndpoint(request);
-
-        User user = userRepository.findById(UUID.fromString(userId)).orElse(null);
-        if (user == null) {
-          if (isWithdrawalEndpoint) {
-            UsernamePasswordAuthenticationToken authentication =
-                new UsernamePasswordAuthenticationToken(
-                    userId,
-                    null,
-                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)));
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            log.debug(
-                "JWT authentication set for withdrawal endpoint (user not found, userId: {})",
-                userId);
-          } else {
-            log.warn("JWT authentication failed: User not found (userId: {})", userId);
-            filterChain.doFilter(request, response);
-            return;
-          }
-        } else {
-          if (!isWithdrawalEndpoint
-              && (user.getStatus() == User.UserStatus.PENDING_DELETION
-                  || user.getStatus() == User.UserStatus.DELETED)) {
-            log.warn(
-                "JWT authentication rejected: User is {} (userId: {})", user.getStatus(), userId);
-            filterChain.doFilter(request, response);
-            return;
-          }
-
-          UsernamePasswordAuthenticationToken authentication =
-              new UsernamePasswordAuthenticationToken(
-                  userId,
-                  null,
-                  Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)));
-          authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-          SecurityContextHolder.getContext().setAuthentication(authentication);
-
-          log.debug("JWT authentication successful for user: {}", userId);
+        boolean isWithdrawalEndpoint =
+            routeClassifier.classify(request) == RouteClassifier.Category.WITHDRAWAL;
+
+        User.UserStatus status = userStatusCache.getStatus(UUID.fromString(userId));
+        if (!isWithdrawalEndpoint && !accessTokenPolicy.acceptsStatus(status)) {
+          log.warn(
+              "JWT authentication rejected: User is {} (userId: {})",
+              status == null ? "not found" : status,
+              userId);
+          filterChain.doFilter(request, response);
+          return;
         }
+
+        authenticate(request, verifiedToken);
+
+        log.debug("JWT authentication successful for user: {} (status: {})", userId, status);
       }
     } catch (Exception e) {
       log.warn("JWT authentication failed: {}", e.getMessage());
@@ -102,11 +99,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     filterChain.doFilter(request, response);
   }
 
-  private boolean isWithdrawalEndpoint(HttpServletRequest request) {
-    String path = request.getRequestURI();
-    String method = request.getMethod();
-    return "POST".equals(method)
-        && (path.matches(".*/api/v1/users/[^/]+/withdraw")
-            || path.matches(".*/api/v1/users/me/withdraw"));
+  private void authenticate(
+      HttpServletRequest request, VerifiedTokenCache.VerifiedToken verifiedToken) {
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new JwtAuthentication(
+                verifiedToken.userId(),
+                verifiedToken.role(),
+                verifiedToken.jti(),
+                verifiedToken.expiresAt(),
+                webDetails ? DETAILS_SOURCE.buildDetails(request) : null));
   }
 }
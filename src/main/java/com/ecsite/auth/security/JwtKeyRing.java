@@ -0,0 +1,346 @@
+package com.ecsite.auth.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.crypto.SecretKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWTの署名鍵と検証鍵の集合
+ *
+ * <p>{@code jwt.signing.algorithm} で署名方式を切り替えます。
+ *
+ * <ul>
+ *   <li>{@code HS256}: {@code jwt.secret} の共有鍵で署名・検証します（従来方式）。公開鍵セットは空です
+ *   <li>{@code ES256} / {@code EdDSA}: {@code jwt.signing.active-key-id} の秘密鍵で署名し、ヘッダーに {@code kid}
+ *       を付与します。 検証は {@code kid} に対応する公開鍵で行い、公開鍵は {@code /.well-known/jwks.json} で公開するため、
+ *       他サービスは本サービスを呼び出さずにトークンを検証できます
+ * </ul>
+ *
+ * <p>鍵は {@code jwt.signing.key-directory} に {@code <kid>.key}（PKCS#8形式の秘密鍵PEM）と {@code
+ * <kid>.pub}（X.509形式の公開鍵PEM）として配置します。 {@code .pub} のみの鍵は署名に使用せず、検証と公開のみに使用します。
+ * 鍵のローテーションは、新しい鍵の追加（公開のみ）→ {@code active-key-id} の切り替え → 旧鍵の {@code .key} の削除 →
+ * 旧鍵で署名したトークンの有効期限経過後に {@code .pub} を削除、の順に行い、新旧の鍵の有効期間を重ねます。
+ *
+ * <p>非対称鍵方式で {@code kid} のないトークンは、HS256方式から移行する間だけ {@code jwt.secret} で検証します（{@code
+ * jwt.signing.verify-legacy-hs256}、既定は無効）。 {@code jwt.secret} を知る者は誰でもこの形式のトークンを作成できるため、 有効にする場合は
+ * {@code jwt.signing.legacy-hs256-until} に移行の期限（ISO-8601形式の日時）を指定し、期限を過ぎたら拒否します。
+ */
+@Component
+@Slf4j
+public class JwtKeyRing {
+
+  static final String HS256 = "HS256";
+  static final String ES256 = "ES256";
+  static final String EDDSA = "EdDSA";
+
+  private final String algorithmId;
+  private final SecretKey secretKey;
+  private final Instant legacyHs256Until;
+  private final Supplier<Instant> clock;
+  private final SignatureAlgorithm signatureAlgorithm;
+  private final String activeKeyId;
+  private final PrivateKey activePrivateKey;
+  private final Map<String, PublicKey> publicKeys;
+  private final JwtParser parser;
+  private final String jwkSetJson;
+  private final String jwkSetETag;
+
+  @Autowired
+  public JwtKeyRing(
+      @Value("${jwt.signing.algorithm:HS256}") String algorithm,
+      @Value("${jwt.secret}") String secret,
+      @Value("${jwt.signing.key-directory:}") String keyDirectory,
+      @Value("${jwt.signing.active-key-id:}") String activeKeyId,
+      @Value("${jwt.signing.verify-legacy-hs256:false}") boolean verifyLegacyHs256,
+      @Value("${jwt.signing.legacy-hs256-until:}") String legacyHs256Until) {
+    this(
+        algorithm,
+        secret == null || secret.isEmpty() ? null : hmacKey(secret),
+        verifyLegacyHs256,
+        legacyHs256Until == null || legacyHs256Until.isEmpty()
+            ? null
+            : Instant.parse(legacyHs256Until),
+        loadKeys(algorithm, keyDirectory, activeKeyId),
+        activeKeyId);
+  }
+
+  private JwtKeyRing(
+      String algorithm,
+      SecretKey secretKey,
+      boolean verifyLegacyHs256,
+      Instant legacyHs256Until,
+      Map<String, KeyPair> keys,
+      String activeKeyId) {
+    // 鍵が1つだけの場合はactive-key-idを省略できる
+    this(
+        algorithm,
+        secretKey,
+        verifyLegacyHs256,
+        legacyHs256Until,
+        Instant::now,
+        activeKeyId.isEmpty() && keys.size() == 1 ? keys.keySet().iterator().next() : activeKeyId,
+        keys);
+  }
+
+  JwtKeyRing(
+      String algorithm,
+      SecretKey secretKey,
+      boolean verifyLegacyHs256,
+      String activeKeyId,
+      Map<String, KeyPair> keys) {
+    this(algorithm, secretKey, verifyLegacyHs256, null, Instant::now, activeKeyId, keys);
+  }
+
+  JwtKeyRing(
+      String algorithm,
+      SecretKey secretKey,
+      boolean verifyLegacyHs256,
+      Instant legacyHs256Until,
+      Supplier<Instant> clock,
+      String activeKeyId,
+      Map<String, KeyPair> keys) {
+    this.algorithmId = algorithm;
+    this.clock = clock;
+    if (HS256.equals(algorithm)) {
+      if (secretKey == null) {
+        throw new IllegalStateException("jwt.secret is required for HS256 signing");
+      }
+      this.secretKey = secretKey;
+      this.legacyHs256Until = null;
+      this.signatureAlgorithm = null;
+      this.activeKeyId = null;
+      this.activePrivateKey = null;
+      this.publicKeys = Map.of();
+      this.parser = Jwts.parser().verifyWith(secretKey).build();
+    } else {
+      this.signatureAlgorithm = signatureAlgorithm(algorithm);
+      this.secretKey = verifyLegacyHs256 ? secretKey : null;
+      this.legacyHs256Until = legacyHs256Until;
+      if (this.secretKey != null) {
+        if (legacyHs256Until == null) {
+          log.warn(
+              "Accepting tokens without kid signed with jwt.secret with no deadline; "
+                  + "set jwt.signing.legacy-hs256-until");
+        } else {
+          log.info(
+              "Accepting tokens without kid signed with jwt.secret until {}", legacyHs256Until);
+        }
+      }
+      KeyPair active = keys.get(activeKeyId);
+      if (active == null || active.getPrivate() == null) {
+        throw new IllegalStateException("No private key for active key id: " + activeKeyId);
+      }
+      this.activeKeyId = activeKeyId;
+      this.activePrivateKey = active.getPrivate();
+      Map<String, PublicKey> publicKeyMap = new LinkedHashMap<>();
+      keys.forEach((kid, pair) -> publicKeyMap.put(kid, pair.getPublic()));
+      this.publicKeys = Collections.unmodifiableMap(publicKeyMap);
+      this.parser = Jwts.parser().keyLocator(new KeyIdLocator()).build();
+    }
+    this.jwkSetJson = toJwkSetJson(publicKeys);
+    this.jwkSetETag = "\"" + sha256(jwkSetJson) + "\"";
+  }
+
+  /**
+   * HS256の共有鍵のみを持つ鍵セットを作成します。
+   *
+   * @param secret 共有鍵
+   * @return 鍵セット
+   */
+  public static JwtKeyRing hmac(String secret) {
+    return new JwtKeyRing(HS256, hmacKey(secret), false, null, Map.of());
+  }
+
+  /**
+   * 署名方式を返します。
+   *
+   * @return {@code HS256} / {@code ES256} / {@code EdDSA}
+   */
+  public String algorithm() {
+    return algorithmId;
+  }
+
+  /**
+   * 署名に使用する鍵のIDを返します。
+   *
+   * @return 鍵ID（HS256方式の場合はnull）
+   */
+  public String activeKeyId() {
+    return activeKeyId;
+  }
+
+  /**
+   * 公開鍵セット（JWKS）のJSONを返します。
+   *
+   * @return {@code {"keys":[...]}} 形式のJSON
+   */
+  public String jwkSetJson() {
+    return jwkSetJson;
+  }
+
+  /**
+   * 公開鍵セットのETag（JSONのSHA-256ダイジェスト）を返します。
+   *
+   * @return 引用符付きのETag
+   */
+  public String jwkSetETag() {
+    return jwkSetETag;
+  }
+
+  JwtBuilder sign(JwtBuilder builder) {
+    if (signatureAlgorithm == null) {
+      return builder.signWith(secretKey, Jwts.SIG.HS256);
+    }
+    return builder.header().keyId(activeKeyId).and().signWith(activePrivateKey, signatureAlgorithm);
+  }
+
+  JwtParser parser() {
+    return parser;
+  }
+
+  private static SignatureAlgorithm signatureAlgorithm(String algorithm) {
+    if (ES256.equals(algorithm)) {
+      return Jwts.SIG.ES256;
+    }
+    if (EDDSA.equals(algorithm)) {
+      return Jwts.SIG.EdDSA;
+    }
+    throw new IllegalArgumentException("Unsupported jwt.signing.algorithm: " + algorithm);
+  }
+
+  private static SecretKey hmacKey(String secret) {
+    return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static Map<String, KeyPair> loadKeys(
+      String algorithm, String keyDirectory, String activeKeyId) {
+    if (HS256.equals(algorithm)) {
+      return Map.of();
+    }
+    if (keyDirectory == null || keyDirectory.isEmpty()) {
+      // 鍵ディレクトリ未指定時は起動ごとに鍵を生成する。ノード間で鍵が異なるため単一ノードの開発環境専用
+      String kid = activeKeyId.isEmpty() ? UUID.randomUUID().toString() : activeKeyId;
+      log.warn(
+          "jwt.signing.key-directory is not set; generated ephemeral {} key: {}", algorithm, kid);
+      KeyPair keyPair =
+          EDDSA.equals(algorithm)
+              ? Jwks.CRV.Ed25519.keyPair().build()
+              : Jwts.SIG.ES256.keyPair().build();
+      return Map.of(kid, keyPair);
+    }
+
+    String keyAlgorithm = EDDSA.equals(algorithm) ? "Ed25519" : "EC";
+    Map<String, KeyPair> keys = new LinkedHashMap<>();
+    try (Stream<Path> files = Files.list(Path.of(keyDirectory))) {
+      for (Path pub : files.filter(p -> p.toString().endsWith(".pub")).sorted().toList()) {
+        String fileName = pub.getFileName().toString();
+        String kid = fileName.substring(0, fileName.length() - ".pub".length());
+        Path key = pub.resolveSibling(kid + ".key");
+        KeyFactory keyFactory = KeyFactory.getInstance(keyAlgorithm);
+        PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(readPem(pub)));
+        PrivateKey privateKey =
+            Files.exists(key)
+                ? keyFactory.generatePrivate(new PKCS8EncodedKeySpec(readPem(key)))
+                : null;
+        keys.put(kid, new KeyPair(publicKey, privateKey));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read JWT signing keys from " + keyDirectory, e);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Invalid JWT signing key in " + keyDirectory, e);
+    }
+    log.info("Loaded JWT keys {} (active: {})", keys.keySet(), activeKeyId);
+    return keys;
+  }
+
+  private static byte[] readPem(Path path) throws IOException {
+    String base64 =
+        Files.readAllLines(path, StandardCharsets.US_ASCII).stream()
+            .filter(line -> !line.startsWith("-----"))
+            .map(String::trim)
+            .collect(Collectors.joining());
+    return Base64.getDecoder().decode(base64);
+  }
+
+  private String toJwkSetJson(Map<String, PublicKey> publicKeys) {
+    return publicKeys.entrySet().stream()
+        .map(
+            e ->
+                Jwks.json(
+                    Jwks.builder()
+                        .key(e.getValue())
+                        .id(e.getKey())
+                        .algorithm(algorithmId)
+                        .publicKeyUse("sig")
+                        .build()))
+        .collect(Collectors.joining(",", "{\"keys\":[", "]}"));
+  }
+
+  private static String sha256(String value) {
+    try {
+      byte[] hash =
+          MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /** ヘッダーの {@code kid} から検証鍵を選択します。 */
+  private final class KeyIdLocator extends LocatorAdapter<Key> {
+
+    @Override
+    protected Key locate(JwsHeader header) {
+      String kid = header.getKeyId();
+      if (kid == null) {
+        if (secretKey == null) {
+          throw new UnsupportedJwtException("Token has no key id");
+        }
+        if (legacyHs256Until != null && !clock.get().isBefore(legacyHs256Until)) {
+          throw new UnsupportedJwtException(
+              "Tokens without key id are no longer accepted (since " + legacyHs256Until + ")");
+        }
+        return secretKey;
+      }
+      PublicKey publicKey = publicKeys.get(kid);
+      if (publicKey == null) {
+        throw new UnsupportedJwtException("Unknown signing key id: " + kid);
+      }
+      return publicKey;
+    }
+  }
+}
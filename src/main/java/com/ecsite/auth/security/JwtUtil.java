@@ -1,32 +1,52 @@
 package com.ecsite.auth.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
-import javax.crypto.SecretKey;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * JWTトークンの生成・検証ユーティリティ
+ *
+ * <p>署名鍵と {@link JwtParser} は起動時に一度だけ構築し、以降は全リクエストで共有します。 いずれもイミュータブルかつスレッドセーフなため、
+ * リクエストごとの鍵生成やパーサー構築によるアロケーションを発生させません。 署名方式と鍵は {@link JwtKeyRing} で管理します。
+ */
 @Component
 public class JwtUtil {
 
-  @Value("${jwt.secret}")
-  private String secret;
-
-  @Value("${jwt.access-token-expiration}")
-  private long accessTokenExpiration;
-
-  @Value("${jwt.refresh-token-expiration}")
-  private long refreshTokenExpiration;
+  private static final long EMAIL_VERIFICATION_TOKEN_EXPIRATION = 86400000; // 24 hours
+
+  private final JwtKeyRing keyRing;
+  private final JwtParser jwtParser;
+  private final long accessTokenExpiration;
+  private final long refreshTokenExpiration;
+
+  @Autowired
+  public JwtUtil(
+      JwtKeyRing keyRing,
+      @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
+      @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+    this.keyRing = keyRing;
+    this.jwtParser = keyRing.parser();
+    this.accessTokenExpiration = accessTokenExpiration;
+    this.refreshTokenExpiration = refreshTokenExpiration;
+  }
 
-  private SecretKey getSigningKey() {
-    return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+  /**
+   * HS256の共有鍵で署名・検証するインスタンスを作成します。
+   *
+   * @param secret 共有鍵
+   * @param accessTokenExpiration アクセストークンの有効期間（ミリ秒）
+   * @param refreshTokenExpiration リフレッシュトークンの有効期間（ミリ秒）
+   */
+  public JwtUtil(String secret, long accessTokenExpiration, long refreshTokenExpiration) {
+    this(JwtKeyRing.hmac(secret), accessTokenExpiration, refreshTokenExpiration);
   }
 
   public String generateAccessToken(UUID userId, String email, String role) {
@@ -37,26 +57,25 @@ public class JwtUtil {
     claims.put("type", "ACCESS");
     claims.put("jti", UUID.randomUUID().toString());
 
-    return Jwts.builder()
-        .setClaims(claims)
-        .setIssuedAt(new Date())
-        .setExpiration(new Date(System.currentTimeMillis() + accessTokenExpiration))
-        .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-        .compact();
+    return sign(claims, accessTokenExpiration);
   }
 
-  public String generateRefreshToken(UUID userId) {
+  /**
+   * リフレッシュトークンファミリーに属するリフレッシュトークンを生成します。
+   *
+   * @param userId ユーザーID
+   * @param familyId ファミリーID（{@code fid} クレーム）
+   * @param jti トークンID
+   * @return リフレッシュトークン
+   */
+  public String generateRefreshToken(UUID userId, UUID familyId, UUID jti) {
     Map<String, Object> claims = new HashMap<>();
     claims.put("sub", userId.toString());
     claims.put("type", "REFRESH");
-    claims.put("jti", UUID.randomUUID().toString());
+    claims.put("fid", familyId.toString());
+    claims.put("jti", jti.toString());
 
-    return Jwts.builder()
-        .setClaims(claims)
-        .setIssuedAt(new Date())
-        .setExpiration(new Date(System.currentTimeMillis() + refreshTokenExpiration))
-        .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-        .compact();
+    return sign(claims, refreshTokenExpiration);
   }
 
   public String generateEmailVerificationToken(UUID userId, String email) {
@@ -66,16 +85,11 @@ public class JwtUtil {
     claims.put("type", "EMAIL_VERIFICATION");
     claims.put("jti", UUID.randomUUID().toString());
 
-    return Jwts.builder()
-        .setClaims(claims)
-        .setIssuedAt(new Date())
-        .setExpiration(new Date(System.currentTimeMillis() + 86400000)) // 24 hours
-        .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-        .compact();
+    return sign(claims, EMAIL_VERIFICATION_TOKEN_EXPIRATION);
   }
 
   public Claims validateToken(String token) {
-    return Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token).getPayload();
+    return jwtParser.parseSignedClaims(token).getPayload();
   }
 
   public UUID getUserIdFromToken(String token) {
@@ -96,4 +110,19 @@ public class JwtUtil {
       return true;
     }
   }
+
+  public long getRefreshTokenExpiration() {
+    return refreshTokenExpiration;
+  }
+
+  private String sign(Map<String, Object> claims, long expirationMillis) {
+    long now = System.currentTimeMillis();
+    return keyRing
+        .sign(
+            Jwts.builder()
+                .claims(claims)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + expirationMillis)))
+        .compact();
+  }
 }
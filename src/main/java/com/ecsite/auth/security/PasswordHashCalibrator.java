@@ -0,0 +1,101 @@
+package com.ecsite.auth.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * BCryptコストのキャリブレーション
+ *
+ * <p>起動完了後にバックグラウンドでBCryptのコストごとの照合時間を計測し、設定したレイテンシ予算（{@code
+ * password-hashing.calibration.latency-budget}）内に収まる最大のコストを報告します。 結果はログと {@code
+ * password.hashing.calibrated.cost} ゲージで確認でき、{@code password-hashing.bcrypt-strength} の調整に使用します。
+ * 設定値は自動では変更しません。
+ */
+@Component
+@ConditionalOnProperty(name = "password-hashing.calibration.enabled", havingValue = "true")
+@Slf4j
+public class PasswordHashCalibrator {
+
+  static final int MIN_COST = 10;
+  static final int MAX_COST = 16;
+
+  private static final String SAMPLE_PASSWORD = "Calibration-Sample-Password-1!";
+  private static final int SAMPLES = 3;
+
+  private final PasswordHashPolicy passwordHashPolicy;
+  private final Duration latencyBudget;
+  private final AtomicInteger calibratedCost = new AtomicInteger(-1);
+
+  public PasswordHashCalibrator(
+      PasswordHashPolicy passwordHashPolicy,
+      MeterRegistry meterRegistry,
+      @Value("${password-hashing.calibration.latency-budget:250ms}") Duration latencyBudget) {
+    this.passwordHashPolicy = passwordHashPolicy;
+    this.latencyBudget = latencyBudget;
+    Gauge.builder("password.hashing.calibrated.cost", calibratedCost, AtomicInteger::get)
+        .register(meterRegistry);
+  }
+
+  /** 起動完了後、リクエスト処理を妨げないよう別スレッドでキャリブレーションを実行します。 */
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    Thread thread = new Thread(this::calibrate, "password-hash-calibration");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * レイテンシ予算内に収まる最大のBCryptコストを計測します。
+   *
+   * @return 推奨コスト（最小コストでも予算を超える場合は {@value #MIN_COST}）
+   */
+  public int calibrate() {
+    int recommended = MIN_COST;
+    for (int cost = MIN_COST; cost <= MAX_COST; cost++) {
+      Duration elapsed = measure(cost);
+      log.info("BCrypt calibration: cost {} takes {} ms", cost, elapsed.toMillis());
+      if (elapsed.compareTo(latencyBudget) > 0) {
+        break;
+      }
+      recommended = cost;
+    }
+
+    calibratedCost.set(recommended);
+    if (recommended != passwordHashPolicy.getBcryptStrength()) {
+      log.warn(
+          "Configured bcrypt strength {} differs from calibrated cost {} (latency budget: {} ms)",
+          passwordHashPolicy.getBcryptStrength(),
+          recommended,
+          latencyBudget.toMillis());
+    } else {
+      log.info(
+          "Configured bcrypt strength {} matches latency budget {} ms",
+          recommended,
+          latencyBudget.toMillis());
+    }
+    return recommended;
+  }
+
+  private static Duration measure(int cost) {
+    BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+    String hash = encoder.encode(SAMPLE_PASSWORD);
+    long[] samples = new long[SAMPLES];
+    for (int i = 0; i < SAMPLES; i++) {
+      long start = System.nanoTime();
+      encoder.matches(SAMPLE_PASSWORD, hash);
+      samples[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(samples);
+    return Duration.ofNanos(samples[SAMPLES / 2]);
+  }
+}
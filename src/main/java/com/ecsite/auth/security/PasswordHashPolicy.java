@@ -0,0 +1,94 @@
+package com.ecsite.auth.security;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * パスワードハッシュ方式のポリシー
+ *
+ * <p>新規ハッシュに使用するアルゴリズム（bcrypt / argon2）とBCryptのコストを保持し、 {@link DelegatingPasswordEncoder}
+ * を構築します。保存済みハッシュは {@code {id}} プレフィックスでアルゴリズムを判別し、プレフィックスのない既存ハッシュはBCryptとして照合します。
+ *
+ * <p>{@link #needsRehash(String)} は、保存済みハッシュのアルゴリズムまたはコストが現在のターゲットと異なる場合にtrueを返します。
+ * BCryptのコストは引き上げ・引き下げの両方向で検出するため、ハードウェアに合わせてコストを調整してもパスワードリセットは不要です。
+ */
+public class PasswordHashPolicy {
+
+  public static final String BCRYPT = "bcrypt";
+  public static final String ARGON2 = "argon2";
+
+  private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[abxy]?\\$(\\d\\d)\\$.{53}$");
+
+  private final String algorithm;
+  private final int bcryptStrength;
+  private final Map<String, PasswordEncoder> encoders;
+
+  public PasswordHashPolicy(String algorithm, int bcryptStrength) {
+    if (!BCRYPT.equals(algorithm) && !ARGON2.equals(algorithm)) {
+      throw new IllegalArgumentException("Unsupported password hashing algorithm: " + algorithm);
+    }
+    this.algorithm = algorithm;
+    this.bcryptStrength = bcryptStrength;
+    this.encoders =
+        Map.of(
+            BCRYPT,
+            new BCryptPasswordEncoder(bcryptStrength),
+            ARGON2,
+            Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+  }
+
+  /**
+   * ターゲットのアルゴリズムでエンコードし、既存の全方式で照合できるエンコーダーを生成します。
+   *
+   * @return パスワードエンコーダー
+   */
+  public PasswordEncoder createEncoder() {
+    DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm, encoders);
+    encoder.setDefaultPasswordEncoderForMatches(encoders.get(BCRYPT));
+    return encoder;
+  }
+
+  /**
+   * 保存済みハッシュを現在のポリシーで再ハッシュすべきかを判定します。
+   *
+   * @param encodedPassword 保存済みハッシュ
+   * @return アルゴリズムまたはコストがターゲットと異なる場合true
+   */
+  public boolean needsRehash(String encodedPassword) {
+    if (encodedPassword == null) {
+      return false;
+    }
+    String id = BCRYPT;
+    String hash = encodedPassword;
+    if (encodedPassword.startsWith("{")) {
+      int end = encodedPassword.indexOf('}');
+      if (end < 0) {
+        return false;
+      }
+      id = encodedPassword.substring(1, end);
+      hash = encodedPassword.substring(end + 1);
+    }
+
+    if (!algorithm.equals(id)) {
+      return true;
+    }
+    if (BCRYPT.equals(id)) {
+      Matcher matcher = BCRYPT_HASH.matcher(hash);
+      return matcher.matches() && Integer.parseInt(matcher.group(1)) != bcryptStrength;
+    }
+    return encoders.get(id).upgradeEncoding(hash);
+  }
+
+  public String getAlgorithm() {
+    return algorithm;
+  }
+
+  public int getBcryptStrength() {
+    return bcryptStrength;
+  }
+}
@@ -0,0 +1,125 @@
+package com.ecsite.auth.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * セキュリティ上の経路分類
+ *
+ * <p>認可と認証フィルターで扱いが異なる経路を1つの表にまとめ、起動時に {@link PathPattern} へコンパイルします。
+ * リクエストごとの判定はパスの解析1回と表の先頭からの照合のみで、正規表現のコンパイルは行いません。
+ *
+ * <p>{@link com.ecsite.auth.config.SecurityConfig} の認証不要経路と {@link JwtAuthenticationFilter}
+ * の退会エンドポイント判定は、いずれもこの表を参照します。 経路を追加する場合はこの表のみを変更してください。
+ */
+@Component
+public class RouteClassifier {
+
+  /** 経路の分類 */
+  public enum Category {
+    /** 認証不要の公開API */
+    PUBLIC,
+    /** Actuator（ヘルスチェック・メトリクス） */
+    ACTUATOR,
+    /** 退会API（退会処理中のユーザーのトークンも受け付ける） */
+    WITHDRAWAL,
+    /** 認証が必要なAPI */
+    AUTHENTICATED;
+
+    /**
+     * 認証なしでアクセスできるかを返します。
+     *
+     * @return PUBLICまたはACTUATORの場合true
+     */
+    public boolean isPermitAll() {
+      return this == PUBLIC || this == ACTUATOR;
+    }
+  }
+
+  private static final String CLASSIFICATION_ATTRIBUTE =
+      RouteClassifier.class.getName() + ".CLASSIFICATION";
+
+  private static final PathPatternParser PARSER = new PathPatternParser();
+
+  // 先頭から順に照合し、最初に一致した分類を返す
+  private static final List<Route> ROUTES =
+      List.of(
+          route(null, "/api/v1/auth/register", Category.PUBLIC),
+          route(null, "/api/v1/auth/login", Category.PUBLIC),
+          route(null, "/api/v1/auth/refresh", Category.PUBLIC),
+          route(null, "/api/v1/auth/introspect", Category.PUBLIC),
+          route(null, "/api/v1/auth/verify-email", Category.PUBLIC),
+          route(null, "/api/v1/auth/forgot-password", Category.PUBLIC),
+          route(null, "/api/v1/auth/reset-password", Category.PUBLIC),
+          route(null, "/api/v1/会員登録", Category.PUBLIC),
+          route(null, "/.well-known/jwks.json", Category.PUBLIC),
+          route(null, "/actuator/**", Category.ACTUATOR),
+          route(HttpMethod.POST, "/api/v1/users/{id}/withdraw", Category.WITHDRAWAL));
+
+  /**
+   * リクエストの経路を分類します。
+   *
+   * <p>分類結果はリクエスト属性に保持し、同じリクエストに対する認証フィルターと認可の判定で再利用します。 フォワードなどでURIが変わった場合は分類し直します。
+   *
+   * @param request HTTPリクエスト
+   * @return 経路の分類。表に一致しない場合は {@link Category#AUTHENTICATED}
+   */
+  public Category classify(HttpServletRequest request) {
+    String uri = request.getRequestURI();
+    String method = request.getMethod();
+    if (request.getAttribute(CLASSIFICATION_ATTRIBUTE) instanceof Classification cached
+        && cached.uri().equals(uri)
+        && cached.method().equals(method)) {
+      return cached.category();
+    }
+    String contextPath = request.getContextPath();
+    String path =
+        contextPath.isEmpty() || !uri.startsWith(contextPath)
+            ? uri
+            : uri.substring(contextPath.length());
+    Category category = classify(method, path);
+    request.setAttribute(CLASSIFICATION_ATTRIBUTE, new Classification(uri, method, category));
+    return category;
+  }
+
+  /**
+   * HTTPメソッドとパス（コンテキストパスを除く）から経路を分類します。
+   *
+   * @param method HTTPメソッド
+   * @param path パス（URLエンコード済みでも可）
+   * @return 経路の分類
+   */
+  public Category classify(String method, String path) {
+    PathContainer pathContainer = PathContainer.parsePath(path);
+    for (Route route : ROUTES) {
+      if ((route.method() == null || route.method().matches(method))
+          && route.pattern().matches(pathContainer)) {
+        return route.category();
+      }
+    }
+    return Category.AUTHENTICATED;
+  }
+
+  /**
+   * 認証なしでアクセスできる経路かを判定します。
+   *
+   * @param request HTTPリクエスト
+   * @return 認証不要の経路の場合true
+   */
+  public boolean isPermitAll(HttpServletRequest request) {
+    return classify(request).isPermitAll();
+  }
+
+  private static Route route(HttpMethod method, String pattern, Category category) {
+    return new Route(method, PARSER.parse(pattern), category);
+  }
+
+  private record Route(HttpMethod method, PathPattern pattern, Category category) {}
+
+  private record Classification(String uri, String method, Category category) {}
+}
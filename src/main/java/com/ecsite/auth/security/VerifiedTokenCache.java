@@ -0,0 +1,128 @@
+package com.ecsite.auth.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 検証済みJWTトークンキャッシュ
+ *
+ * <p>同一のアクセストークンは有効期限内に何度も提示されるため、署名検証済みのクレーム（subject / role / jti / exp / type）を保持し、
+ * 2回目以降のHMAC検証とJSONパースを省略します。
+ *
+ * <ul>
+ *   <li>キーは生トークンのSHA-256ダイジェスト（トークン文字列そのものはヒープに保持しない）
+ *   <li>各エントリはトークンの {@code exp} 時刻で失効
+ *   <li>最大件数を超えた場合はW-TinyLFU（Caffeine）で退避
+ *   <li>ヒット / ミス / 退避件数はMicrometerの {@code cache.*} メトリクスとして公開
+ * </ul>
+ */
+@Component
+public class VerifiedTokenCache {
+
+  static final String CACHE_NAME = "jwt.verified-tokens";
+
+  private final JwtUtil jwtUtil;
+  private final Cache<String, VerifiedToken> cache;
+
+  public VerifiedTokenCache(
+      JwtUtil jwtUtil,
+      MeterRegistry meterRegistry,
+      @Value("${jwt.verified-token-cache.maximum-size:10000}") long maximumSize) {
+    this.jwtUtil = jwtUtil;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new TokenExpiry())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * トークンを検証し、検証済みクレームを返します。
+   *
+   * <p>キャッシュに存在する場合は署名検証を行いません。存在しない場合は {@link JwtUtil#validateToken(String)} で検証し、結果をキャッシュします。
+   *
+   * @param token 生のJWTトークン文字列
+   * @return 検証済みクレーム
+   * @throws io.jsonwebtoken.JwtException トークンが不正または期限切れの場合
+   */
+  public VerifiedToken verify(String token) {
+    return cache.get(digest(token), key -> parse(token));
+  }
+
+  /**
+   * キャッシュされている件数（概算）を返します。
+   *
+   * @return キャッシュ件数
+   */
+  public long size() {
+    return cache.estimatedSize();
+  }
+
+  private VerifiedToken parse(String token) {
+    Claims claims = jwtUtil.validateToken(token);
+    return new VerifiedToken(
+        claims.getSubject(),
+        claims.get("role", String.class),
+        claims.getId(),
+        claims.getExpiration().toInstant(),
+        claims.get("type", String.class));
+  }
+
+  private static String digest(String token) {
+    try {
+      MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().withoutPadding().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /**
+   * 検証済みトークンのクレーム
+   *
+   * @param userId ユーザーID（subject）
+   * @param role ロール
+   * @param jti トークンID
+   * @param expiresAt 有効期限
+   * @param type トークン種別（ACCESS / REFRESH / EMAIL_VERIFICATION）
+   */
+  public record VerifiedToken(
+      String userId, String role, String jti, Instant expiresAt, String type) {}
+
+  /** エントリの有効期間をトークンの {@code exp} までに制限します。 */
+  private static final class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+      long remainingMillis = value.expiresAt().toEpochMilli() - System.currentTimeMillis();
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(
+        String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
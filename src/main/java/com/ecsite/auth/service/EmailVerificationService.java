@@ -1,5 +1,6 @@
 package com.ecsite.auth.service;
 
+import com.ecsite.auth.cache.UserStatusCache;
 import com.ecsite.auth.entity.EmailVerificationToken;
 import com.ecsite.auth.entity.User;
 import com.ecsite.auth.repository.EmailVerificationTokenRepository;
@@ -24,6 +25,7 @@ public class EmailVerificationService {
   private final EmailVerificationTokenRepository tokenRepository;
   private final UserRepository userRepository;
   private final NotificationService notificationService;
+  private final UserStatusCache userStatusCache;
 
   private static final int TOKEN_EXPIRATION_HOURS = 24;
 
@@ -47,7 +49,7 @@ public class EmailVerificationService {
     log.info("Email verification token saved for user: {}", user.getId());
 
     notificationService.sendVerificationEmail(user.getEmail(), tokenValue);
-    log.info("Verification email notification sent for user: {}", user.getId());
+    log.info("Verification email notification queued for user: {}", user.getId());
 
     return tokenValue;
   }
@@ -82,6 +84,7 @@ public class EmailVerificationService {
     }
 
     userRepository.save(user);
+    userStatusCache.invalidate(user.getId());
 
     token.setVerifiedAt(LocalDateTime.now());
     tokenRepository.save(token);
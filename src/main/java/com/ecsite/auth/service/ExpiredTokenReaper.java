@@ -0,0 +1,232 @@
+package com.ecsite.auth.service;
+
+import com.ecsite.auth.scheduling.PeriodicTask;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 期限切れのメール認証・パスワードリセットトークン、リフレッシュトークンファミリー、配信に失敗した通知の削除処理
+ *
+ * <p>メール認証・パスワードリセットトークンのテーブルは日単位でパーティション化されており、期限切れのトークンは {@link TokenPartitionMaintainer}
+ * がパーティションごと削除します。 この処理は、日単位のパーティションがない期間に作成されDEFAULTパーティション（{@code <テーブル名>_default}）
+ * に入ったトークンと、パーティション化されていないリフレッシュトークンファミリー（失効済みを含む）を対象とします。
+ *
+ * <p>専用スレッドが {@code tokens.reaper.interval} ごとに、有効期限から {@code retention} が経過した行を {@code batch-size}
+ * 件ずつ削除します。 使用済みのトークンも有効期限（24時間）を過ぎれば削除対象になります。 対象は {@code expires_at} のインデックスで取得し、{@code FOR
+ * UPDATE SKIP LOCKED} で他ノードが削除中の行を飛ばします。
+ *
+ * <p>再送を止めた（FAILEDの）通知も、失敗から {@code notification.outbox.failed-retention} が経過したら同じ方法で削除します。
+ * 通知にはメールアドレスや有効期限内のトークンが含まれるため、調査に必要な期間を過ぎたら保持しません。
+ *
+ * <p>大量の行を一度に削除するとデッドタプルが急増し、autovacuumの負荷やインデックスの肥大化を招くため、 バッチごとにコミットしてバッチの間に {@code batch-pause}
+ * の待ちを入れ、1回の処理で削除する件数を {@code max-rows-per-run} 件までに制限します。 残りは次回の処理で削除します。
+ *
+ * <p>メトリクス:
+ *
+ * <ul>
+ *   <li>{@code tokens.reaper.deleted}: 削除した行数（{@code table} タグ付き）
+ *   <li>{@code tokens.reaper.batch}: 1バッチの削除時間
+ *   <li>{@code tokens.reaper.failures}: DBエラーで処理が中断した回数
+ *   <li>{@code tokens.table.size}: 全パーティションのテーブルとインデックスの合計サイズ（バイト、{@code table} タグ付き）
+ *   <li>{@code tokens.table.live-rows} / {@code tokens.table.dead-rows}:
+ *       全パーティションの統計情報上の有効な行数とデッドタプル数
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "tokens.reaper.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ExpiredTokenReaper implements PeriodicTask {
+
+  static final List<String> TABLES =
+      List.of("email_verification_tokens", "password_reset_tokens", "refresh_token_families");
+
+  /** 日単位でパーティション化されたテーブル（DEFAULTパーティションのみを対象とする） */
+  static final Set<String> PARTITIONED_TABLES =
+      Set.of("email_verification_tokens", "password_reset_tokens");
+
+  static final String NOTIFICATION_OUTBOX = "notification_outbox";
+
+  private static final String FAILED_NOTIFICATIONS_SQL =
+      "DELETE FROM auth_schema.notification_outbox WHERE id IN (SELECT id"
+          + " FROM auth_schema.notification_outbox WHERE status = 'FAILED' AND next_attempt_at < ?"
+          + " ORDER BY next_attempt_at LIMIT ? FOR UPDATE SKIP LOCKED)";
+
+  private static final String STATS_SQL =
+      "SELECT t.name, SUM(pg_total_relation_size(p.relid)), COALESCE(SUM(s.n_live_tup), 0), "
+          + "COALESCE(SUM(s.n_dead_tup), 0) FROM unnest(ARRAY['"
+          + String.join("', '", TABLES)
+          + "']) AS t(name) "
+          + "CROSS JOIN LATERAL (SELECT ('auth_schema.' || t.name)::regclass AS root) r "
+          // pg_partition_tree()はパーティション化されていないテーブルに対しては行を返さない
+          + "CROSS JOIN LATERAL (SELECT relid FROM pg_partition_tree(r.root) UNION SELECT r.root) p"
+          + " LEFT JOIN pg_stat_user_tables s ON s.relid = p.relid GROUP BY t.name";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final MeterRegistry meterRegistry;
+  private final int batchSize;
+  private final Duration batchPause;
+  private final long maxRowsPerRun;
+  private final Duration retention;
+  private final Duration failedNotificationRetention;
+  private final Duration interval;
+  private final Counter failureCounter;
+  private final Timer batchTimer;
+  private final Map<String, TableStats> tableStats = new ConcurrentHashMap<>();
+  private final Object reapLock = new Object();
+
+  public ExpiredTokenReaper(
+      JdbcTemplate jdbcTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${tokens.reaper.batch-size:1000}") int batchSize,
+      @Value("${tokens.reaper.batch-pause:100ms}") Duration batchPause,
+      @Value("${tokens.reaper.max-rows-per-run:100000}") long maxRowsPerRun,
+      @Value("${tokens.reaper.retention:1d}") Duration retention,
+      @Value("${notification.outbox.failed-retention:7d}") Duration failedNotificationRetention,
+      @Value("${tokens.reaper.interval:10m}") Duration interval) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.meterRegistry = meterRegistry;
+    this.batchSize = batchSize;
+    this.batchPause = batchPause;
+    this.maxRowsPerRun = maxRowsPerRun;
+    this.retention = retention;
+    this.failedNotificationRetention = failedNotificationRetention;
+    this.interval = interval;
+    this.failureCounter = meterRegistry.counter("tokens.reaper.failures");
+    this.batchTimer = meterRegistry.timer("tokens.reaper.batch");
+    for (String table : TABLES) {
+      TableStats stats = new TableStats();
+      tableStats.put(table, stats);
+      Gauge.builder("tokens.table.size", stats, s -> s.sizeBytes)
+          .tag("table", table)
+          .baseUnit("bytes")
+          .register(meterRegistry);
+      Gauge.builder("tokens.table.live-rows", stats, s -> s.liveRows)
+          .tag("table", table)
+          .register(meterRegistry);
+      Gauge.builder("tokens.table.dead-rows", stats, s -> s.deadRows)
+          .tag("table", table)
+          .register(meterRegistry);
+    }
+  }
+
+  /**
+   * 期限切れの行を、テーブルごとに最大 {@code max-rows-per-run} 件まで削除します。
+   *
+   * <p>通常は専用スレッドから呼び出されます。
+   *
+   * @return 削除した行数
+   */
+  public long reap() {
+    synchronized (reapLock) {
+      LocalDateTime now = LocalDateTime.now();
+      Timestamp cutoff = Timestamp.valueOf(now.minus(retention));
+      long total = 0;
+      for (String table : TABLES) {
+        total += reap(table, expiredRowsSql(table), cutoff);
+      }
+      total +=
+          reap(
+              NOTIFICATION_OUTBOX,
+              FAILED_NOTIFICATIONS_SQL,
+              Timestamp.valueOf(now.minus(failedNotificationRetention)));
+      refreshTableStats();
+      return total;
+    }
+  }
+
+  private static String expiredRowsSql(String table) {
+    String relation = PARTITIONED_TABLES.contains(table) ? table + "_default" : table;
+    return "DELETE FROM auth_schema."
+        + relation
+        + " WHERE id IN (SELECT id FROM auth_schema."
+        + relation
+        + " WHERE expires_at < ? ORDER BY expires_at LIMIT ? FOR UPDATE SKIP LOCKED)";
+  }
+
+  private long reap(String table, String sql, Timestamp cutoff) {
+    Counter deletedCounter = meterRegistry.counter("tokens.reaper.deleted", "table", table);
+    long total = 0;
+    while (total < maxRowsPerRun) {
+      int limit = (int) Math.min(batchSize, maxRowsPerRun - total);
+      Integer deleted = batchTimer.record(() -> jdbcTemplate.update(sql, cutoff, limit));
+      deletedCounter.increment(deleted);
+      total += deleted;
+      if (deleted < limit || !pause()) {
+        break;
+      }
+    }
+    if (total > 0) {
+      log.info("Deleted {} expired rows from {}", total, table);
+    }
+    return total;
+  }
+
+  /** テーブルサイズとデッドタプル数のメトリクスを更新します。 */
+  void refreshTableStats() {
+    jdbcTemplate.query(
+        STATS_SQL,
+        rs -> {
+          TableStats stats = tableStats.get(rs.getString(1));
+          if (stats != null) {
+            stats.sizeBytes = rs.getLong(2);
+            stats.liveRows = rs.getLong(3);
+            stats.deadRows = rs.getLong(4);
+          }
+        });
+  }
+
+  private boolean pause() {
+    if (batchPause.isZero()) {
+      return true;
+    }
+    try {
+      Thread.sleep(batchPause.toMillis());
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  @Override
+  public String threadName() {
+    return "expired-token-reaper";
+  }
+
+  @Override
+  public Duration interval() {
+    return interval;
+  }
+
+  @Override
+  public void runOnce() {
+    try {
+      reap();
+    } catch (DataAccessException e) {
+      failureCounter.increment();
+      log.warn("Failed to delete expired tokens: {}", e.getMessage());
+    }
+  }
+
+  /** テーブルごとの統計情報 */
+  private static final class TableStats {
+    private volatile long sizeBytes;
+    private volatile long liveRows;
+    private volatile long deadRows;
+  }
+}
@@ -8,9 +8,7 @@ import com.ecsite.auth.security.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * ユーザーログイン認証サービス
@@ -20,8 +18,9 @@ import org.springframework.transaction.annotation.Transactional;
  * <p>セキュリティ考慮事項:
  *
  * <ul>
- *   <li>パスワード検証にBCryptを使用（strength 12）
+ *   <li>パスワード検証にBCryptを使用（strength 12）。検証は {@link PasswordHashingService} の専用スレッドプールで実行
  *   <li>ユーザー列挙攻撃対策として汎用エラーメッセージを返す
+ *   <li>未登録メールアドレスでも同じコストのダミー照合を行い、応答時間を揃える
  *   <li>ACTIVEステータスのユーザーのみログイン許可
  * </ul>
  *
@@ -36,7 +35,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class LoginService {
 
   private final UserRepository userRepository;
-  private final BCryptPasswordEncoder passwordEncoder;
+  private final PasswordHashingService passwordHashingService;
+  private final PasswordRehashService passwordRehashService;
+  private final RefreshTokenService refreshTokenService;
   private final JwtUtil jwtUtil;
 
   /**
@@ -48,31 +49,33 @@ public class LoginService {
    *   <li>メールアドレスでユーザーを検索
    *   <li>パスワードをBCryptで検証
    *   <li>ユーザーステータスがACTIVEであることを確認
-   *   <li>アクセストークンとリフレッシュトークンを生成
+   *   <li>ハッシュのアルゴリズム・コストが現在の設定と異なる場合、バックグラウンドで再ハッシュ
+   *   <li>アクセストークンを生成し、新しいリフレッシュトークンファミリーを作成
    * </ol>
    *
+   * <p>パスワード照合中にDBコネクションを保持しないよう、このメソッド自体はトランザクションを開始しません。
+   *
    * <p>セキュリティ上の理由により、ユーザー未発見とパスワード不一致は 同じエラーメッセージ "Invalid email or password" を返す。
    * これによりユーザー列挙攻撃を防ぐ。
    *
    * @param request ログインリクエスト（メール、パスワード、rememberMeフラグ）。nullは許可されない。
    * @return JWTトークンとユーザー情報を含む {@link LoginResponse}
    * @throws BadCredentialsException ユーザーが存在しない、パスワードが不正、 またはユーザーステータスがACTIVEでない場合
+   * @throws com.ecsite.auth.exception.PasswordHashingOverloadedException ハッシュ処理のキューが満杯の場合
    * @since 1.0
    */
-  @Transactional(readOnly = true)
   public LoginResponse authenticateUser(LoginRequest request) {
     log.info("Authentication attempt for email: {}", request.getEmail());
 
-    User user =
-        userRepository
-            .findByEmail(request.getEmail())
-            .orElseThrow(
-                () -> {
-                  log.warn("Authentication failed: User not found - {}", request.getEmail());
-                  return new BadCredentialsException("Invalid email or password");
-                });
+    User user = userRepository.findByEmail(request.getEmail()).orElse(null);
+    if (user == null) {
+      // 実在ユーザーと同じコストのダミー照合を行い、応答時間によるユーザー列挙を防ぐ
+      passwordHashingService.matchesDummy(request.getPassword());
+      log.warn("Authentication failed: User not found - {}", request.getEmail());
+      throw new BadCredentialsException("Invalid email or password");
+    }
 
-    if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+    if (!passwordHashingService.matches(request.getPassword(), user.getPasswordHash())) {
       log.warn("Authentication failed: Invalid password for user - {}", request.getEmail());
       throw new BadCredentialsException("Invalid email or password");
     }
@@ -85,8 +88,11 @@ public class LoginService {
 
     log.info("Authentication successful for user: {}", user.getId());
 
+    passwordRehashService.rehashIfNeeded(
+        user.getId(), request.getPassword(), user.getPasswordHash());
+
     String accessToken = jwtUtil.generateAccessToken(user.getId(), user.getEmail(), "USER");
-    String refreshToken = jwtUtil.generateRefreshToken(user.getId());
+    String refreshToken = refreshTokenService.issue(user.getId());
 
     LoginResponse.UserInfo userInfo =
         LoginResponse.UserInfo.builder()
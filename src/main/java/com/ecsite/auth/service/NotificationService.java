@@ -1,61 +1,82 @@
 package com.ecsite.auth.service;
 
+import com.ecsite.auth.entity.NotificationOutbox;
+import com.ecsite.auth.repository.NotificationOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 通知サービス
  *
- * <p>Notification Serviceとの連携を提供します。 現在はログ出力のみで、実際のNotification Service連携は今後実装予定です。
+ * <p>通知を {@code auth_schema.notification_outbox} に保存します。 呼び出し元のトランザクションで保存するため、
+ * 業務データの変更がロールバックされた場合は通知も送信されず、送信処理の間DB接続や行ロックを保持することもありません。 実際の送信はコミット後に {@link
+ * com.ecsite.auth.notification.NotificationOutboxDispatcher} が {@link
+ * com.ecsite.auth.notification.NotificationTransport} を通じて行います。
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
 
+  private final NotificationOutboxRepository outboxRepository;
+  private final ObjectMapper objectMapper;
+
   /**
-   * メール認証用のメールを送信します。
-   *
-   * <p>現在はログ出力のみで、実際のNotification Service連携は今後実装予定です。
+   * メール認証用のメールの送信を予約します。
    *
    * @param email 送信先メールアドレス
    * @param token 認証トークン
    */
+  @Transactional
   public void sendVerificationEmail(String email, String token) {
-    log.info("Sending verification email to: {}", email);
-    log.info("Verification token: {}", token);
-    log.info("Verification URL: http://localhost:8081/api/v1/auth/verify-email?token={}", token);
+    enqueue(NotificationOutbox.Type.VERIFICATION_EMAIL, email, Map.of("token", token));
   }
 
   /**
-   * パスワードリセット用のメールを送信します。
-   *
-   * <p>現在はログ出力のみで、実際のNotification Service連携は今後実装予定です。
+   * パスワードリセット用のメールの送信を予約します。
    *
    * @param email 送信先メールアドレス
    * @param token パスワードリセットトークン
    */
+  @Transactional
   public void sendPasswordResetEmail(String email, String token) {
-    log.info("Sending password reset email to: {}", email);
-    log.info("Password reset token: {}", token);
-    log.info(
-        "Password reset URL: http://localhost:8081/api/v1/auth/reset-password?token={}", token);
+    enqueue(NotificationOutbox.Type.PASSWORD_RESET_EMAIL, email, Map.of("token", token));
   }
 
   /**
-   * 退会確認用のメールを送信します。
-   *
-   * <p>現在はログ出力のみで、実際のNotification Service連携は今後実装予定です。
+   * 退会確認用のメールの送信を予約します。
    *
    * @param email 送信先メールアドレス
    * @param scheduledDeletionAt 削除予定日時
    */
-  public void sendWithdrawalConfirmation(
-      String email, java.time.LocalDateTime scheduledDeletionAt) {
-    log.info("Sending withdrawal confirmation email to: {}", email);
-    log.info("Account will be permanently deleted at: {}", scheduledDeletionAt);
-    log.info(
-        "If you did not request this, please contact support immediately at support@example.com");
+  @Transactional
+  public void sendWithdrawalConfirmation(String email, LocalDateTime scheduledDeletionAt) {
+    enqueue(
+        NotificationOutbox.Type.WITHDRAWAL_CONFIRMATION,
+        email,
+        Map.of("scheduledDeletionAt", scheduledDeletionAt.toString()));
+  }
+
+  private void enqueue(NotificationOutbox.Type type, String email, Map<String, String> parameters) {
+    String payload;
+    try {
+      payload = objectMapper.writeValueAsString(parameters);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize notification parameters", e);
+    }
+    outboxRepository.save(
+        NotificationOutbox.builder()
+            .type(type)
+            .recipient(email)
+            .payload(payload)
+            .nextAttemptAt(LocalDateTime.now())
+            .build());
+    log.info("Queued {} notification to: {}", type, email);
   }
 }
@@ -0,0 +1,200 @@
+package com.ecsite.auth.service;
+
+import com.ecsite.auth.exception.PasswordHashingOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * パスワードハッシュ処理サービス
+ *
+ * <p>BCryptによるハッシュ化・照合はCPU負荷が高いため、Tomcatのリクエストスレッドではなく専用の固定サイズスレッドプールで実行します。 プールのキューは有界で、満杯の場合は
+ * {@link PasswordHashingOverloadedException} を即座にスローします。 これにより、ログイン集中時にもCPUを使い切らず、他のAPIの応答性を維持します。
+ *
+ * <p>仮想スレッドモード（{@code virtual-threads} プロファイル）でも、このプールはプラットフォームスレッドのままです。
+ * リクエストを処理する仮想スレッドはハッシュ処理の完了を待つ間キャリアスレッドを解放するため、BCryptがキャリアスレッドを占有しません。
+ *
+ * <p>メトリクス:
+ *
+ * <ul>
+ *   <li>{@code password.hashing.queue.size}: キュー待ちのタスク数
+ *   <li>{@code password.hashing.active}: 実行中のタスク数
+ *   <li>{@code password.hashing.wait}: キュー投入から実行開始までの待ち時間
+ *   <li>{@code password.hashing.rejected}: 受付拒否されたタスク数
+ * </ul>
+ */
+@Service
+@Slf4j
+public class PasswordHashingService {
+
+  private final PasswordEncoder passwordEncoder;
+  private final ThreadPoolExecutor executor;
+  private final Duration retryAfter;
+  private final Timer waitTimer;
+  private final Counter rejectedCounter;
+  private final String dummyHash;
+
+  public PasswordHashingService(
+      PasswordEncoder passwordEncoder,
+      MeterRegistry meterRegistry,
+      @Value("${password-hashing.pool-size:0}") int poolSize,
+      @Value("${password-hashing.queue-capacity:64}") int queueCapacity,
+      @Value("${password-hashing.retry-after:1s}") Duration retryAfter) {
+    int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+    this.passwordEncoder = passwordEncoder;
+    this.retryAfter = retryAfter;
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new HashingThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy());
+
+    Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+        .register(meterRegistry);
+    Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+        .register(meterRegistry);
+    this.waitTimer = meterRegistry.timer("password.hashing.wait");
+    this.rejectedCounter = meterRegistry.counter("password.hashing.rejected");
+    this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+
+    log.info(
+        "Password hashing pool initialized (threads: {}, queueCapacity: {})",
+        threads,
+        queueCapacity);
+  }
+
+  /**
+   * パスワードをハッシュ化します。
+   *
+   * @param rawPassword 平文パスワード
+   * @return ハッシュ化されたパスワード
+   * @throws PasswordHashingOverloadedException キューが満杯の場合
+   */
+  public String encode(CharSequence rawPassword) {
+    return execute(() -> passwordEncoder.encode(rawPassword));
+  }
+
+  /**
+   * 平文パスワードとハッシュを照合します。
+   *
+   * @param rawPassword 平文パスワード
+   * @param encodedPassword ハッシュ化されたパスワード
+   * @return 一致する場合true
+   * @throws PasswordHashingOverloadedException キューが満杯の場合
+   */
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+  }
+
+  /**
+   * 存在しないユーザーに対して、実在ユーザーと同じコストのダミー照合を実行します。
+   *
+   * <p>結果は常にfalseです。照合時間を実在ユーザーと揃えることで、ユーザー列挙のタイミング攻撃を防ぎます。
+   *
+   * @param rawPassword 平文パスワード
+   * @return 常にfalse
+   * @throws PasswordHashingOverloadedException キューが満杯の場合
+   */
+  public boolean matchesDummy(CharSequence rawPassword) {
+    execute(() -> passwordEncoder.matches(rawPassword, dummyHash));
+    return false;
+  }
+
+  /**
+   * パスワードを非同期でハッシュ化します。
+   *
+   * <p>呼び出し元は結果を待たずに処理を継続できます。ログイン成功後の再ハッシュなど、応答に影響させたくない処理に使用します。
+   *
+   * @param rawPassword 平文パスワード
+   * @return ハッシュ化されたパスワードを返すFuture
+   * @throws PasswordHashingOverloadedException キューが満杯の場合
+   */
+  public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+    long submittedAt = System.nanoTime();
+    try {
+      return CompletableFuture.supplyAsync(
+          () -> {
+            waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            return passwordEncoder.encode(rawPassword);
+          },
+          executor);
+    } catch (RejectedExecutionException e) {
+      throw reject();
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdown();
+  }
+
+  private <T> T execute(Callable<T> task) {
+    long submittedAt = System.nanoTime();
+    Future<T> future;
+    try {
+      future =
+          executor.submit(
+              () -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return task.call();
+              });
+    } catch (RejectedExecutionException e) {
+      throw reject();
+    }
+
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Password hashing failed", e.getCause());
+    }
+  }
+
+  private PasswordHashingOverloadedException reject() {
+    rejectedCounter.increment();
+    log.warn("Password hashing rejected: queue is full (size: {})", executor.getQueue().size());
+    return new PasswordHashingOverloadedException(
+        "Too many concurrent authentication requests. Please retry later.", retryAfter);
+  }
+
+  /** ハッシュ処理用のプラットフォームスレッドを生成します。 */
+  private static final class HashingThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
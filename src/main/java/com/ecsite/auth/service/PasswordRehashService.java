@@ -0,0 +1,77 @@
+package com.ecsite.auth.service;
+
+import com.ecsite.auth.exception.PasswordHashingOverloadedException;
+import com.ecsite.auth.repository.UserRepository;
+import com.ecsite.auth.security.PasswordHashPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * パスワード再ハッシュサービス
+ *
+ * <p>ログイン成功時に平文パスワードが得られる機会を利用し、保存済みハッシュのアルゴリズムまたはコストが {@link PasswordHashPolicy}
+ * のターゲットと異なる場合に、バックグラウンドで再ハッシュして保存します。 ログインの応答は再ハッシュの完了を待ちません。
+ */
+@Service
+@Slf4j
+public class PasswordRehashService {
+
+  private final PasswordHashPolicy passwordHashPolicy;
+  private final PasswordHashingService passwordHashingService;
+  private final UserRepository userRepository;
+  private final Counter rehashedCounter;
+
+  public PasswordRehashService(
+      PasswordHashPolicy passwordHashPolicy,
+      PasswordHashingService passwordHashingService,
+      UserRepository userRepository,
+      MeterRegistry meterRegistry) {
+    this.passwordHashPolicy = passwordHashPolicy;
+    this.passwordHashingService = passwordHashingService;
+    this.userRepository = userRepository;
+    this.rehashedCounter = meterRegistry.counter("password.hashing.rehashed");
+  }
+
+  /**
+   * 必要な場合にパスワードを非同期で再ハッシュします。
+   *
+   * <p>ハッシュ処理のキューが満杯の場合は再ハッシュを見送り、次回ログイン時に再試行します。
+   *
+   * @param userId ユーザーID
+   * @param rawPassword 照合済みの平文パスワード
+   * @param currentHash 現在の保存済みハッシュ
+   */
+  public void rehashIfNeeded(UUID userId, CharSequence rawPassword, String currentHash) {
+    if (!passwordHashPolicy.needsRehash(currentHash)) {
+      return;
+    }
+
+    try {
+      passwordHashingService
+          .encodeAsync(rawPassword)
+          .thenAccept(newHash -> save(userId, currentHash, newHash))
+          .exceptionally(
+              e -> {
+                log.error("Password rehash failed for user: {}", userId, e);
+                return null;
+              });
+    } catch (PasswordHashingOverloadedException e) {
+      log.debug("Password rehash skipped for user {}: hashing pool is saturated", userId);
+    }
+  }
+
+  private void save(UUID userId, String currentHash, String newHash) {
+    if (userRepository.updatePasswordHash(userId, currentHash, newHash) == 1) {
+      rehashedCounter.increment();
+      log.info(
+          "Password hash upgraded for user: {} (algorithm: {})",
+          userId,
+          passwordHashPolicy.getAlgorithm());
+    } else {
+      log.info("Password rehash discarded for user {}: hash changed concurrently", userId);
+    }
+  }
+}
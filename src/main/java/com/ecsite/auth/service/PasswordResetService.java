@@ -1,14 +1,15 @@
 package com.ecsite.auth.service;
 
 import com.ecsite.auth.entity.PasswordResetToken;
+import com.ecsite.auth.entity.RefreshTokenFamily;
 import com.ecsite.auth.entity.User;
 import com.ecsite.auth.repository.PasswordResetTokenRepository;
+import com.ecsite.auth.repository.RefreshTokenFamilyRepository;
 import com.ecsite.auth.repository.UserRepository;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,7 +26,8 @@ public class PasswordResetService {
   private final PasswordResetTokenRepository tokenRepository;
   private final UserRepository userRepository;
   private final NotificationService notificationService;
-  private final BCryptPasswordEncoder passwordEncoder;
+  private final PasswordHashingService passwordHashingService;
+  private final RefreshTokenFamilyRepository familyRepository;
 
   private static final int TOKEN_EXPIRATION_HOURS = 24;
 
@@ -59,7 +61,7 @@ public class PasswordResetService {
               log.info("Password reset token saved for user: {}", user.getId());
 
               notificationService.sendPasswordResetEmail(user.getEmail(), tokenValue);
-              log.info("Password reset email notification sent for user: {}", user.getId());
+              log.info("Password reset email notification queued for user: {}", user.getId());
             });
 
     return "If the email exists, a password reset link has been sent";
@@ -68,6 +70,8 @@ public class PasswordResetService {
   /**
    * パスワードリセットトークンを検証し、新しいパスワードを設定します。
    *
+   * <p>ユーザーの発行済みのリフレッシュトークンは同じトランザクションですべて失効させます（漏洩したトークンで再ログインされないようにする）。
+   *
    * @param tokenValue トークン文字列
    * @param newPassword 新しいパスワード
    * @return リセットが成功した場合true
@@ -88,13 +92,21 @@ public class PasswordResetService {
     }
 
     User user = token.getUser();
-    user.setPasswordHash(passwordEncoder.encode(newPassword));
+    user.setPasswordHash(passwordHashingService.encode(newPassword));
     userRepository.save(user);
 
-    token.setUsedAt(LocalDateTime.now());
+    LocalDateTime now = LocalDateTime.now();
+    token.setUsedAt(now);
     tokenRepository.save(token);
 
-    log.info("Password reset completed for user: {}", user.getId());
+    int revoked =
+        familyRepository.revokeAllForUser(
+            user.getId(), RefreshTokenFamily.REVOKED_PASSWORD_RESET, now);
+
+    log.info(
+        "Password reset completed for user: {} ({} refresh token families revoked)",
+        user.getId(),
+        revoked);
     return true;
   }
 }
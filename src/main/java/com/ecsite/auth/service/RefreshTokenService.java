@@ -0,0 +1,205 @@
+package com.ecsite.auth.service;
+
+import com.ecsite.auth.dto.AuthTokenResponse;
+import com.ecsite.auth.entity.RefreshTokenFamily;
+import com.ecsite.auth.entity.User;
+import com.ecsite.auth.repository.RefreshTokenFamilyRepository;
+import com.ecsite.auth.repository.UserRepository;
+import com.ecsite.auth.security.JwtUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * リフレッシュトークンサービス
+ *
+ * <p>ログイン時にリフレッシュトークンファミリーを作成し、リフレッシュ時にトークンをローテーションします。 リフレッシュはパスワード照合を行わないため、
+ * アクセストークンの期限切れごとに再ログイン（BCrypt照合）させる必要がなくなります。
+ *
+ * <p>ローテーションはファミリーの先頭jtiに対する条件付きUPDATEで行い、DBを正とします。 先頭以外のjtiが提示された場合は漏洩したトークンの再利用とみなし、
+ * ファミリー全体を失効させます（正規のクライアントが保持する最新トークンも無効になります）。
+ *
+ * <p>失効済みファミリーのIDはプロセス内のインデックスに保持し、再利用されたトークンの再提示をDBアクセスなしで拒否します。
+ * 失効は取り消されないため、ノード間でインデックスを同期する必要はありません。 有効なファミリーの先頭はノード間で古くなりうるため、
+ * インデックスには保持せずDBの条件付きUPDATEで判定します。
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+  static final String CACHE_NAME = "refresh-token-families.revoked";
+
+  private static final String INVALID_REFRESH_TOKEN = "Invalid refresh token";
+
+  private final RefreshTokenFamilyRepository familyRepository;
+  private final UserRepository userRepository;
+  private final JwtUtil jwtUtil;
+  private final Cache<UUID, Boolean> revokedFamilies;
+  private final Counter rotatedCounter;
+  private final Counter reuseDetectedCounter;
+
+  public RefreshTokenService(
+      RefreshTokenFamilyRepository familyRepository,
+      UserRepository userRepository,
+      JwtUtil jwtUtil,
+      MeterRegistry meterRegistry,
+      @Value("${jwt.revoked-family-index.maximum-size:100000}") long maximumSize) {
+    this.familyRepository = familyRepository;
+    this.userRepository = userRepository;
+    this.jwtUtil = jwtUtil;
+    this.revokedFamilies =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofMillis(jwtUtil.getRefreshTokenExpiration()))
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, revokedFamilies, CACHE_NAME);
+    this.rotatedCounter = meterRegistry.counter("jwt.refresh.rotated");
+    this.reuseDetectedCounter = meterRegistry.counter("jwt.refresh.reuse-detected");
+  }
+
+  /**
+   * 新しいリフレッシュトークンファミリーを作成し、その最初のリフレッシュトークンを発行します。
+   *
+   * @param userId ユーザーID
+   * @return リフレッシュトークン
+   */
+  @Transactional
+  public String issue(UUID userId) {
+    UUID jti = UUID.randomUUID();
+    RefreshTokenFamily family =
+        familyRepository.save(
+            RefreshTokenFamily.builder()
+                .userId(userId)
+                .currentJti(jti)
+                .generation(0)
+                .expiresAt(refreshTokenExpiresAt(LocalDateTime.now()))
+                .build());
+    return jwtUtil.generateRefreshToken(userId, family.getId(), jti);
+  }
+
+  /**
+   * ユーザーのリフレッシュトークンファミリーをすべて失効させます。
+   *
+   * @param userId ユーザーID
+   * @param reason 失効理由
+   * @return 失効させたファミリーの件数
+   */
+  @Transactional
+  public int revokeAll(UUID userId, String reason) {
+    int revoked = familyRepository.revokeAllForUser(userId, reason, LocalDateTime.now());
+    log.info("Revoked {} refresh token families for user: {} ({})", revoked, userId, reason);
+    return revoked;
+  }
+
+  /**
+   * リフレッシュトークンを検証してローテーションし、新しいアクセストークンとリフレッシュトークンを発行します。
+   *
+   * <p>再利用を検知した場合のファミリー失効は、例外をスローしてもロールバックしません。
+   *
+   * @param refreshToken リフレッシュトークン
+   * @return 新しいトークン
+   * @throws BadCredentialsException トークンが不正・期限切れ・失効済み・再利用の場合、またはユーザーがACTIVEでない場合
+   */
+  @Transactional(noRollbackFor = BadCredentialsException.class)
+  public AuthTokenResponse refresh(String refreshToken) {
+    Claims claims = parse(refreshToken);
+    UUID userId = parseUuid(claims.getSubject());
+    UUID familyId = parseUuid(claims.get("fid", String.class));
+    UUID jti = parseUuid(claims.getId());
+
+    if (revokedFamilies.getIfPresent(familyId) != null) {
+      log.warn("Refresh rejected: token family {} is revoked", familyId);
+      throw new BadCredentialsException(INVALID_REFRESH_TOKEN);
+    }
+
+    User user = userRepository.findById(userId).filter(User::isActive).orElse(null);
+    if (user == null) {
+      log.warn("Refresh rejected: user {} is not active", userId);
+      throw new BadCredentialsException(INVALID_REFRESH_TOKEN);
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    UUID newJti = UUID.randomUUID();
+    if (familyRepository.rotate(familyId, jti, newJti, refreshTokenExpiresAt(now), now) == 0) {
+      handleRotationFailure(familyId, jti, now);
+      throw new BadCredentialsException(INVALID_REFRESH_TOKEN);
+    }
+    rotatedCounter.increment();
+    log.debug("Refresh token rotated for user: {} (family: {})", userId, familyId);
+
+    return AuthTokenResponse.builder()
+        .accessToken(jwtUtil.generateAccessToken(user.getId(), user.getEmail(), "USER"))
+        .refreshToken(jwtUtil.generateRefreshToken(userId, familyId, newJti))
+        .tokenType("bearer")
+        .expiresIn(900)
+        .build();
+  }
+
+  private void handleRotationFailure(UUID familyId, UUID jti, LocalDateTime now) {
+    RefreshTokenFamily family = familyRepository.findById(familyId).orElse(null);
+    if (family == null) {
+      log.warn("Refresh rejected: token family {} not found", familyId);
+      return;
+    }
+    if (family.isRevoked()) {
+      revokedFamilies.put(familyId, Boolean.TRUE);
+      log.warn("Refresh rejected: token family {} is revoked", familyId);
+      return;
+    }
+    if (!family.getCurrentJti().equals(jti)) {
+      familyRepository.revoke(familyId, RefreshTokenFamily.REVOKED_REUSE_DETECTED, now);
+      revokedFamilies.put(familyId, Boolean.TRUE);
+      reuseDetectedCounter.increment();
+      log.warn(
+          "Refresh token reuse detected for user: {} (family: {}, generation: {}); family revoked",
+          family.getUserId(),
+          familyId,
+          family.getGeneration());
+      return;
+    }
+    log.info("Refresh rejected: token family {} has expired", familyId);
+  }
+
+  private Claims parse(String refreshToken) {
+    Claims claims;
+    try {
+      claims = jwtUtil.validateToken(refreshToken);
+    } catch (JwtException | IllegalArgumentException e) {
+      log.warn("Refresh rejected: {}", e.getMessage());
+      throw new BadCredentialsException(INVALID_REFRESH_TOKEN);
+    }
+    if (!"REFRESH".equals(claims.get("type", String.class))) {
+      log.warn("Refresh rejected: token type is {}", claims.get("type", String.class));
+      throw new BadCredentialsException(INVALID_REFRESH_TOKEN);
+    }
+    return claims;
+  }
+
+  private static UUID parseUuid(String value) {
+    if (value == null) {
+      throw new BadCredentialsException(INVALID_REFRESH_TOKEN);
+    }
+    try {
+      return UUID.fromString(value);
+    } catch (IllegalArgumentException e) {
+      throw new BadCredentialsException(INVALID_REFRESH_TOKEN);
+    }
+  }
+
+  private LocalDateTime refreshTokenExpiresAt(LocalDateTime now) {
+    return now.plus(Duration.ofMillis(jwtUtil.getRefreshTokenExpiration()));
+  }
+}
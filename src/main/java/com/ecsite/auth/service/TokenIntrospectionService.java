@@ -0,0 +1,112 @@
+package com.ecsite.auth.service;
+
+import com.ecsite.auth.cache.UserStatusCache;
+import com.ecsite.auth.dto.TokenIntrospectionResponse;
+import com.ecsite.auth.entity.User;
+import com.ecsite.auth.security.AccessTokenPolicy;
+import com.ecsite.auth.security.VerifiedTokenCache.VerifiedToken;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * トークンイントロスペクションサービス
+ *
+ * <p>APIゲートウェイ向けに、複数のアクセストークンを1回の呼び出しでまとめて検証します。 各トークンは {@link
+ * com.ecsite.auth.security.JwtAuthenticationFilter 認証フィルター} と共通の {@link AccessTokenPolicy} で判定します。
+ *
+ * <p>ユーザーステータスは全トークンのユーザーIDを重複除去してから {@link UserStatusCache#getStatuses} で取得するため、
+ * キャッシュにないユーザーはトークン件数によらず1回のINクエリで解決されます。
+ *
+ * @see com.ecsite.auth.security.JwtAuthenticationFilter
+ */
+@Service
+@Slf4j
+public class TokenIntrospectionService {
+
+  private final AccessTokenPolicy accessTokenPolicy;
+  private final UserStatusCache userStatusCache;
+  private final DistributionSummary batchSize;
+
+  public TokenIntrospectionService(
+      AccessTokenPolicy accessTokenPolicy,
+      UserStatusCache userStatusCache,
+      MeterRegistry meterRegistry) {
+    this.accessTokenPolicy = accessTokenPolicy;
+    this.userStatusCache = userStatusCache;
+    this.batchSize = meterRegistry.summary("jwt.introspection.batch-size");
+  }
+
+  /**
+   * トークンをまとめて検証します。
+   *
+   * @param tokens 生のJWTトークン文字列のリスト
+   * @return 入力と同じ順序の検証結果
+   */
+  public List<TokenIntrospectionResponse.Result> introspect(List<String> tokens) {
+    batchSize.record(tokens.size());
+
+    List<VerifiedToken> candidates = new ArrayList<>(tokens.size());
+    List<UUID> candidateUserIds = new ArrayList<>(tokens.size());
+    Set<UUID> userIds = new LinkedHashSet<>();
+    for (String token : tokens) {
+      VerifiedToken verified = verifyAccessToken(token);
+      UUID userId = verified == null ? null : parseUuid(verified.userId());
+      candidates.add(userId == null ? null : verified);
+      candidateUserIds.add(userId);
+      if (userId != null) {
+        userIds.add(userId);
+      }
+    }
+
+    Map<UUID, User.UserStatus> statuses =
+        userIds.isEmpty() ? Map.of() : userStatusCache.getStatuses(userIds);
+
+    List<TokenIntrospectionResponse.Result> results = new ArrayList<>(tokens.size());
+    for (int i = 0; i < candidates.size(); i++) {
+      VerifiedToken verified = candidates.get(i);
+      User.UserStatus status = verified == null ? null : statuses.get(candidateUserIds.get(i));
+      if (!accessTokenPolicy.acceptsStatus(status)) {
+        results.add(TokenIntrospectionResponse.Result.inactive());
+        continue;
+      }
+      results.add(
+          TokenIntrospectionResponse.Result.builder()
+              .active(true)
+              .sub(verified.userId())
+              .role(verified.role())
+              .jti(verified.jti())
+              .exp(verified.expiresAt().getEpochSecond())
+              .build());
+    }
+    return results;
+  }
+
+  private VerifiedToken verifyAccessToken(String token) {
+    try {
+      return accessTokenPolicy.verify(token);
+    } catch (JwtException | IllegalArgumentException e) {
+      log.debug("Introspected token is inactive: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  private static UUID parseUuid(String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return UUID.fromString(value);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
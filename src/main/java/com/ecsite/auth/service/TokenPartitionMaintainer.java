@@ -0,0 +1,238 @@
+package com.ecsite.auth.service;
+
+import com.ecsite.auth.scheduling.PeriodicTask;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * メール認証・パスワードリセットトークンのパーティション管理
+ *
+ * <p>両テーブルは {@code created_at} の日単位でレンジパーティション化されています（V9）。 専用スレッドが起動時と {@code
+ * tokens.partitions.interval} ごとに、当日から {@code premake-days} 日後までのパーティションを作成し、 期間の終了から {@code
+ * retention} が経過したパーティションを削除します。 期限切れのトークンをパーティションごと削除するため、
+ * 行単位の削除と異なりデッドタプルが発生せず、削除の負荷はトークン数によらず一定です。
+ *
+ * <p>パーティションの作成・削除は親テーブルのロックを取得するため、{@code lock-timeout} を超えて待つ場合は中断して次回に再試行します。
+ * 複数ノードのうち同時に処理するのは、アドバイザリーロックを取得できた1ノードのみです。
+ *
+ * <p>メトリクス:
+ *
+ * <ul>
+ *   <li>{@code tokens.partitions.created}: 作成したパーティション数（{@code table} タグ付き）
+ *   <li>{@code tokens.partitions.dropped}: 削除したパーティション数（{@code table} タグ付き）
+ *   <li>{@code tokens.partitions.failures}: パーティションの作成・削除に失敗した回数
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(
+    name = "tokens.partitions.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+@Slf4j
+public class TokenPartitionMaintainer implements PeriodicTask {
+
+  /** パーティション化されたテーブル */
+  static final List<String> TABLES = ExpiredTokenReaper.TABLES;
+
+  private static final long ADVISORY_LOCK_KEY = 0x746f6b656e5f7032L;
+
+  private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+  private static final String PARTITIONS_SQL =
+      "SELECT c.relname FROM pg_inherits i "
+          + "JOIN pg_class c ON c.oid = i.inhrelid "
+          + "JOIN pg_class p ON p.oid = i.inhparent "
+          + "JOIN pg_namespace n ON n.oid = p.relnamespace "
+          + "WHERE n.nspname = 'auth_schema' AND p.relname = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final MeterRegistry meterRegistry;
+  private final int premakeDays;
+  private final Duration retention;
+  private final Duration lockTimeout;
+  private final Duration interval;
+  private final Counter failureCounter;
+  private final Object maintainLock = new Object();
+
+  public TokenPartitionMaintainer(
+      JdbcTemplate jdbcTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${tokens.partitions.premake-days:7}") int premakeDays,
+      @Value("${tokens.partitions.retention:2d}") Duration retention,
+      @Value("${tokens.partitions.lock-timeout:5s}") Duration lockTimeout,
+      @Value("${tokens.partitions.interval:1h}") Duration interval) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.meterRegistry = meterRegistry;
+    this.premakeDays = premakeDays;
+    this.retention = retention;
+    this.lockTimeout = lockTimeout;
+    this.interval = interval;
+    this.failureCounter = meterRegistry.counter("tokens.partitions.failures");
+  }
+
+  /**
+   * 将来のパーティションを作成し、保持期間を過ぎたパーティションを削除します。
+   *
+   * <p>通常は専用スレッドから呼び出されます。
+   *
+   * @return 他ノードが処理中で何もしなかった場合false
+   */
+  public boolean maintain() {
+    return maintain(LocalDateTime.now());
+  }
+
+  /**
+   * 指定した日時を基準に、将来のパーティションを作成し、保持期間を過ぎたパーティションを削除します。
+   *
+   * @param now 基準日時
+   * @return 他ノードが処理中で何もしなかった場合false
+   */
+  public boolean maintain(LocalDateTime now) {
+    synchronized (maintainLock) {
+      Boolean maintained =
+          jdbcTemplate.execute(
+              (ConnectionCallback<Boolean>)
+                  connection -> {
+                    if (!tryAdvisoryLock(connection)) {
+                      log.debug("Token partitions are being maintained by another node");
+                      return false;
+                    }
+                    try (Statement statement = connection.createStatement()) {
+                      statement.execute("SET lock_timeout = " + lockTimeout.toMillis());
+                      for (String table : TABLES) {
+                        maintain(connection, table, now);
+                      }
+                    } finally {
+                      try (Statement statement = connection.createStatement()) {
+                        statement.execute("RESET lock_timeout");
+                        statement.execute("SELECT pg_advisory_unlock(" + ADVISORY_LOCK_KEY + ")");
+                      }
+                    }
+                    return true;
+                  });
+      return Boolean.TRUE.equals(maintained);
+    }
+  }
+
+  private void maintain(Connection connection, String table, LocalDateTime now)
+      throws SQLException {
+    List<LocalDate> existing = dailyPartitions(connection, table);
+    LocalDate today = now.toLocalDate();
+    for (int i = 0; i <= premakeDays; i++) {
+      LocalDate day = today.plusDays(i);
+      if (!existing.contains(day)) {
+        execute(
+            connection,
+            table,
+            "tokens.partitions.created",
+            "CREATE TABLE IF NOT EXISTS auth_schema."
+                + partitionName(table, day)
+                + " PARTITION OF auth_schema."
+                + table
+                + " FOR VALUES FROM ('"
+                + day
+                + "') TO ('"
+                + day.plusDays(1)
+                + "')");
+      }
+    }
+    for (LocalDate day : existing) {
+      // パーティションの期間の終了（翌日0時）から保持期間が経過したら削除する
+      if (!day.plusDays(1).atStartOfDay().plus(retention).isAfter(now)) {
+        execute(
+            connection,
+            table,
+            "tokens.partitions.dropped",
+            "DROP TABLE IF EXISTS auth_schema." + partitionName(table, day));
+      }
+    }
+  }
+
+  private void execute(Connection connection, String table, String metric, String sql) {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(sql);
+      meterRegistry.counter(metric, "table", table).increment();
+      log.info("Executed token partition maintenance: {}", sql);
+    } catch (SQLException e) {
+      // DEFAULTパーティションに同じ期間の行がある場合やロック待ちのタイムアウトは、次回に再試行する
+      failureCounter.increment();
+      log.warn("Failed token partition maintenance: {}: {}", sql, e.getMessage());
+    }
+  }
+
+  private static List<LocalDate> dailyPartitions(Connection connection, String table)
+      throws SQLException {
+    Pattern dailyPartition = Pattern.compile(Pattern.quote(table) + "_p(\\d{8})");
+    List<LocalDate> days = new ArrayList<>();
+    try (PreparedStatement statement = connection.prepareStatement(PARTITIONS_SQL)) {
+      statement.setString(1, table);
+      try (ResultSet rs = statement.executeQuery()) {
+        while (rs.next()) {
+          Matcher matcher = dailyPartition.matcher(rs.getString(1));
+          if (matcher.matches()) {
+            days.add(LocalDate.parse(matcher.group(1), SUFFIX_FORMAT));
+          }
+        }
+      }
+    }
+    return days;
+  }
+
+  private static boolean tryAdvisoryLock(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet rs =
+            statement.executeQuery("SELECT pg_try_advisory_lock(" + ADVISORY_LOCK_KEY + ")")) {
+      return rs.next() && rs.getBoolean(1);
+    }
+  }
+
+  static String partitionName(String table, LocalDate day) {
+    return table + "_p" + day.format(SUFFIX_FORMAT);
+  }
+
+  @Override
+  public String threadName() {
+    return "token-partition-maintainer";
+  }
+
+  @Override
+  public Duration interval() {
+    return interval;
+  }
+
+  @Override
+  public Duration initialDelay() {
+    // 起動時にすぐ実行し、当日以降のパーティションが存在することを確認する
+    return Duration.ZERO;
+  }
+
+  @Override
+  public void runOnce() {
+    try {
+      maintain();
+    } catch (DataAccessException e) {
+      failureCounter.increment();
+      log.warn("Failed to maintain token partitions: {}", e.getMessage());
+    }
+  }
+}
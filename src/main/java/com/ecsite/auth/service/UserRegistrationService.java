@@ -14,7 +14,6 @@ import com.ecsite.auth.security.JwtUtil;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,8 +26,9 @@ public class UserRegistrationService {
   private final EmailVerificationTokenRepository emailVerificationTokenRepository;
   private final UserMapper userMapper;
   private final JwtUtil jwtUtil;
-  private final BCryptPasswordEncoder passwordEncoder;
+  private final PasswordHashingService passwordHashingService;
   private final EmailVerificationService emailVerificationService;
+  private final RefreshTokenService refreshTokenService;
 
   @Transactional
   public RegistrationResponse registerUser(CreateUserRequest request) {
@@ -39,7 +39,7 @@ public class UserRegistrationService {
       throw new UserAlreadyExistsException("Email already exists");
     }
 
-    String hashedPassword = passwordEncoder.encode(request.getPassword());
+    String hashedPassword = passwordHashingService.encode(request.getPassword());
 
     User user =
         User.builder()
@@ -56,7 +56,7 @@ public class UserRegistrationService {
     String accessToken =
         jwtUtil.generateAccessToken(savedUser.getId(), savedUser.getEmail(), "USER");
 
-    String refreshToken = jwtUtil.generateRefreshToken(savedUser.getId());
+    String refreshToken = refreshTokenService.issue(savedUser.getId());
 
     AuthTokenResponse tokens =
         AuthTokenResponse.builder()
@@ -103,7 +103,7 @@ public class UserRegistrationService {
     }
 
     String temporaryPassword = UUID.randomUUID().toString();
-    String hashedPassword = passwordEncoder.encode(temporaryPassword);
+    String hashedPassword = passwordHashingService.encode(temporaryPassword);
 
     User user =
         User.builder()
@@ -123,7 +123,7 @@ public class UserRegistrationService {
     String accessToken =
         jwtUtil.generateAccessToken(savedUser.getId(), savedUser.getEmail(), "USER");
 
-    String refreshToken = jwtUtil.generateRefreshToken(savedUser.getId());
+    String refreshToken = refreshTokenService.issue(savedUser.getId());
 
     AuthTokenResponse tokens =
         AuthTokenResponse.builder()
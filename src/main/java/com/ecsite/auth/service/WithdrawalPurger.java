@@ -0,0 +1,218 @@
+package com.ecsite.auth.service;
+
+import com.ecsite.auth.scheduling.PeriodicTask;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 退会処理の最終処理（Phase 3）
+ *
+ * <p>専用スレッドが {@code withdrawal.purge.interval} ごとに、削除予定日時を過ぎたPENDING_DELETIONのユーザーを {@code
+ * chunk-size} 件ずつ処理します。 1チャンクは1つのUPDATE文で、ステータスをDELETEDに、{@code deleted_at} を処理日時にし、
+ * メールアドレス・氏名・パスワードハッシュ・退会理由を匿名化し、同じ文でそのメールアドレス宛ての未配信の通知（アウトボックス）を削除します。 処理済みのユーザーは {@code
+ * deletion_scheduled_at} をNULLにして部分インデックス {@code idx_users_deletion_scheduled_at} から外すため、
+ * インデックスには未処理のユーザーのみが残ります。
+ *
+ * <p>対象は {@code (deletion_scheduled_at, id)} の順にキーセットページングで取得し、{@code FOR UPDATE SKIP LOCKED}
+ * で他ノードが処理中の行を飛ばすため、複数ノードで同時に動作しても同じユーザーを重複して処理しません。 チャンクごとにコミットし、チャンクの間に {@code chunk-pause}
+ * の待ちを入れてレプリケーションやVACUUMへの負荷を抑えます。
+ *
+ * <p>PENDING_DELETIONとDELETEDはどちらも認証を拒否するため、{@link com.ecsite.auth.cache.UserStatusCache} は無効化しません。
+ *
+ * <p>メトリクス:
+ *
+ * <ul>
+ *   <li>{@code withdrawal.purge.rows}: 処理したユーザー数
+ *   <li>{@code withdrawal.purge.chunk}: 1チャンクの処理時間
+ *   <li>{@code withdrawal.purge.lag}: 未処理で最も古い削除予定日時からの経過時間（未処理がなければ0）
+ *   <li>{@code withdrawal.purge.failures}: DBエラーで処理が中断した回数
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(
+    name = "withdrawal.purge.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+@Slf4j
+public class WithdrawalPurger implements PeriodicTask {
+
+  static final String ANONYMIZED_NAME = "deleted";
+
+  private static final String PURGE_SQL =
+      "WITH due AS (SELECT id, email, deletion_scheduled_at FROM auth_schema.users "
+          + "WHERE deletion_scheduled_at <= ? AND deletion_scheduled_at >= ? "
+          + "AND (deletion_scheduled_at > ? OR id > ?) AND status = 'PENDING_DELETION' "
+          + "ORDER BY deletion_scheduled_at, id LIMIT ? FOR UPDATE SKIP LOCKED), "
+          // 参照されないデータ変更CTEも必ず実行される。配信待ち・FAILEDの通知にはメールアドレスとトークンが含まれる
+          + "notifications AS (DELETE FROM auth_schema.notification_outbox o USING due "
+          + "WHERE o.recipient = due.email) "
+          + "UPDATE auth_schema.users u SET status = 'DELETED', deleted_at = ?, "
+          + "email = 'deleted-' || u.id || '@deleted.invalid', first_name = ?, last_name = ?, "
+          + "password_hash = '', withdrawal_reason = NULL, deletion_scheduled_at = NULL "
+          + "FROM due WHERE u.id = due.id RETURNING due.id, due.deletion_scheduled_at";
+
+  private static final String OLDEST_DUE_SQL =
+      "SELECT MIN(deletion_scheduled_at) FROM auth_schema.users "
+          + "WHERE deletion_scheduled_at <= ? AND status = 'PENDING_DELETION'";
+
+  private static final UUID MIN_UUID = new UUID(0, 0);
+  private static final LocalDateTime MIN_SCHEDULED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int chunkSize;
+  private final Duration chunkPause;
+  private final Duration interval;
+  private final Counter rowsCounter;
+  private final Counter failureCounter;
+  private final Timer chunkTimer;
+  private final AtomicLong lagMillis = new AtomicLong();
+  private final Object purgeLock = new Object();
+
+  public WithdrawalPurger(
+      JdbcTemplate jdbcTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${withdrawal.purge.chunk-size:1000}") int chunkSize,
+      @Value("${withdrawal.purge.chunk-pause:50ms}") Duration chunkPause,
+      @Value("${withdrawal.purge.interval:5m}") Duration interval) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.chunkSize = chunkSize;
+    this.chunkPause = chunkPause;
+    this.interval = interval;
+    this.rowsCounter = meterRegistry.counter("withdrawal.purge.rows");
+    this.failureCounter = meterRegistry.counter("withdrawal.purge.failures");
+    this.chunkTimer = meterRegistry.timer("withdrawal.purge.chunk");
+    TimeGauge.builder("withdrawal.purge.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 削除予定日時を過ぎたユーザーを、未処理がなくなるまでチャンク単位で処理します。
+   *
+   * <p>通常は専用スレッドから呼び出されます。
+   *
+   * @return 処理したユーザー数
+   */
+  public long purge() {
+    synchronized (purgeLock) {
+      LocalDateTime cutoff = LocalDateTime.now();
+      LocalDateTime lastScheduledAt = MIN_SCHEDULED_AT;
+      UUID lastId = MIN_UUID;
+      long total = 0;
+      while (true) {
+        List<PurgedRow> purged = purgeChunk(cutoff, lastScheduledAt, lastId);
+        total += purged.size();
+        if (purged.size() < chunkSize) {
+          break;
+        }
+        // RETURNINGの順序は保証されないため、チャンク内の最大のキーを次の開始位置にする
+        for (PurgedRow row : purged) {
+          int cmp = row.scheduledAt().compareTo(lastScheduledAt);
+          if (cmp > 0 || (cmp == 0 && compareUuid(row.id(), lastId) > 0)) {
+            lastScheduledAt = row.scheduledAt();
+            lastId = row.id();
+          }
+        }
+        if (!pause()) {
+          break;
+        }
+      }
+      updateLag(cutoff);
+      if (total > 0) {
+        log.info("Purged {} withdrawn users scheduled for deletion before {}", total, cutoff);
+      }
+      return total;
+    }
+  }
+
+  private List<PurgedRow> purgeChunk(
+      LocalDateTime cutoff, LocalDateTime lastScheduledAt, UUID lastId) {
+    Timestamp after = Timestamp.valueOf(lastScheduledAt);
+    List<PurgedRow> purged =
+        chunkTimer.record(
+            () ->
+                jdbcTemplate.query(
+                    PURGE_SQL,
+                    (rs, rowNum) ->
+                        new PurgedRow(
+                            rs.getObject(1, UUID.class), rs.getTimestamp(2).toLocalDateTime()),
+                    Timestamp.valueOf(cutoff),
+                    after,
+                    after,
+                    lastId,
+                    chunkSize,
+                    Timestamp.valueOf(LocalDateTime.now()),
+                    ANONYMIZED_NAME,
+                    ANONYMIZED_NAME));
+    rowsCounter.increment(purged.size());
+    return purged;
+  }
+
+  /**
+   * PostgreSQLのuuid型と同じ順序（16バイトの符号なし比較）でUUIDを比較します。
+   *
+   * <p>{@link UUID#compareTo(UUID)} は符号付きで比較するため、キーセットの開始位置の算出には使用できません。
+   */
+  static int compareUuid(UUID a, UUID b) {
+    int cmp = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+    return cmp != 0
+        ? cmp
+        : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+  }
+
+  private void updateLag(LocalDateTime cutoff) {
+    Timestamp oldest =
+        jdbcTemplate.queryForObject(OLDEST_DUE_SQL, Timestamp.class, Timestamp.valueOf(cutoff));
+    lagMillis.set(
+        oldest == null ? 0 : Duration.between(oldest.toLocalDateTime(), cutoff).toMillis());
+  }
+
+  private boolean pause() {
+    if (chunkPause.isZero()) {
+      return true;
+    }
+    try {
+      Thread.sleep(chunkPause.toMillis());
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  @Override
+  public String threadName() {
+    return "withdrawal-purger";
+  }
+
+  @Override
+  public Duration interval() {
+    return interval;
+  }
+
+  @Override
+  public void runOnce() {
+    try {
+      purge();
+    } catch (DataAccessException e) {
+      failureCounter.increment();
+      log.warn("Failed to purge withdrawn users: {}", e.getMessage());
+    }
+  }
+
+  private record PurgedRow(UUID id, LocalDateTime scheduledAt) {}
+}
@@ -1,8 +1,11 @@
 package com.ecsite.auth.service;
 
+import com.ecsite.auth.cache.UserStatusCache;
 import com.ecsite.auth.dto.WithdrawalRequest;
 import com.ecsite.auth.dto.WithdrawalResponse;
+import com.ecsite.auth.entity.RefreshTokenFamily;
 import com.ecsite.auth.entity.User;
+import com.ecsite.auth.repository.RefreshTokenFamilyRepository;
 import com.ecsite.auth.repository.UserRepository;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -22,7 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
  * <ol>
  *   <li>Phase 1（即時）: ステータスをPENDING_DELETIONに変更、削除予定日時を設定
  *   <li>Phase 2（猶予期間）: 設定可能な猶予期間（デフォルト30日）、ユーザーはログイン不可
- *   <li>Phase 3（最終処理）: ステータスをDELETEDに変更、個人情報を匿名化（将来実装）
+ *   <li>Phase 3（最終処理）: ステータスをDELETEDに変更、個人情報を匿名化（{@link WithdrawalPurger}）
  * </ol>
  */
 @Service
@@ -32,6 +35,8 @@ public class WithdrawalService {
 
   private final UserRepository userRepository;
   private final NotificationService notificationService;
+  private final UserStatusCache userStatusCache;
+  private final RefreshTokenFamilyRepository familyRepository;
 
   @Value("${withdrawal.grace-days:30}")
   private int gracePeriodDays;
@@ -73,6 +78,9 @@ public class WithdrawalService {
     user.setWithdrawalReason(request.getReason());
 
     User updatedUser = userRepository.save(user);
+    userStatusCache.invalidate(userId);
+    familyRepository.revokeAllForUser(
+        userId, RefreshTokenFamily.REVOKED_WITHDRAWN, LocalDateTime.now());
     log.info(
         "User {} status updated to PENDING_DELETION, scheduled for deletion at: {}",
         userId,
@@ -84,18 +92,15 @@ public class WithdrawalService {
   }
 
   /**
-   * 退会確認通知を送信します
+   * 退会確認通知の送信を予約します
+   *
+   * <p>通知は退会処理と同じトランザクションでアウトボックスに保存されるため、保存に失敗した場合は退会処理もロールバックされます。
    *
    * @param user 退会処理対象のユーザー
    */
   private void sendWithdrawalNotification(User user) {
-    try {
-      notificationService.sendWithdrawalConfirmation(
-          user.getEmail(), user.getDeletionScheduledAt());
-      log.info("Withdrawal confirmation email sent to user: {}", user.getId());
-    } catch (Exception e) {
-      log.error("Failed to send withdrawal confirmation email to user: {}", user.getId(), e);
-    }
+    notificationService.sendWithdrawalConfirmation(user.getEmail(), user.getDeletionScheduledAt());
+    log.info("Withdrawal confirmation email queued for user: {}", user.getId());
   }
 
   /**
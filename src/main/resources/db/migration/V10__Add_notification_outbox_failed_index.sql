@@ -0,0 +1,7 @@
+-- 再送を止めた行のみを対象とする部分インデックス（保持期間を過ぎた行をExpiredTokenReaperが失敗日時の順に削除する）
+-- FAILEDの行のnext_attempt_atは失敗日時
+CREATE INDEX idx_notification_outbox_failed
+    ON auth_schema.notification_outbox(next_attempt_at)
+    WHERE status = 'FAILED';
+
+COMMENT ON TABLE auth_schema.notification_outbox IS '通知のトランザクショナルアウトボックス（配信済みの行は削除、FAILEDの行は保持期間の経過後に削除）';
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS auth_schema.login_attempts (
+    limit_key VARCHAR(330) NOT NULL,
+    bucket BIGINT NOT NULL,
+    attempts INTEGER NOT NULL,
+    CONSTRAINT pk_login_attempts PRIMARY KEY (limit_key, bucket)
+);
+
+CREATE INDEX idx_login_attempts_bucket
+    ON auth_schema.login_attempts(bucket);
+
+COMMENT ON TABLE auth_schema.login_attempts IS 'ログイン失敗回数のクラスタ共有カウンター（サブウィンドウ単位）';
+COMMENT ON COLUMN auth_schema.login_attempts.limit_key IS 'レート制限キー（email:メールアドレス / ip:IPアドレス）';
+COMMENT ON COLUMN auth_schema.login_attempts.bucket IS 'サブウィンドウ番号（エポックミリ秒 / サブウィンドウ長）';
+COMMENT ON COLUMN auth_schema.login_attempts.attempts IS 'サブウィンドウ内のログイン失敗回数（全ノード合計）';
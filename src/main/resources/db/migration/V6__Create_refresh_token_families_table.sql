@@ -0,0 +1,32 @@
+CREATE TABLE IF NOT EXISTS auth_schema.refresh_token_families (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    user_id UUID NOT NULL,
+    current_jti UUID NOT NULL,
+    generation INTEGER NOT NULL DEFAULT 0,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP,
+    revoked_reason VARCHAR(30),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_refresh_token_families_user
+        FOREIGN KEY (user_id)
+        REFERENCES auth_schema.users(id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_refresh_token_families_user_id
+    ON auth_schema.refresh_token_families(user_id);
+
+CREATE INDEX idx_refresh_token_families_expires_at
+    ON auth_schema.refresh_token_families(expires_at);
+
+COMMENT ON TABLE auth_schema.refresh_token_families IS 'リフレッシュトークンファミリー管理テーブル（ローテーションと再利用検知）';
+COMMENT ON COLUMN auth_schema.refresh_token_families.id IS 'ファミリーID（リフレッシュトークンのfidクレーム）';
+COMMENT ON COLUMN auth_schema.refresh_token_families.user_id IS 'ユーザーID（外部キー）';
+COMMENT ON COLUMN auth_schema.refresh_token_families.current_jti IS '現在有効なリフレッシュトークンのjti（ファミリーの先頭）';
+COMMENT ON COLUMN auth_schema.refresh_token_families.generation IS 'ローテーション回数';
+COMMENT ON COLUMN auth_schema.refresh_token_families.expires_at IS '現在のリフレッシュトークンの有効期限';
+COMMENT ON COLUMN auth_schema.refresh_token_families.revoked_at IS 'ファミリー失効日時（NULL=有効）';
+COMMENT ON COLUMN auth_schema.refresh_token_families.revoked_reason IS '失効理由（REUSE_DETECTED など）';
+COMMENT ON COLUMN auth_schema.refresh_token_families.created_at IS 'ファミリー作成日時（ログイン日時）';
+COMMENT ON COLUMN auth_schema.refresh_token_families.updated_at IS '最終ローテーション日時';
@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS auth_schema.revoked_access_tokens (
+    jti UUID PRIMARY KEY,
+    user_id UUID NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_revoked_access_tokens_user
+        FOREIGN KEY (user_id)
+        REFERENCES auth_schema.users(id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_revoked_access_tokens_expires_at
+    ON auth_schema.revoked_access_tokens(expires_at);
+
+COMMENT ON TABLE auth_schema.revoked_access_tokens IS '失効済みアクセストークン（有効期限を過ぎた行は定期的に削除）';
+COMMENT ON COLUMN auth_schema.revoked_access_tokens.jti IS 'アクセストークンのjti';
+COMMENT ON COLUMN auth_schema.revoked_access_tokens.user_id IS 'ユーザーID（外部キー）';
+COMMENT ON COLUMN auth_schema.revoked_access_tokens.expires_at IS 'アクセストークンの有効期限（exp）';
+COMMENT ON COLUMN auth_schema.revoked_access_tokens.revoked_at IS '失効日時';
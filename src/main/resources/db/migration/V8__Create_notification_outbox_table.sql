@@ -0,0 +1,27 @@
+CREATE TABLE IF NOT EXISTS auth_schema.notification_outbox (
+    id UUID PRIMARY KEY,
+    type VARCHAR(40) NOT NULL,
+    recipient VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 配信待ちの行のみを対象とする部分インデックス（配信済みの行は削除され、FAILEDの行は取得対象外）
+CREATE INDEX idx_notification_outbox_pending
+    ON auth_schema.notification_outbox(next_attempt_at)
+    WHERE status = 'PENDING';
+
+COMMENT ON TABLE auth_schema.notification_outbox IS '通知のトランザクショナルアウトボックス（配信済みの行は削除）';
+COMMENT ON COLUMN auth_schema.notification_outbox.id IS '通知ID';
+COMMENT ON COLUMN auth_schema.notification_outbox.type IS '通知の種類（VERIFICATION_EMAIL / PASSWORD_RESET_EMAIL / WITHDRAWAL_CONFIRMATION）';
+COMMENT ON COLUMN auth_schema.notification_outbox.recipient IS '送信先メールアドレス';
+COMMENT ON COLUMN auth_schema.notification_outbox.payload IS '通知のパラメーター（JSON）';
+COMMENT ON COLUMN auth_schema.notification_outbox.status IS 'ステータス（PENDING: 配信待ち / FAILED: 再試行上限に到達）';
+COMMENT ON COLUMN auth_schema.notification_outbox.attempts IS '配信の試行回数';
+COMMENT ON COLUMN auth_schema.notification_outbox.next_attempt_at IS '次に配信を試行できる日時（配信中はリース期限）';
+COMMENT ON COLUMN auth_schema.notification_outbox.last_error IS '直近の配信失敗の理由';
+COMMENT ON COLUMN auth_schema.notification_outbox.created_at IS '作成日時';
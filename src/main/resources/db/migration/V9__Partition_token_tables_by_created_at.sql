@@ -0,0 +1,113 @@
+-- メール認証・パスワードリセットトークンを作成日（created_at）の日単位でレンジパーティション化する。
+-- 期限切れのトークンは行単位で削除せず、TokenPartitionMaintainerが日単位のパーティションごと削除する。
+-- パーティションキーを含める必要があるため、主キーは (id, created_at) になり、tokenの一意制約はなくなる
+-- （tokenはUUIDで生成するため衝突しない）。findByTokenは各パーティションのtokenインデックスで検索する。
+-- 既存の行のうち、保持期間（tokens.reaper.retentionの既定値1日）を過ぎて期限切れのものは移行しない。
+
+CREATE TEMPORARY TABLE email_verification_tokens_migration AS
+    SELECT * FROM auth_schema.email_verification_tokens
+    WHERE expires_at >= CURRENT_TIMESTAMP - INTERVAL '1 day';
+
+CREATE TEMPORARY TABLE password_reset_tokens_migration AS
+    SELECT * FROM auth_schema.password_reset_tokens
+    WHERE expires_at >= CURRENT_TIMESTAMP - INTERVAL '1 day';
+
+DROP TABLE auth_schema.email_verification_tokens;
+DROP TABLE auth_schema.password_reset_tokens;
+
+CREATE TABLE auth_schema.email_verification_tokens (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    token VARCHAR(255) NOT NULL,
+    user_id UUID NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    verified_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT email_verification_tokens_pkey PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_email_verification_tokens_user
+        FOREIGN KEY (user_id)
+        REFERENCES auth_schema.users(id)
+        ON DELETE CASCADE
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE auth_schema.password_reset_tokens (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    token VARCHAR(255) NOT NULL,
+    user_id UUID NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    used_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT password_reset_tokens_pkey PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_password_reset_tokens_user
+        FOREIGN KEY (user_id)
+        REFERENCES auth_schema.users(id)
+        ON DELETE CASCADE
+) PARTITION BY RANGE (created_at);
+
+-- 日単位のパーティションがない期間の行（移行した古い行、パーティション作成の遅れ）を受け入れる。
+-- これらの行はExpiredTokenReaperが削除する。
+CREATE TABLE auth_schema.email_verification_tokens_default
+    PARTITION OF auth_schema.email_verification_tokens DEFAULT;
+CREATE TABLE auth_schema.password_reset_tokens_default
+    PARTITION OF auth_schema.password_reset_tokens DEFAULT;
+
+-- 前日から7日後までのパーティションを作成する（以降はTokenPartitionMaintainerが作成する）
+DO $$
+DECLARE
+    parent TEXT;
+    partition_day DATE;
+BEGIN
+    FOREACH parent IN ARRAY ARRAY['email_verification_tokens', 'password_reset_tokens'] LOOP
+        FOR partition_day IN SELECT generate_series(CURRENT_DATE - 1, CURRENT_DATE + 7, INTERVAL '1 day')::DATE LOOP
+            EXECUTE format(
+                'CREATE TABLE auth_schema.%I PARTITION OF auth_schema.%I FOR VALUES FROM (%L) TO (%L)',
+                parent || '_p' || to_char(partition_day, 'YYYYMMDD'), parent, partition_day, partition_day + 1);
+        END LOOP;
+    END LOOP;
+END $$;
+
+INSERT INTO auth_schema.email_verification_tokens
+    (id, token, user_id, expires_at, verified_at, created_at)
+    SELECT id, token, user_id, expires_at, verified_at, created_at
+    FROM email_verification_tokens_migration;
+
+INSERT INTO auth_schema.password_reset_tokens
+    (id, token, user_id, expires_at, used_at, created_at)
+    SELECT id, token, user_id, expires_at, used_at, created_at
+    FROM password_reset_tokens_migration;
+
+DROP TABLE email_verification_tokens_migration;
+DROP TABLE password_reset_tokens_migration;
+
+CREATE INDEX idx_email_verification_tokens_token
+    ON auth_schema.email_verification_tokens(token);
+
+CREATE INDEX idx_email_verification_tokens_user_id
+    ON auth_schema.email_verification_tokens(user_id);
+
+CREATE INDEX idx_email_verification_tokens_expires_at
+    ON auth_schema.email_verification_tokens(expires_at);
+
+CREATE INDEX idx_password_reset_tokens_token
+    ON auth_schema.password_reset_tokens(token);
+
+CREATE INDEX idx_password_reset_tokens_user_id
+    ON auth_schema.password_reset_tokens(user_id);
+
+CREATE INDEX idx_password_reset_tokens_expires_at
+    ON auth_schema.password_reset_tokens(expires_at);
+
+COMMENT ON TABLE auth_schema.email_verification_tokens IS 'メール認証トークン管理テーブル（created_atで日単位にパーティション化）';
+COMMENT ON COLUMN auth_schema.email_verification_tokens.id IS 'トークンID（UUID）';
+COMMENT ON COLUMN auth_schema.email_verification_tokens.token IS '認証トークン文字列';
+COMMENT ON COLUMN auth_schema.email_verification_tokens.user_id IS 'ユーザーID（外部キー）';
+COMMENT ON COLUMN auth_schema.email_verification_tokens.expires_at IS 'トークン有効期限';
+COMMENT ON COLUMN auth_schema.email_verification_tokens.verified_at IS '認証完了日時（NULL=未認証）';
+COMMENT ON COLUMN auth_schema.email_verification_tokens.created_at IS 'トークン作成日時（パーティションキー）';
+
+COMMENT ON TABLE auth_schema.password_reset_tokens IS 'パスワードリセットトークン管理テーブル（created_atで日単位にパーティション化）';
+COMMENT ON COLUMN auth_schema.password_reset_tokens.id IS 'トークンID（UUID）';
+COMMENT ON COLUMN auth_schema.password_reset_tokens.token IS 'リセットトークン文字列';
+COMMENT ON COLUMN auth_schema.password_reset_tokens.user_id IS 'ユーザーID（外部キー）';
+COMMENT ON COLUMN auth_schema.password_reset_tokens.expires_at IS 'トークン有効期限';
+COMMENT ON COLUMN auth_schema.password_reset_tokens.used_at IS 'トークン使用日時（NULL=未使用）';
+COMMENT ON COLUMN auth_schema.password_reset_tokens.created_at IS 'トークン作成日時（パーティションキー）';
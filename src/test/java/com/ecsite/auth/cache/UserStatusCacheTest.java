@@ -0,0 +1,231 @@
+package com.ecsite.auth.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecsite.auth.datasource.ReplicaRoutingDataSource;
+import com.ecsite.auth.entity.User;
+import com.ecsite.auth.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * UserStatusCacheのユニットテスト
+ *
+ * <p>キャッシュヒット時にDBアクセスが発生しないこと、および無効化のタイミングを検証します。
+ */
+@ExtendWith(MockitoExtension.class)
+class UserStatusCacheTest {
+
+  @Mock private UserRepository userRepository;
+
+  @Captor private ArgumentCaptor<Collection<UUID>> idsCaptor;
+
+  private UserStatusCache userStatusCache;
+  private UUID userId;
+
+  @BeforeEach
+  void setUp() {
+    userStatusCache =
+        new UserStatusCache(
+            userRepository,
+            new LocalCacheInvalidationBus(),
+            new SimpleMeterRegistry(),
+            Duration.ofSeconds(30),
+            1000,
+            Duration.ofSeconds(5));
+    userId = UUID.randomUUID();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void getStatus_CachesRepositoryResult() {
+    when(userRepository.findStatusById(userId)).thenReturn(Optional.of(User.UserStatus.ACTIVE));
+
+    assertEquals(User.UserStatus.ACTIVE, userStatusCache.getStatus(userId));
+    assertEquals(User.UserStatus.ACTIVE, userStatusCache.getStatus(userId));
+
+    verify(userRepository, times(1)).findStatusById(userId);
+  }
+
+  @Test
+  void getStatus_UserNotFound_ReturnsNullAndDoesNotCache() {
+    when(userRepository.findStatusById(userId)).thenReturn(Optional.empty());
+
+    assertNull(userStatusCache.getStatus(userId));
+    assertNull(userStatusCache.getStatus(userId));
+
+    verify(userRepository, times(2)).findStatusById(userId);
+  }
+
+  @Test
+  void getStatuses_LoadsOnlyMissingUsersInSingleQuery() {
+    UUID cachedUserId = UUID.randomUUID();
+    UUID unknownUserId = UUID.randomUUID();
+    when(userRepository.findStatusById(cachedUserId))
+        .thenReturn(Optional.of(User.UserStatus.PENDING_DELETION));
+    when(userRepository.findStatusesByIdIn(anyCollection()))
+        .thenReturn(List.of(statusView(userId, User.UserStatus.ACTIVE)));
+    userStatusCache.getStatus(cachedUserId);
+
+    Map<UUID, User.UserStatus> statuses =
+        userStatusCache.getStatuses(List.of(userId, cachedUserId, unknownUserId));
+
+    assertEquals(
+        Map.of(userId, User.UserStatus.ACTIVE, cachedUserId, User.UserStatus.PENDING_DELETION),
+        statuses);
+    verify(userRepository).findStatusesByIdIn(idsCaptor.capture());
+    assertEquals(Set.of(userId, unknownUserId), Set.copyOf(idsCaptor.getValue()));
+    assertEquals(User.UserStatus.ACTIVE, userStatusCache.getStatus(userId));
+  }
+
+  @Test
+  void invalidate_WithoutTransaction_EvictsImmediately() {
+    when(userRepository.findStatusById(userId))
+        .thenReturn(Optional.of(User.UserStatus.ACTIVE))
+        .thenReturn(Optional.of(User.UserStatus.PENDING_DELETION));
+
+    userStatusCache.getStatus(userId);
+    userStatusCache.invalidate(userId);
+
+    assertEquals(User.UserStatus.PENDING_DELETION, userStatusCache.getStatus(userId));
+  }
+
+  @Test
+  void invalidate_WithinTransaction_EvictsAfterCommit() {
+    when(userRepository.findStatusById(userId))
+        .thenReturn(Optional.of(User.UserStatus.ACTIVE))
+        .thenReturn(Optional.of(User.UserStatus.PENDING_DELETION));
+    userStatusCache.getStatus(userId);
+
+    TransactionSynchronizationManager.initSynchronization();
+    userStatusCache.invalidate(userId);
+
+    assertEquals(User.UserStatus.ACTIVE, userStatusCache.getStatus(userId));
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+
+    assertEquals(User.UserStatus.PENDING_DELETION, userStatusCache.getStatus(userId));
+  }
+
+  @Test
+  void getStatus_AfterInvalidation_ReadsFromPrimaryWithinWindow() {
+    List<Boolean> primaryOnly = new ArrayList<>();
+    when(userRepository.findStatusById(userId))
+        .thenAnswer(
+            invocation -> {
+              primaryOnly.add(ReplicaRoutingDataSource.isPrimaryOnly());
+              return Optional.of(User.UserStatus.ACTIVE);
+            });
+    UUID otherUserId = UUID.randomUUID();
+    when(userRepository.findStatusesByIdIn(anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              primaryOnly.add(ReplicaRoutingDataSource.isPrimaryOnly());
+              return List.of(statusView(otherUserId, User.UserStatus.ACTIVE));
+            });
+
+    userStatusCache.getStatus(userId);
+    userStatusCache.invalidate(userId);
+    userStatusCache.getStatus(userId);
+    userStatusCache.invalidate(userId);
+    userStatusCache.getStatuses(List.of(userId, otherUserId));
+
+    assertEquals(List.of(false, true, true), primaryOnly);
+    assertFalse(ReplicaRoutingDataSource.isPrimaryOnly());
+  }
+
+  @Test
+  void getStatus_AfterWindowExpires_ReadsFromReplica() {
+    userStatusCache =
+        new UserStatusCache(
+            userRepository,
+            new LocalCacheInvalidationBus(),
+            new SimpleMeterRegistry(),
+            Duration.ofSeconds(30),
+            1000,
+            Duration.ZERO);
+    when(userRepository.findStatusById(userId))
+        .thenAnswer(
+            invocation -> {
+              assertFalse(ReplicaRoutingDataSource.isPrimaryOnly());
+              return Optional.of(User.UserStatus.ACTIVE);
+            });
+
+    userStatusCache.invalidate(userId);
+    userStatusCache.onReset();
+
+    assertEquals(User.UserStatus.ACTIVE, userStatusCache.getStatus(userId));
+  }
+
+  @Test
+  void onReset_ReadsFromPrimaryWithinWindow() {
+    UUID otherUserId = UUID.randomUUID();
+    when(userRepository.findStatusById(otherUserId))
+        .thenAnswer(
+            invocation -> {
+              assertTrue(ReplicaRoutingDataSource.isPrimaryOnly());
+              return Optional.of(User.UserStatus.ACTIVE);
+            });
+
+    userStatusCache.onReset();
+
+    assertEquals(User.UserStatus.ACTIVE, userStatusCache.getStatus(otherUserId));
+  }
+
+  @Test
+  void onReset_ClearsAllEntries() {
+    when(userRepository.findStatusById(userId))
+        .thenReturn(Optional.of(User.UserStatus.ACTIVE))
+        .thenReturn(Optional.of(User.UserStatus.DELETED));
+    userStatusCache.getStatus(userId);
+
+    userStatusCache.onReset();
+
+    assertEquals(User.UserStatus.DELETED, userStatusCache.getStatus(userId));
+  }
+
+  private static UserRepository.UserStatusView statusView(UUID id, User.UserStatus status) {
+    return new UserRepository.UserStatusView() {
+      @Override
+      public UUID getId() {
+        return id;
+      }
+
+      @Override
+      public User.UserStatus getStatus() {
+        return status;
+      }
+    };
+  }
+}
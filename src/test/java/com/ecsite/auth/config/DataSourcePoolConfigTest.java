@@ -0,0 +1,53 @@
+package com.ecsite.auth.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * DataSourcePoolConfigのユニットテスト
+ *
+ * <p>接続プールの最大サイズの算出と、明示的な設定が優先されることを検証します。
+ */
+class DataSourcePoolConfigTest {
+
+  @Test
+  void derivePoolSize_UsesTwiceCoresPlusOne() {
+    assertEquals(17, DataSourcePoolConfig.derivePoolSize(8));
+    assertEquals(33, DataSourcePoolConfig.derivePoolSize(16));
+  }
+
+  @Test
+  void derivePoolSize_SmallNode_UsesHikariDefault() {
+    assertEquals(10, DataSourcePoolConfig.derivePoolSize(1));
+  }
+
+  @Test
+  void hikariPoolSizer_NotConfigured_SetsDerivedSize() {
+    HikariDataSource dataSource = new HikariDataSource();
+    BeanPostProcessor sizer = DataSourcePoolConfig.hikariPoolSizer(new MockEnvironment());
+
+    sizer.postProcessBeforeInitialization(dataSource, "dataSource");
+
+    assertEquals(
+        DataSourcePoolConfig.derivePoolSize(Runtime.getRuntime().availableProcessors()),
+        dataSource.getMaximumPoolSize());
+  }
+
+  @Test
+  void hikariPoolSizer_Configured_KeepsConfiguredSize() {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setMaximumPoolSize(4);
+    BeanPostProcessor sizer =
+        DataSourcePoolConfig.hikariPoolSizer(
+            new MockEnvironment()
+                .withProperty(DataSourcePoolConfig.MAXIMUM_POOL_SIZE_PROPERTY, "4"));
+
+    sizer.postProcessBeforeInitialization(dataSource, "dataSource");
+
+    assertEquals(4, dataSource.getMaximumPoolSize());
+  }
+}
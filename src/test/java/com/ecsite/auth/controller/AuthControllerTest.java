@@ -1,26 +1,45 @@
 package com.ecsite.auth.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.ecsite.auth.cache.UserStatusCache;
 import com.ecsite.auth.config.SecurityConfig;
 import com.ecsite.auth.dto.AuthTokenResponse;
 import com.ecsite.auth.dto.CreateUserRequest;
+import com.ecsite.auth.dto.LoginRequest;
+import com.ecsite.auth.dto.RefreshTokenRequest;
 import com.ecsite.auth.dto.RegistrationResponse;
 import com.ecsite.auth.dto.UserResponse;
+import com.ecsite.auth.entity.RefreshTokenFamily;
 import com.ecsite.auth.entity.User;
+import com.ecsite.auth.exception.LoginRateLimitedException;
+import com.ecsite.auth.exception.PasswordHashingOverloadedException;
 import com.ecsite.auth.exception.UserAlreadyExistsException;
+import com.ecsite.auth.ratelimit.LoginRateLimiter;
 import com.ecsite.auth.repository.UserRepository;
+import com.ecsite.auth.security.AccessTokenPolicy;
+import com.ecsite.auth.security.AccessTokenRevocationList;
 import com.ecsite.auth.security.JwtUtil;
+import com.ecsite.auth.security.RouteClassifier;
+import com.ecsite.auth.security.VerifiedTokenCache;
 import com.ecsite.auth.service.EmailVerificationService;
 import com.ecsite.auth.service.LoginService;
 import com.ecsite.auth.service.PasswordResetService;
+import com.ecsite.auth.service.RefreshTokenService;
 import com.ecsite.auth.service.UserRegistrationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,10 +49,11 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(AuthController.class)
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, RouteClassifier.class, AccessTokenPolicy.class})
 class AuthControllerTest {
 
   @Autowired private MockMvc mockMvc;
@@ -48,8 +68,18 @@ class AuthControllerTest {
 
   @MockBean private PasswordResetService passwordResetService;
 
+  @MockBean private LoginRateLimiter loginRateLimiter;
+
+  @MockBean private RefreshTokenService refreshTokenService;
+
   @MockBean private JwtUtil jwtUtil;
 
+  @MockBean private VerifiedTokenCache verifiedTokenCache;
+
+  @MockBean private UserStatusCache userStatusCache;
+
+  @MockBean private AccessTokenRevocationList accessTokenRevocationList;
+
   @MockBean private UserRepository userRepository;
 
   private CreateUserRequest validRequest;
@@ -130,6 +160,26 @@ class AuthControllerTest {
         .andExpect(jsonPath("$.timestamp").exists());
   }
 
+  @Test
+  void register_HashingOverloaded_ReturnsServiceUnavailable() throws Exception {
+    when(userRegistrationService.registerUser(any(CreateUserRequest.class)))
+        .thenThrow(
+            new PasswordHashingOverloadedException(
+                "Too many concurrent authentication requests. Please retry later.",
+                Duration.ofSeconds(2)));
+
+    mockMvc
+        .perform(
+            post("/api/v1/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(validRequest))
+                .with(csrf()))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(header().string("Retry-After", "2"))
+        .andExpect(jsonPath("$.status").value("error"))
+        .andExpect(jsonPath("$.timestamp").exists());
+  }
+
   @Test
   void register_InvalidEmail_ReturnsBadRequest() throws Exception {
     validRequest.setEmail("invalid-email");
@@ -217,4 +267,150 @@ class AuthControllerTest {
                 .with(csrf()))
         .andExpect(status().isBadRequest());
   }
+
+  @Test
+  void login_InvalidCredentials_RecordsFailure() throws Exception {
+    LoginRequest loginRequest = new LoginRequest();
+    loginRequest.setEmail("test@example.com");
+    loginRequest.setPassword("WrongPass123!");
+    when(loginService.authenticateUser(any(LoginRequest.class)))
+        .thenThrow(new BadCredentialsException("Invalid email or password"));
+
+    mockMvc
+        .perform(
+            post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginRequest))
+                .with(csrf())
+                .with(
+                    request -> {
+                      request.setRemoteAddr("203.0.113.10");
+                      return request;
+                    }))
+        .andExpect(status().isUnauthorized());
+
+    verify(loginRateLimiter).checkAllowed("test@example.com", "203.0.113.10");
+    verify(loginRateLimiter).recordFailure("test@example.com", "203.0.113.10");
+    verify(loginRateLimiter, never()).recordSuccess(anyString());
+  }
+
+  @Test
+  void login_LockedOut_ReturnsTooManyRequestsWithoutAuthenticating() throws Exception {
+    LoginRequest loginRequest = new LoginRequest();
+    loginRequest.setEmail("test@example.com");
+    loginRequest.setPassword("SecurePass123!");
+    doThrow(
+            new LoginRateLimitedException(
+                "Too many failed login attempts. Please retry later.", Duration.ofMillis(90500)))
+        .when(loginRateLimiter)
+        .checkAllowed(anyString(), anyString());
+
+    mockMvc
+        .perform(
+            post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginRequest))
+                .with(csrf()))
+        .andExpect(status().isTooManyRequests())
+        .andExpect(header().string("Retry-After", "91"))
+        .andExpect(jsonPath("$.status").value("error"))
+        .andExpect(jsonPath("$.timestamp").exists());
+
+    verify(loginService, never()).authenticateUser(any(LoginRequest.class));
+  }
+
+  @Test
+  void refresh_ValidToken_ReturnsNewTokens() throws Exception {
+    RefreshTokenRequest refreshRequest = new RefreshTokenRequest();
+    refreshRequest.setRefreshToken("refresh-token");
+    when(refreshTokenService.refresh("refresh-token"))
+        .thenReturn(
+            AuthTokenResponse.builder()
+                .accessToken("new-access-token")
+                .refreshToken("new-refresh-token")
+                .tokenType("bearer")
+                .expiresIn(900)
+                .build());
+
+    mockMvc
+        .perform(
+            post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(refreshRequest))
+                .with(csrf()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.accessToken").value("new-access-token"))
+        .andExpect(jsonPath("$.refreshToken").value("new-refresh-token"));
+  }
+
+  @Test
+  void refresh_ReusedToken_ReturnsUnauthorized() throws Exception {
+    RefreshTokenRequest refreshRequest = new RefreshTokenRequest();
+    refreshRequest.setRefreshToken("reused-token");
+    when(refreshTokenService.refresh("reused-token"))
+        .thenThrow(new BadCredentialsException("Invalid refresh token"));
+
+    mockMvc
+        .perform(
+            post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(refreshRequest))
+                .with(csrf()))
+        .andExpect(status().isUnauthorized())
+        .andExpect(jsonPath("$.message").value("Invalid refresh token"));
+  }
+
+  @Test
+  void refresh_MissingToken_ReturnsBadRequest() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}")
+                .with(csrf()))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void logout_ValidToken_RevokesAccessTokenAndRefreshTokenFamilies() throws Exception {
+    UUID userId = UUID.randomUUID();
+    String jti = UUID.randomUUID().toString();
+    Instant expiresAt = Instant.now().plusSeconds(900);
+    when(verifiedTokenCache.verify("access-token"))
+        .thenReturn(
+            new VerifiedTokenCache.VerifiedToken(
+                userId.toString(), "USER", jti, expiresAt, "ACCESS"));
+    when(userStatusCache.getStatus(userId)).thenReturn(User.UserStatus.ACTIVE);
+
+    mockMvc
+        .perform(
+            post("/api/v1/auth/logout").header("Authorization", "Bearer access-token").with(csrf()))
+        .andExpect(status().isNoContent());
+
+    verify(accessTokenRevocationList).revoke(jti, userId, expiresAt);
+    verify(refreshTokenService).revokeAll(userId, RefreshTokenFamily.REVOKED_LOGOUT);
+  }
+
+  @Test
+  void logout_RevokedToken_IsNotAuthenticated() throws Exception {
+    UUID userId = UUID.randomUUID();
+    String jti = UUID.randomUUID().toString();
+    when(verifiedTokenCache.verify("revoked-token"))
+        .thenReturn(
+            new VerifiedTokenCache.VerifiedToken(
+                userId.toString(), "USER", jti, Instant.now().plusSeconds(900), "ACCESS"));
+    when(accessTokenRevocationList.isRevoked(jti)).thenReturn(true);
+
+    mockMvc
+        .perform(
+            post("/api/v1/auth/logout")
+                .header("Authorization", "Bearer revoked-token")
+                .with(csrf()))
+        .andExpect(status().isForbidden());
+
+    verify(userStatusCache, never()).getStatus(any(UUID.class));
+    verify(accessTokenRevocationList, never())
+        .revoke(anyString(), any(UUID.class), any(Instant.class));
+    verify(refreshTokenService, never()).revokeAll(any(UUID.class), anyString());
+  }
 }
@@ -0,0 +1,94 @@
+package com.ecsite.auth.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.ecsite.auth.cache.UserStatusCache;
+import com.ecsite.auth.config.SecurityConfig;
+import com.ecsite.auth.repository.UserRepository;
+import com.ecsite.auth.security.AccessTokenPolicy;
+import com.ecsite.auth.security.AccessTokenRevocationList;
+import com.ecsite.auth.security.JwtKeyRing;
+import com.ecsite.auth.security.JwtUtil;
+import com.ecsite.auth.security.RouteClassifier;
+import com.ecsite.auth.security.VerifiedTokenCache;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(JwkSetController.class)
+@Import({SecurityConfig.class, RouteClassifier.class, AccessTokenPolicy.class})
+class JwkSetControllerTest {
+
+  private static final String JWKS = "{\"keys\":[{\"kty\":\"EC\",\"kid\":\"key-1\"}]}";
+
+  private static final String ETAG = "\"abc123\"";
+
+  @Autowired private MockMvc mockMvc;
+
+  @MockBean private JwtKeyRing jwtKeyRing;
+
+  @MockBean private JwtUtil jwtUtil;
+
+  @MockBean private VerifiedTokenCache verifiedTokenCache;
+
+  @MockBean private UserStatusCache userStatusCache;
+
+  @MockBean private AccessTokenRevocationList accessTokenRevocationList;
+
+  @MockBean private UserRepository userRepository;
+
+  @BeforeEach
+  void setUp() {
+    when(jwtKeyRing.jwkSetETag()).thenReturn(ETAG);
+  }
+
+  @Test
+  void jwks_ReturnsCacheableKeySetWithoutAuthentication() throws Exception {
+    when(jwtKeyRing.jwkSetJson()).thenReturn(JWKS);
+
+    mockMvc
+        .perform(get("/.well-known/jwks.json"))
+        .andExpect(status().isOk())
+        .andExpect(content().json(JWKS))
+        .andExpect(header().string("ETag", ETAG))
+        .andExpect(header().string("Cache-Control", "max-age=300, public"));
+  }
+
+  @Test
+  void jwks_MatchingETag_ReturnsNotModified() throws Exception {
+    mockMvc
+        .perform(get("/.well-known/jwks.json").header("If-None-Match", ETAG))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("ETag", ETAG))
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void jwks_WeakOrListedETag_ReturnsNotModified() throws Exception {
+    for (String ifNoneMatch : List.of("W/" + ETAG, "\"other\", " + ETAG, "*")) {
+      mockMvc
+          .perform(get("/.well-known/jwks.json").header("If-None-Match", ifNoneMatch))
+          .andExpect(status().isNotModified())
+          .andExpect(header().string("ETag", ETAG));
+    }
+  }
+
+  @Test
+  void jwks_StaleETag_ReturnsKeySet() throws Exception {
+    when(jwtKeyRing.jwkSetJson()).thenReturn(JWKS);
+
+    mockMvc
+        .perform(get("/.well-known/jwks.json").header("If-None-Match", "\"stale\""))
+        .andExpect(status().isOk())
+        .andExpect(content().json(JWKS));
+  }
+}
@@ -0,0 +1,144 @@
+package com.ecsite.auth.controller;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.ecsite.auth.cache.UserStatusCache;
+import com.ecsite.auth.config.SecurityConfig;
+import com.ecsite.auth.dto.TokenIntrospectionRequest;
+import com.ecsite.auth.dto.TokenIntrospectionResponse;
+import com.ecsite.auth.repository.UserRepository;
+import com.ecsite.auth.security.AccessTokenPolicy;
+import com.ecsite.auth.security.AccessTokenRevocationList;
+import com.ecsite.auth.security.JwtUtil;
+import com.ecsite.auth.security.RouteClassifier;
+import com.ecsite.auth.security.VerifiedTokenCache;
+import com.ecsite.auth.service.TokenIntrospectionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * TokenIntrospectionControllerのユニットテスト
+ *
+ * <p>クライアントシークレットによる認証と、リクエスト件数のバリデーションを検証します。
+ */
+@WebMvcTest(TokenIntrospectionController.class)
+@Import({SecurityConfig.class, RouteClassifier.class, AccessTokenPolicy.class})
+@TestPropertySource(properties = "introspection.client-secret=gateway-secret")
+class TokenIntrospectionControllerTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @MockBean private TokenIntrospectionService tokenIntrospectionService;
+
+  @MockBean private JwtUtil jwtUtil;
+
+  @MockBean private VerifiedTokenCache verifiedTokenCache;
+
+  @MockBean private UserStatusCache userStatusCache;
+
+  @MockBean private AccessTokenRevocationList accessTokenRevocationList;
+
+  @MockBean private UserRepository userRepository;
+
+  @Test
+  void introspect_ValidSecret_ReturnsResultsInOrder() throws Exception {
+    when(tokenIntrospectionService.introspect(List.of("token-1", "token-2")))
+        .thenReturn(
+            List.of(
+                TokenIntrospectionResponse.Result.builder()
+                    .active(true)
+                    .sub("user-1")
+                    .role("USER")
+                    .jti("jti-1")
+                    .exp(1700000000L)
+                    .build(),
+                TokenIntrospectionResponse.Result.inactive()));
+
+    mockMvc
+        .perform(
+            post("/api/v1/auth/introspect")
+                .header(TokenIntrospectionController.CLIENT_SECRET_HEADER, "gateway-secret")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body(List.of("token-1", "token-2"))))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.results[0].active").value(true))
+        .andExpect(jsonPath("$.results[0].sub").value("user-1"))
+        .andExpect(jsonPath("$.results[0].exp").value(1700000000L))
+        .andExpect(jsonPath("$.results[1].active").value(false))
+        .andExpect(jsonPath("$.results[1].sub").doesNotExist());
+  }
+
+  @Test
+  void introspect_WrongSecret_ReturnsUnauthorized() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/v1/auth/introspect")
+                .header(TokenIntrospectionController.CLIENT_SECRET_HEADER, "wrong-secret")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body(List.of("token-1"))))
+        .andExpect(status().isUnauthorized());
+
+    verifyNoInteractions(tokenIntrospectionService);
+  }
+
+  @Test
+  void introspect_MissingSecret_ReturnsUnauthorized() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/v1/auth/introspect")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body(List.of("token-1"))))
+        .andExpect(status().isUnauthorized());
+
+    verifyNoInteractions(tokenIntrospectionService);
+  }
+
+  @Test
+  void introspect_TooManyTokens_ReturnsBadRequest() throws Exception {
+    List<String> tokens = Collections.nCopies(TokenIntrospectionRequest.MAX_TOKENS + 1, "token");
+
+    mockMvc
+        .perform(
+            post("/api/v1/auth/introspect")
+                .header(TokenIntrospectionController.CLIENT_SECRET_HEADER, "gateway-secret")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body(tokens)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors[0].field").value("tokens"));
+
+    verifyNoInteractions(tokenIntrospectionService);
+  }
+
+  @Test
+  void introspect_EmptyTokens_ReturnsBadRequest() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/v1/auth/introspect")
+                .header(TokenIntrospectionController.CLIENT_SECRET_HEADER, "gateway-secret")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body(List.of())))
+        .andExpect(status().isBadRequest());
+
+    verifyNoInteractions(tokenIntrospectionService);
+  }
+
+  private String body(List<String> tokens) throws Exception {
+    return objectMapper.writeValueAsString(
+        TokenIntrospectionRequest.builder().tokens(tokens).build());
+  }
+}
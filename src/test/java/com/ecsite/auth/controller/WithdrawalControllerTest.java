@@ -9,11 +9,16 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.ecsite.auth.cache.UserStatusCache;
 import com.ecsite.auth.config.SecurityConfig;
 import com.ecsite.auth.dto.WithdrawalRequest;
 import com.ecsite.auth.dto.WithdrawalResponse;
 import com.ecsite.auth.repository.UserRepository;
+import com.ecsite.auth.security.AccessTokenPolicy;
+import com.ecsite.auth.security.AccessTokenRevocationList;
 import com.ecsite.auth.security.JwtUtil;
+import com.ecsite.auth.security.RouteClassifier;
+import com.ecsite.auth.security.VerifiedTokenCache;
 import com.ecsite.auth.service.WithdrawalService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDateTime;
@@ -33,7 +38,7 @@ import org.springframework.test.web.servlet.MockMvc;
  * <p>ユーザー退会処理コントローラーのAPIエンドポイントをテストします。
  */
 @WebMvcTest(WithdrawalController.class)
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, RouteClassifier.class, AccessTokenPolicy.class})
 class WithdrawalControllerTest {
 
   @Autowired private MockMvc mockMvc;
@@ -44,6 +49,12 @@ class WithdrawalControllerTest {
 
   @MockBean private JwtUtil jwtUtil;
 
+  @MockBean private VerifiedTokenCache verifiedTokenCache;
+
+  @MockBean private UserStatusCache userStatusCache;
+
+  @MockBean private AccessTokenRevocationList accessTokenRevocationList;
+
   @MockBean private UserRepository userRepository;
 
   private UUID userId;
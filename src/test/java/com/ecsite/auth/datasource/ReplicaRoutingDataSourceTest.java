@@ -0,0 +1,185 @@
+package com.ecsite.auth.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * ReplicaRoutingDataSourceのユニットテスト
+ *
+ * <p>トランザクションの読み取り専用属性とレプリカの遅延による振り分け先を検証します。
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+  @Mock private DataSource primary;
+  @Mock private DataSource replica1;
+  @Mock private DataSource replica2;
+  @Mock private Connection primaryConnection;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+  }
+
+  @Test
+  void getConnection_ReadWriteTransaction_UsesPrimary() throws SQLException {
+    ReplicaRoutingDataSource routing = routing(Map.of("replica-1", replica1));
+    when(primary.getConnection()).thenReturn(primaryConnection);
+
+    assertSame(primaryConnection, routing.getConnection());
+  }
+
+  @Test
+  void getConnection_ReadOnlyTransaction_RoundRobinsAvailableReplicas() throws SQLException {
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    replicas.put("replica-1", replica1);
+    replicas.put("replica-2", replica2);
+    ReplicaRoutingDataSource routing = routing(replicas);
+    Connection connection1 = replicaWithLag(replica1, 0.2);
+    Connection connection2 = replicaWithLag(replica2, 0.0);
+    routing.checkReplicas();
+
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    assertEquals(List.of("replica-1", "replica-2"), routing.availableReplicas());
+    assertSame(connection1, routing.getConnection());
+    assertSame(connection2, routing.getConnection());
+    assertSame(connection1, routing.getConnection());
+    assertEquals(
+        0.2,
+        meterRegistry.get("datasource.replica.lag").tag("replica", "replica-1").gauge().value());
+  }
+
+  @Test
+  void getConnection_ReplicaLagExceedsLimit_FallsBackToPrimary() throws SQLException {
+    ReplicaRoutingDataSource routing = routing(Map.of("replica-1", replica1));
+    replicaWithLag(replica1, 5.0);
+    when(primary.getConnection()).thenReturn(primaryConnection);
+    routing.checkReplicas();
+
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    assertTrue(routing.availableReplicas().isEmpty());
+    assertSame(primaryConnection, routing.getConnection());
+    assertEquals(1.0, meterRegistry.get("datasource.replica.fallbacks").counter().count());
+    assertEquals(0.0, meterRegistry.get("datasource.replica.available").gauge().value());
+  }
+
+  @Test
+  void checkReplicas_ReplicationLagUnknown_ExcludesReplica() throws SQLException {
+    ReplicaRoutingDataSource routing = routing(Map.of("replica-1", replica1));
+    replicaWithUnknownLag(replica1);
+
+    routing.checkReplicas();
+
+    assertTrue(routing.availableReplicas().isEmpty());
+    assertTrue(
+        Double.isNaN(
+            meterRegistry
+                .get("datasource.replica.lag")
+                .tag("replica", "replica-1")
+                .gauge()
+                .value()));
+  }
+
+  @Test
+  void checkReplicas_ReplicaUnreachable_ExcludesReplica() throws SQLException {
+    ReplicaRoutingDataSource routing = routing(Map.of("replica-1", replica1));
+    when(replica1.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+    routing.checkReplicas();
+
+    assertTrue(routing.availableReplicas().isEmpty());
+    assertTrue(
+        Double.isNaN(
+            meterRegistry
+                .get("datasource.replica.lag")
+                .tag("replica", "replica-1")
+                .gauge()
+                .value()));
+  }
+
+  @Test
+  void onPrimary_ReadOnlyTransaction_UsesPrimary() throws SQLException {
+    ReplicaRoutingDataSource routing = routing(Map.of("replica-1", replica1));
+    replicaWithLag(replica1, 0.0);
+    when(primary.getConnection()).thenReturn(primaryConnection);
+    routing.checkReplicas();
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    Connection connection =
+        ReplicaRoutingDataSource.onPrimary(
+            () -> {
+              try {
+                return routing.getConnection();
+              } catch (SQLException e) {
+                throw new IllegalStateException(e);
+              }
+            });
+
+    assertSame(primaryConnection, connection);
+  }
+
+  private ReplicaRoutingDataSource routing(Map<String, DataSource> replicas) {
+    ReplicaRoutingDataSource routing =
+        new ReplicaRoutingDataSource(
+            primary, replicas, Duration.ofSeconds(1), Duration.ofSeconds(2), meterRegistry);
+    routing.afterPropertiesSet();
+    return routing;
+  }
+
+  /** 遅延の計測クエリに指定の値を返し、以降の接続要求には同じ接続を返すレプリカを設定します。 */
+  private static Connection replicaWithLag(DataSource replica, double lagSeconds)
+      throws SQLException {
+    Connection connection = mock(Connection.class);
+    ResultSet resultSet = lagResultSet(replica, connection);
+    when(resultSet.getDouble(1)).thenReturn(lagSeconds);
+    return connection;
+  }
+
+  /** 遅延の計測クエリにNULL（WALを受信していないため遅延が不明）を返すレプリカを設定します。 */
+  private static void replicaWithUnknownLag(DataSource replica) throws SQLException {
+    ResultSet resultSet = lagResultSet(replica, mock(Connection.class));
+    when(resultSet.getDouble(1)).thenReturn(0.0);
+    when(resultSet.wasNull()).thenReturn(true);
+  }
+
+  private static ResultSet lagResultSet(DataSource replica, Connection connection)
+      throws SQLException {
+    Statement statement = mock(Statement.class);
+    ResultSet resultSet = mock(ResultSet.class);
+    when(replica.getConnection()).thenReturn(connection);
+    when(connection.createStatement()).thenReturn(statement);
+    when(statement.executeQuery(ReplicaRoutingDataSource.LAG_QUERY)).thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(true);
+    return resultSet;
+  }
+}
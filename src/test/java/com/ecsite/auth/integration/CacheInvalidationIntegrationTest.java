@@ -0,0 +1,111 @@
+package com.ecsite.auth.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecsite.auth.cache.CacheInvalidationListener;
+import com.ecsite.auth.cache.PostgresCacheInvalidationBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * PostgresCacheInvalidationBus統合テスト
+ *
+ * <p>Testcontainersで起動したPostgreSQLに対して2つのバス（2ノード相当）を接続し、 一方で発行した無効化イベントが他方へ配信されることを検証します。
+ */
+@Testcontainers
+class CacheInvalidationIntegrationTest {
+
+  @Container
+  private static PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>("postgres:15-alpine")
+          .withDatabaseName("auth_test")
+          .withUsername("test")
+          .withPassword("test");
+
+  private PostgresCacheInvalidationBus nodeA;
+  private PostgresCacheInvalidationBus nodeB;
+  private RecordingListener listenerB;
+
+  @BeforeEach
+  void setUp() throws InterruptedException {
+    nodeA = createBus();
+    nodeB = createBus();
+    listenerB = new RecordingListener();
+    nodeB.subscribe("user-status", listenerB);
+
+    nodeA.start();
+    nodeB.start();
+
+    // 接続確立時のリセットイベントを待ってから検証を開始する
+    assertThat(listenerB.events.poll(10, TimeUnit.SECONDS)).isEqualTo(RecordingListener.RESET);
+  }
+
+  @AfterEach
+  void tearDown() {
+    nodeA.stop();
+    nodeB.stop();
+  }
+
+  @Test
+  void publish_DeliversToOtherNode() throws InterruptedException {
+    nodeA.publish("user-status", "3f2a9c1e-0000-0000-0000-000000000001");
+
+    assertThat(listenerB.events.poll(5, TimeUnit.SECONDS))
+        .isEqualTo("3f2a9c1e-0000-0000-0000-000000000001");
+  }
+
+  @Test
+  void publish_OtherCache_IsNotDelivered() throws InterruptedException {
+    nodeA.publish("other-cache", "key");
+
+    assertThat(listenerB.events.poll(1, TimeUnit.SECONDS)).isNull();
+  }
+
+  private PostgresCacheInvalidationBus createBus() {
+    DataSourceProperties properties = new DataSourceProperties();
+    properties.setUrl(postgres.getJdbcUrl());
+    properties.setUsername(postgres.getUsername());
+    properties.setPassword(postgres.getPassword());
+
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+
+    return new PostgresCacheInvalidationBus(
+        new JdbcTemplate(dataSource),
+        properties,
+        new SimpleMeterRegistry(),
+        "auth_schema_cache_invalidation",
+        Duration.ofMillis(100),
+        Duration.ofMillis(100));
+  }
+
+  private static final class RecordingListener implements CacheInvalidationListener {
+
+    static final String RESET = "<reset>";
+
+    final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+
+    @Override
+    public void onInvalidate(String key) {
+      events.add(key);
+    }
+
+    @Override
+    public void onReset() {
+      events.add(RESET);
+    }
+  }
+}
@@ -0,0 +1,211 @@
+package com.ecsite.auth.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecsite.auth.service.ExpiredTokenReaper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * ExpiredTokenReaper統合テスト
+ *
+ * <p>Testcontainersで起動したPostgreSQLに対して、DEFAULTパーティションの保持期間を過ぎたトークンのみを削除すること、
+ * 保持期間を過ぎたリフレッシュトークンファミリー（失効済みを含む）とFAILEDの通知の削除、 1回の処理での削除件数の上限、全パーティションのテーブルサイズのメトリクスを検証します。
+ * 日単位のパーティションがない過去の作成日時のトークンはDEFAULTパーティションに入ります。
+ */
+@Testcontainers
+class ExpiredTokenReaperIntegrationTest {
+
+  @Container
+  private static PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>("postgres:15-alpine")
+          .withDatabaseName("auth_test")
+          .withUsername("test")
+          .withPassword("test");
+
+  private static JdbcTemplate jdbcTemplate;
+
+  private SimpleMeterRegistry meterRegistry;
+  private UUID userId;
+
+  @BeforeAll
+  static void migrate() {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+    jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.update("DELETE FROM auth_schema.notification_outbox");
+    jdbcTemplate.update("DELETE FROM auth_schema.users");
+    meterRegistry = new SimpleMeterRegistry();
+    userId =
+        jdbcTemplate.queryForObject(
+            "INSERT INTO auth_schema.users (email, password_hash, first_name, last_name)"
+                + " VALUES ('user@example.com', 'hash', 'Taro', 'Yamada') RETURNING id",
+            UUID.class);
+  }
+
+  @Test
+  void reap_DeletesOnlyTokensPastRetention() {
+    insert("email_verification_tokens", "old-verification", LocalDateTime.now().minusDays(3));
+    insert("email_verification_tokens", "recent-verification", LocalDateTime.now().minusHours(1));
+    insert("email_verification_tokens", "valid-verification", LocalDateTime.now().plusHours(1));
+    insert("password_reset_tokens", "old-reset", LocalDateTime.now().minusDays(2));
+    insert("password_reset_tokens", "valid-reset", LocalDateTime.now().plusHours(1));
+
+    assertThat(reaper(100, 100000).reap()).isEqualTo(2);
+
+    assertThat(tokens("email_verification_tokens"))
+        .containsExactlyInAnyOrder("recent-verification", "valid-verification");
+    assertThat(tokens("password_reset_tokens")).containsExactly("valid-reset");
+    assertThat(
+            meterRegistry
+                .counter("tokens.reaper.deleted", "table", "email_verification_tokens")
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void reap_DeletesRefreshTokenFamiliesPastRetention() {
+    insertFamily(LocalDateTime.now().minusDays(3), null);
+    insertFamily(LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(20));
+    UUID recent = insertFamily(LocalDateTime.now().minusHours(1), null);
+    UUID revoked = insertFamily(LocalDateTime.now().plusDays(10), LocalDateTime.now());
+    UUID valid = insertFamily(LocalDateTime.now().plusDays(30), null);
+
+    assertThat(reaper(100, 100000).reap()).isEqualTo(2);
+
+    assertThat(
+            jdbcTemplate.queryForList(
+                "SELECT id FROM auth_schema.refresh_token_families", UUID.class))
+        .containsExactlyInAnyOrder(recent, revoked, valid);
+    assertThat(
+            meterRegistry
+                .counter("tokens.reaper.deleted", "table", "refresh_token_families")
+                .count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void reap_DeletesOnlyFailedNotificationsPastRetention() {
+    UUID pending = insertNotification("PENDING", LocalDateTime.now().minusDays(30));
+    insertNotification("FAILED", LocalDateTime.now().minusDays(8));
+    UUID recentlyFailed = insertNotification("FAILED", LocalDateTime.now().minusDays(6));
+
+    assertThat(reaper(100, 100000).reap()).isEqualTo(1);
+
+    assertThat(
+            jdbcTemplate.queryForList("SELECT id FROM auth_schema.notification_outbox", UUID.class))
+        .containsExactlyInAnyOrder(pending, recentlyFailed);
+  }
+
+  @Test
+  void reap_MoreRowsThanMaxPerRun_LeavesRestForNextRun() {
+    jdbcTemplate.update(
+        "INSERT INTO auth_schema.password_reset_tokens (token, user_id, expires_at, created_at)"
+            + " SELECT 'token-' || i, ?, now() - interval '3 days', now() - interval '4 days'"
+            + " FROM generate_series(1, 250) i",
+        userId);
+    ExpiredTokenReaper reaper = reaper(40, 100);
+
+    assertThat(reaper.reap()).isEqualTo(100);
+    assertThat(tokens("password_reset_tokens")).hasSize(150);
+    // password_reset_tokensの3バッチ（40 + 40 + 20件）と、削除対象のない他の3テーブルの1バッチずつ
+    assertThat(meterRegistry.timer("tokens.reaper.batch").count()).isEqualTo(6);
+
+    assertThat(reaper.reap()).isEqualTo(100);
+    assertThat(reaper.reap()).isEqualTo(50);
+    assertThat(tokens("password_reset_tokens")).isEmpty();
+  }
+
+  @Test
+  void reap_UpdatesTableSizeMetrics() {
+    insert("password_reset_tokens", "valid-reset", LocalDateTime.now().plusHours(1));
+    insertFamily(LocalDateTime.now().plusDays(30), null);
+
+    reaper(100, 100000).reap();
+
+    assertThat(
+            meterRegistry
+                .get("tokens.table.size")
+                .tag("table", "password_reset_tokens")
+                .gauge()
+                .value())
+        .isPositive();
+    assertThat(
+            meterRegistry
+                .get("tokens.table.size")
+                .tag("table", "refresh_token_families")
+                .gauge()
+                .value())
+        .isPositive();
+  }
+
+  private ExpiredTokenReaper reaper(int batchSize, long maxRowsPerRun) {
+    return new ExpiredTokenReaper(
+        jdbcTemplate,
+        meterRegistry,
+        batchSize,
+        Duration.ZERO,
+        maxRowsPerRun,
+        Duration.ofDays(1),
+        Duration.ofDays(7),
+        Duration.ofMinutes(10));
+  }
+
+  private void insert(String table, String token, LocalDateTime expiresAt) {
+    jdbcTemplate.update(
+        "INSERT INTO auth_schema."
+            + table
+            + " (token, user_id, expires_at, created_at) VALUES (?, ?, ?, ?)",
+        token,
+        userId,
+        Timestamp.valueOf(expiresAt),
+        Timestamp.valueOf(expiresAt.minusHours(24)));
+  }
+
+  private UUID insertFamily(LocalDateTime expiresAt, LocalDateTime revokedAt) {
+    return jdbcTemplate.queryForObject(
+        "INSERT INTO auth_schema.refresh_token_families"
+            + " (id, user_id, current_jti, generation, expires_at, revoked_at, revoked_reason)"
+            + " VALUES (gen_random_uuid(), ?, gen_random_uuid(), 0, ?, ?, ?) RETURNING id",
+        UUID.class,
+        userId,
+        Timestamp.valueOf(expiresAt),
+        revokedAt == null ? null : Timestamp.valueOf(revokedAt),
+        revokedAt == null ? null : "LOGOUT");
+  }
+
+  private UUID insertNotification(String status, LocalDateTime nextAttemptAt) {
+    UUID id = UUID.randomUUID();
+    jdbcTemplate.update(
+        "INSERT INTO auth_schema.notification_outbox (id, type, recipient, payload, status,"
+            + " next_attempt_at) VALUES (?, 'PASSWORD_RESET_EMAIL', 'user@example.com', '{}', ?,"
+            + " ?)",
+        id,
+        status,
+        Timestamp.valueOf(nextAttemptAt));
+    return id;
+  }
+
+  private List<String> tokens(String table) {
+    return jdbcTemplate.queryForList("SELECT token FROM auth_schema." + table, String.class);
+  }
+}
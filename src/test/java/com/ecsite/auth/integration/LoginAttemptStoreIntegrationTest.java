@@ -0,0 +1,111 @@
+package com.ecsite.auth.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecsite.auth.ratelimit.PostgresLoginAttemptStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * PostgresLoginAttemptStore統合テスト
+ *
+ * <p>Testcontainersで起動したPostgreSQLに対して2つのストア（2ノード相当）を接続し、 各ノードで記録した失敗回数が全ノード合計として読み戻されること、
+ * および解除が全ノードへ反映されることを検証します。
+ */
+@Testcontainers
+class LoginAttemptStoreIntegrationTest {
+
+  private static final String KEY = "email:user@example.com";
+
+  @Container
+  private static PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>("postgres:15-alpine")
+          .withDatabaseName("auth_test")
+          .withUsername("test")
+          .withPassword("test");
+
+  private static JdbcTemplate jdbcTemplate;
+
+  private PostgresLoginAttemptStore nodeA;
+  private PostgresLoginAttemptStore nodeB;
+
+  @BeforeAll
+  static void migrate() {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+    jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.update("DELETE FROM auth_schema.login_attempts");
+    nodeA = createStore();
+    nodeB = createStore();
+  }
+
+  @Test
+  void flush_AggregatesFailuresAcrossNodes() {
+    nodeA.recordFailure(KEY);
+    nodeA.recordFailure(KEY);
+    nodeB.recordFailure(KEY);
+    nodeB.recordFailure(KEY);
+    nodeB.recordFailure(KEY);
+
+    nodeA.flush();
+    nodeB.flush();
+    nodeA.flush();
+
+    assertThat(nodeA.globalCount(KEY)).isEqualTo(5);
+    assertThat(nodeB.globalCount(KEY)).isEqualTo(5);
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM auth_schema.login_attempts WHERE limit_key = ?",
+                Long.class,
+                KEY))
+        .isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void reset_ClearsFailuresOnAllNodes() {
+    nodeA.recordFailure(KEY);
+    nodeB.recordFailure(KEY);
+    nodeA.flush();
+    nodeB.flush();
+
+    nodeA.reset(KEY);
+    nodeA.flush();
+    nodeB.flush();
+
+    assertThat(nodeA.globalCount(KEY)).isZero();
+    assertThat(nodeB.globalCount(KEY)).isZero();
+  }
+
+  @Test
+  void globalCount_UntrackedKey_ReturnsZero() {
+    nodeA.recordFailure(KEY);
+    nodeA.flush();
+    nodeB.flush();
+
+    assertThat(nodeB.globalCount(KEY)).isZero();
+  }
+
+  private PostgresLoginAttemptStore createStore() {
+    return new PostgresLoginAttemptStore(
+        jdbcTemplate,
+        new SimpleMeterRegistry(),
+        Duration.ofMinutes(5),
+        1000,
+        Duration.ofMillis(100));
+  }
+}
@@ -0,0 +1,215 @@
+package com.ecsite.auth.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecsite.auth.entity.NotificationOutbox;
+import com.ecsite.auth.notification.NotificationMessage;
+import com.ecsite.auth.notification.NotificationOutboxDispatcher;
+import com.ecsite.auth.notification.NotificationTransport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * NotificationOutboxDispatcher統合テスト
+ *
+ * <p>Testcontainersで起動したPostgreSQLに対して、 複数の配信処理（複数ノード相当）が同時に動作しても通知を重複して送信しないこと、
+ * および送信失敗時の再送予約と再送の断念を検証します。
+ */
+@Testcontainers
+class NotificationOutboxIntegrationTest {
+
+  @Container
+  private static PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>("postgres:15-alpine")
+          .withDatabaseName("auth_test")
+          .withUsername("test")
+          .withPassword("test");
+
+  private static JdbcTemplate jdbcTemplate;
+
+  private final Queue<NotificationMessage> sent = new ConcurrentLinkedQueue<>();
+
+  @BeforeAll
+  static void migrate() {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+    jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.update("DELETE FROM auth_schema.notification_outbox");
+    sent.clear();
+  }
+
+  @Test
+  void dispatch_ConcurrentDispatchers_SendEachNotificationOnce() throws Exception {
+    for (int i = 0; i < 250; i++) {
+      insert("user" + i + "@example.com");
+    }
+    NotificationTransport recording =
+        message -> {
+          sent.add(message);
+          return CompletableFuture.completedFuture(null);
+        };
+    List<NotificationOutboxDispatcher> dispatchers =
+        List.of(dispatcher(recording, 3), dispatcher(recording, 3), dispatcher(recording, 3));
+
+    ExecutorService executor = Executors.newFixedThreadPool(dispatchers.size());
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> results =
+        dispatchers.stream()
+            .<Future<?>>map(
+                dispatcher ->
+                    executor.submit(
+                        () -> {
+                          start.await();
+                          while (dispatcher.dispatch() > 0) {
+                            // 配信待ちがなくなるまで取得を続ける
+                          }
+                          return null;
+                        }))
+            .toList();
+    start.countDown();
+    for (Future<?> result : results) {
+      result.get();
+    }
+    executor.shutdown();
+
+    assertThat(sent).hasSize(250);
+    assertThat(sent.stream().map(NotificationMessage::id).distinct()).hasSize(250);
+    assertThat(count()).isZero();
+  }
+
+  @Test
+  void dispatch_TransportFails_ReschedulesWithBackoff() {
+    UUID id = insert("user@example.com");
+    NotificationOutboxDispatcher dispatcher =
+        dispatcher(message -> CompletableFuture.failedFuture(new IllegalStateException("down")), 3);
+
+    assertThat(dispatcher.dispatch()).isEqualTo(1);
+    assertThat(dispatcher.dispatch()).isZero();
+
+    Map<String, Object> row =
+        jdbcTemplate.queryForMap(
+            "SELECT status, attempts, next_attempt_at, last_error"
+                + " FROM auth_schema.notification_outbox WHERE id = ?",
+            id);
+    assertThat(row.get("status")).isEqualTo("PENDING");
+    assertThat(row.get("attempts")).isEqualTo(1);
+    assertThat(((Timestamp) row.get("next_attempt_at")).toLocalDateTime())
+        .isAfter(LocalDateTime.now().plusSeconds(5));
+    assertThat((String) row.get("last_error")).contains("down");
+  }
+
+  @Test
+  void dispatch_MaxAttemptsReached_MarksFailed() {
+    UUID id = insert("user@example.com");
+    NotificationOutboxDispatcher dispatcher =
+        dispatcher(message -> CompletableFuture.failedFuture(new IllegalStateException("down")), 2);
+
+    dispatcher.dispatch();
+    makeDue(id);
+    dispatcher.dispatch();
+    makeDue(id);
+
+    assertThat(dispatcher.dispatch()).isZero();
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT status FROM auth_schema.notification_outbox WHERE id = ?",
+                String.class,
+                id))
+        .isEqualTo("FAILED");
+  }
+
+  @Test
+  void dispatch_MalformedPayload_MarksFailedWithoutSending() {
+    UUID id = UUID.randomUUID();
+    jdbcTemplate.update(
+        "INSERT INTO auth_schema.notification_outbox (id, type, recipient, payload)"
+            + " VALUES (?, 'VERIFICATION_EMAIL', 'user@example.com', 'not json')",
+        id);
+    NotificationOutboxDispatcher dispatcher =
+        dispatcher(
+            message -> {
+              sent.add(message);
+              return CompletableFuture.completedFuture(null);
+            },
+            10);
+
+    dispatcher.dispatch();
+
+    assertThat(sent).isEmpty();
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT status FROM auth_schema.notification_outbox WHERE id = ?",
+                String.class,
+                id))
+        .isEqualTo("FAILED");
+  }
+
+  private NotificationOutboxDispatcher dispatcher(
+      NotificationTransport transport, int maxAttempts) {
+    return new NotificationOutboxDispatcher(
+        jdbcTemplate,
+        transport,
+        new ObjectMapper(),
+        new SimpleMeterRegistry(),
+        20,
+        Duration.ofSeconds(1),
+        Duration.ofMinutes(2),
+        Duration.ofSeconds(5),
+        maxAttempts,
+        Duration.ofSeconds(10),
+        Duration.ofHours(1));
+  }
+
+  private UUID insert(String recipient) {
+    UUID id = UUID.randomUUID();
+    jdbcTemplate.update(
+        "INSERT INTO auth_schema.notification_outbox (id, type, recipient, payload,"
+            + " next_attempt_at) VALUES (?, ?, ?, ?, ?)",
+        id,
+        NotificationOutbox.Type.VERIFICATION_EMAIL.name(),
+        recipient,
+        "{\"token\":\"" + UUID.randomUUID() + "\"}",
+        Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)));
+    return id;
+  }
+
+  private void makeDue(UUID id) {
+    jdbcTemplate.update(
+        "UPDATE auth_schema.notification_outbox SET next_attempt_at = ? WHERE id = ?",
+        Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)),
+        id);
+  }
+
+  private long count() {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM auth_schema.notification_outbox", Long.class);
+  }
+}
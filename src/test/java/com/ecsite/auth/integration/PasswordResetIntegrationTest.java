@@ -0,0 +1,125 @@
+package com.ecsite.auth.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.ecsite.auth.dto.RefreshTokenRequest;
+import com.ecsite.auth.dto.ResetPasswordRequest;
+import com.ecsite.auth.entity.PasswordResetToken;
+import com.ecsite.auth.entity.RefreshTokenFamily;
+import com.ecsite.auth.entity.User;
+import com.ecsite.auth.entity.User.UserStatus;
+import com.ecsite.auth.repository.PasswordResetTokenRepository;
+import com.ecsite.auth.repository.UserRepository;
+import com.ecsite.auth.service.RefreshTokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * パスワードリセット統合テスト
+ *
+ * <p>パスワードリセットの前に発行されたリフレッシュトークンが、リセット後は401で拒否されることを検証します。
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+@Transactional
+class PasswordResetIntegrationTest {
+
+  @Container
+  private static PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>("postgres:15-alpine")
+          .withDatabaseName("auth_test")
+          .withUsername("test")
+          .withPassword("test");
+
+  @DynamicPropertySource
+  static void configureProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", postgres::getJdbcUrl);
+    registry.add("spring.datasource.username", postgres::getUsername);
+    registry.add("spring.datasource.password", postgres::getPassword);
+    registry.add("spring.flyway.enabled", () -> "true");
+  }
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private PasswordResetTokenRepository passwordResetTokenRepository;
+
+  @Autowired private RefreshTokenService refreshTokenService;
+
+  @Autowired private PasswordEncoder passwordEncoder;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private User testUser;
+
+  @BeforeEach
+  void setUp() {
+    testUser = new User();
+    testUser.setEmail("password-reset-test@example.com");
+    testUser.setPasswordHash(passwordEncoder.encode("SecurePass123!"));
+    testUser.setFirstName("Integration");
+    testUser.setLastName("Test");
+    testUser.setStatus(UserStatus.ACTIVE);
+    testUser.setEmailVerifiedAt(LocalDateTime.now());
+    testUser.setCreatedAt(LocalDateTime.now());
+    testUser.setUpdatedAt(LocalDateTime.now());
+    testUser = userRepository.save(testUser);
+  }
+
+  @Test
+  void resetPassword_RefreshTokenIssuedBeforeReset_ReturnsUnauthorized() throws Exception {
+    String refreshToken = refreshTokenService.issue(testUser.getId());
+    passwordResetTokenRepository.save(
+        PasswordResetToken.builder()
+            .token("integration-reset-token")
+            .user(testUser)
+            .expiresAt(LocalDateTime.now().plusHours(24))
+            .build());
+
+    mockMvc
+        .perform(
+            post("/api/v1/auth/reset-password")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(
+                        new ResetPasswordRequest("integration-reset-token", "NewSecurePass456!"))))
+        .andExpect(status().isOk());
+
+    assertThat(
+            jdbcTemplate.queryForList(
+                "SELECT revoked_reason FROM auth_schema.refresh_token_families WHERE user_id = ?",
+                String.class,
+                testUser.getId()))
+        .containsExactly(RefreshTokenFamily.REVOKED_PASSWORD_RESET);
+
+    mockMvc
+        .perform(
+            post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+        .andExpect(status().isUnauthorized())
+        .andExpect(jsonPath("$.status").value("error"));
+  }
+}
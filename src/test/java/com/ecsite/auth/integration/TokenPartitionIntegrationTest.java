@@ -0,0 +1,200 @@
+package com.ecsite.auth.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecsite.auth.service.TokenPartitionMaintainer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * トークンテーブルのパーティション化（V9）とTokenPartitionMaintainerの統合テスト
+ *
+ * <p>Testcontainersで起動したPostgreSQLに対して、作成日の日単位のパーティションへの振り分け、 将来のパーティションの作成と保持期間を過ぎたパーティションの削除、
+ * トークン文字列での検索が全パーティションでインデックスを使うことを検証します。
+ */
+@Testcontainers
+class TokenPartitionIntegrationTest {
+
+  @Container
+  private static PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>("postgres:15-alpine")
+          .withDatabaseName("auth_test")
+          .withUsername("test")
+          .withPassword("test");
+
+  private static DriverManagerDataSource dataSource;
+  private static JdbcTemplate jdbcTemplate;
+
+  private SimpleMeterRegistry meterRegistry;
+  private UUID userId;
+
+  @BeforeAll
+  static void migrate() {
+    dataSource =
+        new DriverManagerDataSource(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+    jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.update("DELETE FROM auth_schema.users");
+    // 他のテストで削除した当日以降のパーティションを作成し直す
+    maintainer(new SimpleMeterRegistry()).maintain(LocalDateTime.now());
+    meterRegistry = new SimpleMeterRegistry();
+    userId =
+        jdbcTemplate.queryForObject(
+            "INSERT INTO auth_schema.users (email, password_hash, first_name, last_name)"
+                + " VALUES ('user@example.com', 'hash', 'Taro', 'Yamada') RETURNING id",
+            UUID.class);
+  }
+
+  @Test
+  void insert_RoutesTokenToPartitionOfCreationDay() {
+    LocalDate today = LocalDate.now();
+    insert("password_reset_tokens", "today-token", today.atTime(12, 0));
+    insert("password_reset_tokens", "old-token", today.minusDays(30).atStartOfDay());
+
+    assertThat(partitionOf("password_reset_tokens", "today-token"))
+        .isEqualTo("password_reset_tokens_p" + today.toString().replace("-", ""));
+    assertThat(partitionOf("password_reset_tokens", "old-token"))
+        .isEqualTo("password_reset_tokens_default");
+  }
+
+  @Test
+  void maintain_CreatesFuturePartitionsAndDropsExpiredOnes() {
+    LocalDateTime now = LocalDateTime.now();
+    insert("email_verification_tokens", "expiring-token", now);
+    LocalDateTime later = now.plusDays(10);
+
+    assertThat(maintainer().maintain(later)).isTrue();
+
+    List<String> partitions = partitions("email_verification_tokens");
+    for (int i = 0; i <= 7; i++) {
+      assertThat(partitions)
+          .contains(
+              "email_verification_tokens_p"
+                  + later.toLocalDate().plusDays(i).toString().replace("-", ""));
+    }
+    // 期間の終了から保持期間（2日）が経過した当日のパーティションは、中のトークンごと削除される
+    assertThat(partitions)
+        .doesNotContain(
+            "email_verification_tokens_p" + now.toLocalDate().toString().replace("-", ""));
+    assertThat(tokens("email_verification_tokens")).isEmpty();
+    assertThat(
+            meterRegistry
+                .counter("tokens.partitions.created", "table", "email_verification_tokens")
+                .count())
+        .isPositive();
+    assertThat(
+            meterRegistry
+                .counter("tokens.partitions.dropped", "table", "email_verification_tokens")
+                .count())
+        .isPositive();
+    assertThat(partitions).contains("email_verification_tokens_default");
+  }
+
+  @Test
+  void maintain_RowsForDayInDefaultPartition_SkipsThatDayAndCreatesOthers() {
+    LocalDateTime later = LocalDateTime.now().plusDays(40);
+    insert("password_reset_tokens", "stray-token", later.plusDays(3));
+
+    maintainer().maintain(later);
+
+    List<String> partitions = partitions("password_reset_tokens");
+    assertThat(partitions)
+        .contains("password_reset_tokens_p" + later.toLocalDate().toString().replace("-", ""))
+        .doesNotContain(
+            "password_reset_tokens_p"
+                + later.toLocalDate().plusDays(3).toString().replace("-", ""));
+    assertThat(meterRegistry.counter("tokens.partitions.failures").count()).isEqualTo(1);
+    assertThat(tokens("password_reset_tokens")).containsExactly("stray-token");
+  }
+
+  @Test
+  void findByToken_UsesTokenIndexOnEveryPartition() throws Exception {
+    insert("password_reset_tokens", "lookup-token", LocalDateTime.now());
+    List<String> plan = new ArrayList<>();
+
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      // 行数が少ないと逐次スキャンが選ばれるため、インデックスが使えるかのみを確認する
+      statement.execute("SET enable_seqscan = off");
+      try (ResultSet rs =
+          statement.executeQuery(
+              "EXPLAIN SELECT * FROM auth_schema.password_reset_tokens"
+                  + " WHERE token = 'lookup-token'")) {
+        while (rs.next()) {
+          plan.add(rs.getString(1));
+        }
+      }
+    }
+
+    assertThat(plan).noneMatch(line -> line.contains("Seq Scan"));
+    assertThat(plan.stream().filter(line -> line.contains("Index Cond")).count())
+        .isEqualTo(partitions("password_reset_tokens").size());
+  }
+
+  private TokenPartitionMaintainer maintainer() {
+    return maintainer(meterRegistry);
+  }
+
+  private TokenPartitionMaintainer maintainer(SimpleMeterRegistry registry) {
+    return new TokenPartitionMaintainer(
+        jdbcTemplate, registry, 7, Duration.ofDays(2), Duration.ofSeconds(5), Duration.ofHours(1));
+  }
+
+  private void insert(String table, String token, LocalDateTime createdAt) {
+    jdbcTemplate.update(
+        "INSERT INTO auth_schema."
+            + table
+            + " (token, user_id, expires_at, created_at) VALUES (?, ?, ?, ?)",
+        token,
+        userId,
+        Timestamp.valueOf(createdAt.plusHours(24)),
+        Timestamp.valueOf(createdAt));
+  }
+
+  private String partitionOf(String table, String token) {
+    return jdbcTemplate
+        .queryForObject(
+            "SELECT tableoid::regclass::text FROM auth_schema." + table + " WHERE token = ?",
+            String.class,
+            token)
+        .replace("auth_schema.", "");
+  }
+
+  private List<String> partitions(String table) {
+    return jdbcTemplate
+        .queryForList(
+            "SELECT relid::regclass::text FROM pg_partition_tree(?::regclass) WHERE isleaf",
+            String.class,
+            "auth_schema." + table)
+        .stream()
+        .map(name -> name.replace("auth_schema.", ""))
+        .toList();
+  }
+
+  private List<String> tokens(String table) {
+    return jdbcTemplate.queryForList("SELECT token FROM auth_schema." + table, String.class);
+  }
+}
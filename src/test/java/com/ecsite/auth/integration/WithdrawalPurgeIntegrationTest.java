@@ -0,0 +1,214 @@
+package com.ecsite.auth.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecsite.auth.service.WithdrawalPurger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * WithdrawalPurger統合テスト
+ *
+ * <p>Testcontainersで起動したPostgreSQLに対して、削除予定日時を過ぎたユーザーの匿名化、
+ * チャンクをまたぐキーセットページング、複数ノード相当の同時実行で重複して処理しないこと、 他ノードが処理中の行を飛ばして遅れとして計測することを検証します。
+ */
+@Testcontainers
+class WithdrawalPurgeIntegrationTest {
+
+  @Container
+  private static PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>("postgres:15-alpine")
+          .withDatabaseName("auth_test")
+          .withUsername("test")
+          .withPassword("test");
+
+  private static DriverManagerDataSource dataSource;
+  private static JdbcTemplate jdbcTemplate;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeAll
+  static void migrate() {
+    dataSource =
+        new DriverManagerDataSource(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+    jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.update("DELETE FROM auth_schema.notification_outbox");
+    jdbcTemplate.update("DELETE FROM auth_schema.users");
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void purge_DueUsers_AnonymizesAndMarksDeleted() {
+    UUID due = insert("due@example.com", "PENDING_DELETION", LocalDateTime.now().minusDays(1));
+    UUID notYetDue =
+        insert("later@example.com", "PENDING_DELETION", LocalDateTime.now().plusDays(1));
+    UUID active = insert("active@example.com", "ACTIVE", null);
+
+    assertThat(purger(100).purge()).isEqualTo(1);
+
+    Map<String, Object> row =
+        jdbcTemplate.queryForMap("SELECT * FROM auth_schema.users WHERE id = ?", due);
+    assertThat(row.get("status")).isEqualTo("DELETED");
+    assertThat(row.get("deleted_at")).isNotNull();
+    assertThat(row.get("deletion_scheduled_at")).isNull();
+    assertThat(row.get("email")).isEqualTo("deleted-" + due + "@deleted.invalid");
+    assertThat(row.get("first_name")).isEqualTo("deleted");
+    assertThat(row.get("last_name")).isEqualTo("deleted");
+    assertThat(row.get("password_hash")).isEqualTo("");
+    assertThat(row.get("withdrawal_reason")).isNull();
+    assertThat(status(notYetDue)).isEqualTo("PENDING_DELETION");
+    assertThat(status(active)).isEqualTo("ACTIVE");
+    assertThat(meterRegistry.counter("withdrawal.purge.rows").count()).isEqualTo(1);
+  }
+
+  @Test
+  void purge_DueUsers_DeletesTheirQueuedNotifications() {
+    insert("due@example.com", "PENDING_DELETION", LocalDateTime.now().minusDays(1));
+    insert("later@example.com", "PENDING_DELETION", LocalDateTime.now().plusDays(1));
+    insertNotification("due@example.com", "PENDING");
+    insertNotification("due@example.com", "FAILED");
+    insertNotification("later@example.com", "FAILED");
+
+    assertThat(purger(100).purge()).isEqualTo(1);
+
+    assertThat(
+            jdbcTemplate.queryForList(
+                "SELECT recipient FROM auth_schema.notification_outbox", String.class))
+        .containsExactly("later@example.com");
+  }
+
+  @Test
+  void purge_MoreUsersThanChunkSize_ProcessesAllChunks() {
+    // 同じ削除予定日時のユーザーが複数チャンクにまたがってもidで続きから処理する
+    LocalDateTime scheduledAt = LocalDateTime.now().minusDays(1);
+    for (int i = 0; i < 30; i++) {
+      insert("user" + i + "@example.com", "PENDING_DELETION", scheduledAt);
+    }
+
+    assertThat(purger(7).purge()).isEqualTo(30);
+    assertThat(countByStatus("DELETED")).isEqualTo(30);
+  }
+
+  @Test
+  void purge_ConcurrentPurgers_ProcessEachUserOnce() throws Exception {
+    LocalDateTime base = LocalDateTime.now().minusDays(10);
+    jdbcTemplate.update(
+        "INSERT INTO auth_schema.users (email, password_hash, first_name, last_name, status,"
+            + " deletion_scheduled_at) SELECT 'user' || i || '@example.com', 'hash', 'Taro',"
+            + " 'Yamada', 'PENDING_DELETION', CAST(? AS TIMESTAMP) + i * interval '1 second'"
+            + " FROM generate_series(1, 2000) AS i",
+        Timestamp.valueOf(base));
+    List<WithdrawalPurger> purgers = List.of(purger(50), purger(50), purger(50));
+
+    ExecutorService executor = Executors.newFixedThreadPool(purgers.size());
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Long>> results =
+        purgers.stream()
+            .map(
+                purger ->
+                    executor.submit(
+                        () -> {
+                          start.await();
+                          return purger.purge();
+                        }))
+            .toList();
+    start.countDown();
+    long total = 0;
+    for (Future<Long> result : results) {
+      total += result.get();
+    }
+    executor.shutdown();
+
+    assertThat(total).isEqualTo(2000);
+    assertThat(countByStatus("DELETED")).isEqualTo(2000);
+    assertThat(meterRegistry.counter("withdrawal.purge.rows").count()).isEqualTo(2000);
+  }
+
+  @Test
+  void purge_RowLockedByAnotherNode_SkipsItAndReportsLag() throws Exception {
+    UUID locked =
+        insert("locked@example.com", "PENDING_DELETION", LocalDateTime.now().minusDays(2));
+    insert("free@example.com", "PENDING_DELETION", LocalDateTime.now().minusDays(1));
+    WithdrawalPurger purger = purger(100);
+
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try (PreparedStatement statement =
+          connection.prepareStatement("SELECT id FROM auth_schema.users WHERE id = ? FOR UPDATE")) {
+        statement.setObject(1, locked);
+        statement.executeQuery();
+      }
+
+      assertThat(purger.purge()).isEqualTo(1);
+      assertThat(meterRegistry.get("withdrawal.purge.lag").timeGauge().value(TimeUnit.HOURS))
+          .isGreaterThanOrEqualTo(47);
+      connection.rollback();
+    }
+
+    assertThat(purger.purge()).isEqualTo(1);
+    assertThat(status(locked)).isEqualTo("DELETED");
+    assertThat(meterRegistry.get("withdrawal.purge.lag").timeGauge().value()).isZero();
+  }
+
+  private WithdrawalPurger purger(int chunkSize) {
+    return new WithdrawalPurger(
+        jdbcTemplate, meterRegistry, chunkSize, Duration.ZERO, Duration.ofMinutes(5));
+  }
+
+  private UUID insert(String email, String status, LocalDateTime deletionScheduledAt) {
+    return jdbcTemplate.queryForObject(
+        "INSERT INTO auth_schema.users (email, password_hash, first_name, last_name, status,"
+            + " deletion_scheduled_at, withdrawal_reason) VALUES (?, 'hash', 'Taro', 'Yamada', ?,"
+            + " ?, 'reason') RETURNING id",
+        UUID.class,
+        email,
+        status,
+        deletionScheduledAt == null ? null : Timestamp.valueOf(deletionScheduledAt));
+  }
+
+  private void insertNotification(String recipient, String status) {
+    jdbcTemplate.update(
+        "INSERT INTO auth_schema.notification_outbox (id, type, recipient, payload, status)"
+            + " VALUES (?, 'WITHDRAWAL_CONFIRMATION', ?, '{}', ?)",
+        UUID.randomUUID(),
+        recipient,
+        status);
+  }
+
+  private String status(UUID id) {
+    return jdbcTemplate.queryForObject(
+        "SELECT status FROM auth_schema.users WHERE id = ?", String.class, id);
+  }
+
+  private long countByStatus(String status) {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM auth_schema.users WHERE status = ?", Long.class, status);
+  }
+}
@@ -0,0 +1,101 @@
+package com.ecsite.auth.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CircuitBreakerのユニットテスト
+ *
+ * <p>時刻を差し替えて、連続失敗でのOPEN、期間経過後の試行（HALF_OPEN）と回復を検証します。
+ */
+class CircuitBreakerTest {
+
+  private final AtomicLong now = new AtomicLong();
+  private final CircuitBreaker circuitBreaker =
+      new CircuitBreaker(3, Duration.ofSeconds(30), now::get);
+
+  @Test
+  void onFailure_ConsecutiveFailuresReachThreshold_Opens() {
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+    assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.state());
+    assertTrue(circuitBreaker.tryAcquire());
+
+    circuitBreaker.onFailure();
+
+    assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.state());
+    assertFalse(circuitBreaker.tryAcquire());
+  }
+
+  @Test
+  void onSuccess_ResetsConsecutiveFailures() {
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+    circuitBreaker.onSuccess();
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+
+    assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.state());
+  }
+
+  @Test
+  void tryAcquire_AfterOpenDuration_AllowsSingleTrial() {
+    open();
+    now.addAndGet(Duration.ofSeconds(29).toNanos());
+    assertFalse(circuitBreaker.tryAcquire());
+
+    now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+    assertTrue(circuitBreaker.tryAcquire());
+    assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.state());
+    assertFalse(circuitBreaker.tryAcquire());
+  }
+
+  @Test
+  void allowsRequests_AfterOpenDuration_HalfOpensWithoutTakingTrial() {
+    open();
+    assertFalse(circuitBreaker.allowsRequests());
+
+    now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+    assertTrue(circuitBreaker.allowsRequests());
+    assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.state());
+    assertTrue(circuitBreaker.tryAcquire());
+  }
+
+  @Test
+  void onSuccess_TrialSucceeds_Closes() {
+    open();
+    now.addAndGet(Duration.ofSeconds(30).toNanos());
+    circuitBreaker.tryAcquire();
+
+    circuitBreaker.onSuccess();
+
+    assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.state());
+    assertTrue(circuitBreaker.tryAcquire());
+  }
+
+  @Test
+  void onFailure_TrialFails_ReopensForAnotherPeriod() {
+    open();
+    now.addAndGet(Duration.ofSeconds(30).toNanos());
+    circuitBreaker.tryAcquire();
+
+    circuitBreaker.onFailure();
+
+    assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.state());
+    now.addAndGet(Duration.ofSeconds(29).toNanos());
+    assertFalse(circuitBreaker.tryAcquire());
+  }
+
+  private void open() {
+    for (int i = 0; i < 3; i++) {
+      circuitBreaker.onFailure();
+    }
+  }
+}
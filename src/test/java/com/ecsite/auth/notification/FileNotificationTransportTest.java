@@ -0,0 +1,62 @@
+package com.ecsite.auth.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.ecsite.auth.entity.NotificationOutbox;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * FileNotificationTransportのユニットテスト
+ *
+ * <p>通知が1件1行のJSONとして追記されることを検証します。
+ */
+class FileNotificationTransportTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @TempDir private Path tempDir;
+
+  @Test
+  void send_AppendsJsonLine() throws Exception {
+    Path path = tempDir.resolve("mail/notifications.jsonl");
+    FileNotificationTransport transport =
+        new FileNotificationTransport(objectMapper, path.toString());
+    UUID firstId = UUID.randomUUID();
+
+    transport
+        .send(
+            new NotificationMessage(
+                firstId,
+                NotificationOutbox.Type.VERIFICATION_EMAIL,
+                "test@example.com",
+                Map.of("token", "verification-token-123")))
+        .join();
+    transport
+        .send(
+            new NotificationMessage(
+                UUID.randomUUID(),
+                NotificationOutbox.Type.PASSWORD_RESET_EMAIL,
+                "other@example.com",
+                Map.of("token", "reset-token-456")))
+        .join();
+
+    List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+    assertEquals(2, lines.size());
+    JsonNode first = objectMapper.readTree(lines.get(0));
+    assertEquals(firstId.toString(), first.get("id").asText());
+    assertEquals("VERIFICATION_EMAIL", first.get("type").asText());
+    assertEquals("test@example.com", first.get("recipient").asText());
+    assertEquals("verification-token-123", first.get("parameters").get("token").asText());
+    assertEquals(
+        "other@example.com", objectMapper.readTree(lines.get(1)).get("recipient").asText());
+  }
+}
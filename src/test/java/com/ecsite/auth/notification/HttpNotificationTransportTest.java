@@ -0,0 +1,203 @@
+package com.ecsite.auth.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ecsite.auth.entity.NotificationOutbox;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * HttpNotificationTransportのユニットテスト
+ *
+ * <p>ローカルに起動したスタブのHTTPサーバーに対して、バルクリクエストへのまとめ、 送信中のリクエスト数の上限、サーキットブレーカーによる即時失敗と回復を検証します。
+ */
+class HttpNotificationTransportTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Queue<JsonNode> requests = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger concurrent = new AtomicInteger();
+  private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+  private volatile int responseStatus = 202;
+  private volatile long responseDelayMillis;
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private HttpNotificationTransport transport;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext(
+        "/notifications/bulk",
+        exchange -> {
+          int current = concurrent.incrementAndGet();
+          maxConcurrent.accumulateAndGet(current, Math::max);
+          try {
+            requests.add(objectMapper.readTree(exchange.getRequestBody()));
+            Thread.sleep(responseDelayMillis);
+            exchange.sendResponseHeaders(responseStatus, -1);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          } finally {
+            concurrent.decrementAndGet();
+            exchange.close();
+          }
+        });
+    serverExecutor = Executors.newCachedThreadPool();
+    server.setExecutor(serverExecutor);
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (transport != null) {
+      transport.destroy();
+    }
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  void send_MessagesWithinLinger_CoalescedIntoOneBulkRequest() {
+    transport = transport(8, 50, Duration.ofMillis(50), 5);
+
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      futures.add(transport.send(message("user" + i + "@example.com")));
+    }
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+    assertEquals(1, requests.size());
+    JsonNode notifications = requests.peek().get("notifications");
+    assertEquals(3, notifications.size());
+    assertEquals("user0@example.com", notifications.get(0).get("recipient").asText());
+    assertEquals("VERIFICATION_EMAIL", notifications.get(0).get("type").asText());
+    assertEquals("token-value", notifications.get(0).get("parameters").get("token").asText());
+  }
+
+  @Test
+  void send_BatchSizeReached_SplitsIntoMultipleRequests() {
+    transport = transport(8, 2, Duration.ofSeconds(10), 5);
+
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      futures.add(transport.send(message("user" + i + "@example.com")));
+    }
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+    assertEquals(2, requests.size());
+  }
+
+  @Test
+  void send_SlowBackend_LimitsRequestsInFlight() {
+    responseDelayMillis = 100;
+    transport = transport(2, 1, Duration.ofMillis(1), 5);
+
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      futures.add(transport.send(message("user" + i + "@example.com")));
+    }
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+    assertEquals(6, requests.size());
+    assertEquals(2, maxConcurrent.get());
+  }
+
+  @Test
+  void send_BackendFailing_OpensCircuitAndFailsFast() {
+    responseStatus = 503;
+    transport = transport(1, 1, Duration.ofMillis(1), 2);
+
+    for (int i = 0; i < 2; i++) {
+      CompletableFuture<Void> future = transport.send(message("user@example.com"));
+      assertThrows(CompletionException.class, future::join);
+    }
+
+    assertEquals(CircuitBreaker.State.OPEN, transport.circuitBreakerState());
+    CompletableFuture<Void> rejected = transport.send(message("user@example.com"));
+    assertTrue(rejected.isCompletedExceptionally());
+    assertEquals(2, requests.size());
+  }
+
+  @Test
+  void send_BackendRecoversAfterOpenDuration_ClosesCircuitAndSends() throws InterruptedException {
+    responseStatus = 503;
+    transport = transport(1, 1, Duration.ofMillis(1), 1, Duration.ofMillis(200));
+    assertThrows(CompletionException.class, transport.send(message("user@example.com"))::join);
+    assertEquals(CircuitBreaker.State.OPEN, transport.circuitBreakerState());
+    assertTrue(transport.send(message("user@example.com")).isCompletedExceptionally());
+
+    responseStatus = 202;
+    Thread.sleep(300);
+
+    transport.send(message("user@example.com")).join();
+    assertEquals(CircuitBreaker.State.CLOSED, transport.circuitBreakerState());
+    transport.send(message("user@example.com")).join();
+    assertEquals(3, requests.size());
+  }
+
+  @Test
+  void send_ClientError_FailsWithoutOpeningCircuit() {
+    responseStatus = 400;
+    transport = transport(1, 1, Duration.ofMillis(1), 1);
+
+    CompletableFuture<Void> future = transport.send(message("user@example.com"));
+
+    assertThrows(CompletionException.class, future::join);
+    assertEquals(CircuitBreaker.State.CLOSED, transport.circuitBreakerState());
+  }
+
+  private HttpNotificationTransport transport(
+      int maxInFlight, int maxBatchSize, Duration linger, int failureThreshold) {
+    return transport(maxInFlight, maxBatchSize, linger, failureThreshold, Duration.ofSeconds(30));
+  }
+
+  private HttpNotificationTransport transport(
+      int maxInFlight,
+      int maxBatchSize,
+      Duration linger,
+      int failureThreshold,
+      Duration openDuration) {
+    return new HttpNotificationTransport(
+        objectMapper,
+        new SimpleMeterRegistry(),
+        "http://127.0.0.1:" + server.getAddress().getPort() + "/notifications/bulk",
+        maxInFlight,
+        maxBatchSize,
+        linger,
+        Duration.ofSeconds(2),
+        Duration.ofSeconds(5),
+        100,
+        failureThreshold,
+        openDuration);
+  }
+
+  private NotificationMessage message(String recipient) {
+    return new NotificationMessage(
+        UUID.randomUUID(),
+        NotificationOutbox.Type.VERIFICATION_EMAIL,
+        recipient,
+        Map.of("token", "token-value"));
+  }
+}
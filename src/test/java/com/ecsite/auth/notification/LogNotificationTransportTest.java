@@ -0,0 +1,102 @@
+package com.ecsite.auth.notification;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.ecsite.auth.entity.NotificationOutbox;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+/**
+ * LogNotificationTransportのユニットテスト
+ *
+ * <p>通知の種類ごとのログ出力を検証します。
+ */
+class LogNotificationTransportTest {
+
+  private LogNotificationTransport transport;
+  private Logger logger;
+  private ListAppender<ILoggingEvent> listAppender;
+
+  @BeforeEach
+  void setUp() {
+    transport = new LogNotificationTransport();
+    logger = (Logger) LoggerFactory.getLogger(LogNotificationTransport.class);
+    listAppender = new ListAppender<>();
+    listAppender.start();
+    logger.addAppender(listAppender);
+  }
+
+  @AfterEach
+  void tearDown() {
+    logger.detachAppender(listAppender);
+  }
+
+  @Test
+  void send_VerificationEmail_LogsCorrectly() {
+    String email = "test@example.com";
+    String token = "verification-token-123";
+
+    transport
+        .send(message(NotificationOutbox.Type.VERIFICATION_EMAIL, email, Map.of("token", token)))
+        .join();
+
+    assertLogContains("Sending verification email to: " + email);
+    assertLogContains("Verification token: " + token);
+    assertLogContains(
+        "Verification URL: http://localhost:8081/api/v1/auth/verify-email?token=" + token);
+  }
+
+  @Test
+  void send_PasswordResetEmail_LogsCorrectly() {
+    String email = "test@example.com";
+    String token = "reset-token-456";
+
+    transport
+        .send(message(NotificationOutbox.Type.PASSWORD_RESET_EMAIL, email, Map.of("token", token)))
+        .join();
+
+    assertLogContains("Sending password reset email to: " + email);
+    assertLogContains("Password reset token: " + token);
+    assertLogContains(
+        "Password reset URL: http://localhost:8081/api/v1/auth/reset-password?token=" + token);
+  }
+
+  @Test
+  void send_WithdrawalConfirmation_LogsCorrectly() {
+    String email = "test@example.com";
+    LocalDateTime scheduledDeletionAt = LocalDateTime.of(2025, 12, 31, 23, 59, 59);
+
+    transport
+        .send(
+            message(
+                NotificationOutbox.Type.WITHDRAWAL_CONFIRMATION,
+                email,
+                Map.of("scheduledDeletionAt", scheduledDeletionAt.toString())))
+        .join();
+
+    assertLogContains("Sending withdrawal confirmation email to: " + email);
+    assertLogContains("Account will be permanently deleted at: " + scheduledDeletionAt.toString());
+    assertLogContains(
+        "If you did not request this, please contact support immediately at support@example.com");
+  }
+
+  private static NotificationMessage message(
+      NotificationOutbox.Type type, String email, Map<String, String> parameters) {
+    return new NotificationMessage(UUID.randomUUID(), type, email, parameters);
+  }
+
+  private void assertLogContains(String expectedMessage) {
+    boolean found =
+        listAppender.list.stream()
+            .anyMatch(event -> event.getFormattedMessage().contains(expectedMessage));
+    if (!found) {
+      throw new AssertionError("Expected log message not found: " + expectedMessage);
+    }
+  }
+}
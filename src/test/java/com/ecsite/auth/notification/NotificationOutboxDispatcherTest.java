@@ -0,0 +1,30 @@
+package com.ecsite.auth.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NotificationOutboxDispatcherのユニットテスト
+ *
+ * <p>再送間隔の計算を検証します。 アウトボックスの取得と更新は {@code NotificationOutboxIntegrationTest} で検証します。
+ */
+class NotificationOutboxDispatcherTest {
+
+  private static final Duration INITIAL = Duration.ofSeconds(10);
+  private static final Duration MAX = Duration.ofHours(1);
+
+  @Test
+  void backoff_DoublesPerAttempt() {
+    assertEquals(Duration.ofSeconds(10), NotificationOutboxDispatcher.backoff(1, INITIAL, MAX));
+    assertEquals(Duration.ofSeconds(20), NotificationOutboxDispatcher.backoff(2, INITIAL, MAX));
+    assertEquals(Duration.ofSeconds(80), NotificationOutboxDispatcher.backoff(4, INITIAL, MAX));
+  }
+
+  @Test
+  void backoff_CapsAtMaximum() {
+    assertEquals(MAX, NotificationOutboxDispatcher.backoff(10, INITIAL, MAX));
+    assertEquals(MAX, NotificationOutboxDispatcher.backoff(Integer.MAX_VALUE, INITIAL, MAX));
+  }
+}
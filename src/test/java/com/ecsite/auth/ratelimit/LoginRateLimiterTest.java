@@ -0,0 +1,182 @@
+package com.ecsite.auth.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecsite.auth.exception.LoginRateLimitedException;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LoginRateLimiterのユニットテスト
+ *
+ * <p>メールアドレス単位・IPアドレス単位のロックアウト、ログイン成功時の解除、ロックアウト期間の経過、 および全ノード合計の失敗回数による判定を検証します。
+ */
+class LoginRateLimiterTest {
+
+  private static final String IP = "203.0.113.10";
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final Ticker ticker = nanos::get;
+  private SimpleMeterRegistry meterRegistry;
+  private LoginRateLimiter loginRateLimiter;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    loginRateLimiter =
+        new LoginRateLimiter(
+            new LocalLoginAttemptStore(),
+            meterRegistry,
+            true,
+            3,
+            5,
+            Duration.ofMinutes(5),
+            Duration.ofMinutes(1),
+            1000,
+            ticker);
+  }
+
+  @Test
+  void checkAllowed_LocksEmailAfterMaxFailures() {
+    for (int i = 0; i < 2; i++) {
+      loginRateLimiter.recordFailure("user@example.com", IP);
+      assertDoesNotThrow(() -> loginRateLimiter.checkAllowed("user@example.com", IP));
+    }
+    loginRateLimiter.recordFailure("USER@example.com ", IP);
+
+    LoginRateLimitedException exception =
+        assertThrows(
+            LoginRateLimitedException.class,
+            () -> loginRateLimiter.checkAllowed("user@example.com", "198.51.100.1"));
+    assertEquals(Duration.ofMinutes(1), exception.getRetryAfter());
+    assertDoesNotThrow(() -> loginRateLimiter.checkAllowed("other@example.com", IP));
+    assertEquals(
+        1.0, meterRegistry.counter("login.rate-limit.rejected", "dimension", "email").count());
+  }
+
+  @Test
+  void checkAllowed_LocksIpAfterMaxFailuresAcrossEmails() {
+    for (int i = 0; i < 5; i++) {
+      loginRateLimiter.recordFailure("user" + i + "@example.com", IP);
+    }
+
+    assertThrows(
+        LoginRateLimitedException.class,
+        () -> loginRateLimiter.checkAllowed("fresh@example.com", IP));
+    assertDoesNotThrow(() -> loginRateLimiter.checkAllowed("fresh@example.com", "198.51.100.1"));
+  }
+
+  @Test
+  void checkAllowed_UnlocksAfterLockoutDuration() {
+    for (int i = 0; i < 3; i++) {
+      loginRateLimiter.recordFailure("user@example.com", IP);
+    }
+    nanos.addAndGet(Duration.ofSeconds(30).toNanos());
+
+    LoginRateLimitedException exception =
+        assertThrows(
+            LoginRateLimitedException.class,
+            () -> loginRateLimiter.checkAllowed("user@example.com", IP));
+    assertEquals(Duration.ofSeconds(30), exception.getRetryAfter());
+
+    nanos.addAndGet(Duration.ofSeconds(30).toNanos());
+    assertDoesNotThrow(() -> loginRateLimiter.checkAllowed("user@example.com", IP));
+  }
+
+  @Test
+  void recordSuccess_ResetsEmailButNotIp() {
+    for (int i = 0; i < 2; i++) {
+      loginRateLimiter.recordFailure("user@example.com", IP);
+    }
+    for (int i = 0; i < 2; i++) {
+      loginRateLimiter.recordFailure("other@example.com", IP);
+    }
+    loginRateLimiter.recordSuccess("user@example.com");
+
+    loginRateLimiter.recordFailure("user@example.com", IP);
+    assertDoesNotThrow(() -> loginRateLimiter.checkAllowed("user@example.com", "198.51.100.1"));
+    assertThrows(
+        LoginRateLimitedException.class,
+        () -> loginRateLimiter.checkAllowed("fresh@example.com", IP));
+  }
+
+  @Test
+  void disabled_NeverLocks() {
+    LoginRateLimiter disabled =
+        new LoginRateLimiter(
+            new LocalLoginAttemptStore(),
+            meterRegistry,
+            false,
+            1,
+            1,
+            Duration.ofMinutes(5),
+            Duration.ofMinutes(1),
+            1000,
+            ticker);
+
+    disabled.recordFailure("user@example.com", IP);
+    disabled.recordFailure("user@example.com", IP);
+
+    assertDoesNotThrow(() -> disabled.checkAllowed("user@example.com", IP));
+  }
+
+  @Test
+  void checkAllowed_LocksWhenGlobalCountReachesLimit() {
+    LoginAttemptStore store = mock(LoginAttemptStore.class);
+    when(store.globalCount("email:user@example.com")).thenReturn(3L);
+    LoginRateLimiter clustered = createWithStore(store);
+
+    LoginRateLimitedException exception =
+        assertThrows(
+            LoginRateLimitedException.class, () -> clustered.checkAllowed("user@example.com", IP));
+    assertEquals(Duration.ofMinutes(1), exception.getRetryAfter());
+    assertDoesNotThrow(() -> clustered.checkAllowed("other@example.com", IP));
+  }
+
+  @Test
+  void recordFailure_LocksWhenGlobalCountReachesLimit() {
+    LoginAttemptStore store = mock(LoginAttemptStore.class);
+    when(store.globalCount("ip:" + IP)).thenReturn(5L);
+    LoginRateLimiter clustered = createWithStore(store);
+
+    clustered.recordFailure("user@example.com", IP);
+
+    verify(store).recordFailure("email:user@example.com");
+    verify(store).recordFailure("ip:" + IP);
+    when(store.globalCount("ip:" + IP)).thenReturn(0L);
+    assertThrows(
+        LoginRateLimitedException.class, () -> clustered.checkAllowed("fresh@example.com", IP));
+  }
+
+  @Test
+  void recordSuccess_ResetsEmailInStore() {
+    LoginAttemptStore store = mock(LoginAttemptStore.class);
+    LoginRateLimiter clustered = createWithStore(store);
+
+    clustered.recordSuccess("User@Example.com");
+
+    verify(store).reset("email:user@example.com");
+  }
+
+  private LoginRateLimiter createWithStore(LoginAttemptStore store) {
+    return new LoginRateLimiter(
+        store,
+        meterRegistry,
+        true,
+        3,
+        5,
+        Duration.ofMinutes(5),
+        Duration.ofMinutes(1),
+        1000,
+        ticker);
+  }
+}
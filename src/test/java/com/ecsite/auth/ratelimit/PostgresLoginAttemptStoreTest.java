@@ -0,0 +1,66 @@
+package com.ecsite.auth.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * PostgresLoginAttemptStoreのユニットテスト
+ *
+ * <p>DBへの書き込みに失敗した解除が失われず、次回のフラッシュで再試行されることを検証します。 全ノードでの集計は {@code
+ * LoginAttemptStoreIntegrationTest} で検証します。
+ */
+@ExtendWith(MockitoExtension.class)
+class PostgresLoginAttemptStoreTest {
+
+  private static final String DELETE_SQL =
+      "DELETE FROM auth_schema.login_attempts WHERE limit_key = ?";
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  @Captor private ArgumentCaptor<List<Object[]>> batchCaptor;
+
+  private SimpleMeterRegistry meterRegistry;
+  private PostgresLoginAttemptStore store;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    store =
+        new PostgresLoginAttemptStore(
+            jdbcTemplate, meterRegistry, Duration.ofMinutes(5), 1000, Duration.ofMillis(250));
+  }
+
+  @Test
+  void flush_ResetWriteFails_RetriesResetOnNextFlush() {
+    when(jdbcTemplate.batchUpdate(eq(DELETE_SQL), anyList()))
+        .thenThrow(new DataAccessResourceFailureException("Connection refused"))
+        .thenReturn(new int[] {1});
+    store.reset("email:user@example.com");
+
+    store.flush();
+    store.flush();
+
+    verify(jdbcTemplate, times(2)).batchUpdate(eq(DELETE_SQL), batchCaptor.capture());
+    List<Object[]> retried = batchCaptor.getAllValues().get(1);
+    assertEquals(1, retried.size());
+    assertEquals("email:user@example.com", retried.get(0)[0]);
+    assertEquals(1.0, meterRegistry.get("login.rate-limit.sync.failures").counter().count());
+  }
+}
@@ -0,0 +1,87 @@
+package com.ecsite.auth.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SlidingWindowCounterのユニットテスト
+ *
+ * <p>ウィンドウの経過による減少、ロックアウト期間、および並行加算での件数の正確性を検証します。
+ */
+class SlidingWindowCounterTest {
+
+  private static final long WINDOW = TimeUnit.SECONDS.toNanos(10);
+  private static final long SLOT = WINDOW / SlidingWindowCounter.SLOTS;
+
+  @Test
+  void add_CountsWithinWindowAndExpiresOldSlots() {
+    SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW);
+    long start = TimeUnit.HOURS.toNanos(1);
+
+    assertEquals(1, counter.add(start, 1));
+    assertEquals(2, counter.add(start + 3 * SLOT, 1));
+    assertEquals(2, counter.count(start + 9 * SLOT));
+
+    // 最初のサブウィンドウがウィンドウ外になる
+    assertEquals(1, counter.count(start + 10 * SLOT));
+    assertEquals(0, counter.count(start + 13 * SLOT));
+    assertEquals(1, counter.add(start + 13 * SLOT, 1));
+  }
+
+  @Test
+  void add_HandlesNegativeTicker() {
+    SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW);
+    long start = -TimeUnit.DAYS.toNanos(3650);
+
+    counter.add(start, 1);
+    counter.add(start + SLOT, 1);
+
+    assertEquals(2, counter.count(start + 2 * SLOT));
+    assertEquals(0, counter.count(start + 11 * SLOT));
+  }
+
+  @Test
+  void lockUntil_KeepsLongestLockout() {
+    SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW);
+
+    assertEquals(0, counter.remainingLockoutNanos(100));
+    counter.lockUntil(1_000);
+    counter.lockUntil(500);
+
+    assertEquals(900, counter.remainingLockoutNanos(100));
+    assertEquals(0, counter.remainingLockoutNanos(1_000));
+  }
+
+  @Test
+  void add_ConcurrentIncrementsAreNotLost() throws Exception {
+    SlidingWindowCounter counter = new SlidingWindowCounter(TimeUnit.MINUTES.toNanos(5));
+    int threads = 8;
+    int perThread = 10_000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      for (int t = 0; t < threads; t++) {
+        executor.submit(
+            () -> {
+              start.await();
+              for (int i = 0; i < perThread; i++) {
+                counter.add(0, 1);
+              }
+              return null;
+            });
+      }
+      start.countDown();
+      executor.shutdown();
+      executor.awaitTermination(30, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals((long) threads * perThread, counter.count(0));
+  }
+}
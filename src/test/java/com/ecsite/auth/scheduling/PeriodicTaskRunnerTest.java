@@ -0,0 +1,176 @@
+package com.ecsite.auth.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+/**
+ * PeriodicTaskRunnerのユニットテスト
+ *
+ * <p>処理ごとの専用スレッドでの繰り返し実行、例外後の継続、停止時の割り込みと完了待ち、停止前後の呼び出し順を検証します。
+ */
+class PeriodicTaskRunnerTest {
+
+  private final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+  private final PeriodicTaskRunner runner =
+      new PeriodicTaskRunner(beanFactory.getBeanProvider(PeriodicTask.class));
+
+  @AfterEach
+  void tearDown() {
+    runner.stop();
+  }
+
+  @Test
+  void start_RunsTaskRepeatedlyOnItsOwnThread() throws InterruptedException {
+    CountDownLatch ran = new CountDownLatch(3);
+    List<String> threads = new CopyOnWriteArrayList<>();
+    beanFactory.addBean(
+        "task",
+        new TestTask(
+            "test-task",
+            Duration.ZERO,
+            () -> {
+              threads.add(Thread.currentThread().getName());
+              ran.countDown();
+            }));
+
+    runner.start();
+
+    assertTrue(runner.isRunning());
+    assertTrue(ran.await(5, TimeUnit.SECONDS));
+    assertEquals("test-task", threads.get(0));
+  }
+
+  @Test
+  void start_TaskThrows_KeepsRunning() throws InterruptedException {
+    CountDownLatch ran = new CountDownLatch(2);
+    beanFactory.addBean(
+        "task",
+        new TestTask(
+            "failing-task",
+            Duration.ZERO,
+            () -> {
+              ran.countDown();
+              throw new IllegalStateException("failure");
+            }));
+
+    runner.start();
+
+    assertTrue(ran.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void stop_ZeroTimeout_InterruptsRunningTask() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    beanFactory.addBean(
+        "task",
+        new TestTask(
+            "interrupted-task",
+            Duration.ZERO,
+            () -> {
+              started.countDown();
+              try {
+                Thread.sleep(60_000);
+              } catch (InterruptedException e) {
+                interrupted.countDown();
+              }
+            }));
+    runner.start();
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    runner.stop();
+
+    assertFalse(runner.isRunning());
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void stop_WithTimeout_WaitsForRunningTaskThenCallsHooksInOrder() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    List<String> events = new CopyOnWriteArrayList<>();
+    AtomicInteger runs = new AtomicInteger();
+    TestTask task =
+        new TestTask(
+            "graceful-task",
+            Duration.ofSeconds(5),
+            () -> {
+              runs.incrementAndGet();
+              started.countDown();
+              try {
+                Thread.sleep(200);
+                events.add("completed");
+              } catch (InterruptedException e) {
+                events.add("interrupted");
+              }
+            }) {
+          @Override
+          public void beforeStop() {
+            events.add("beforeStop");
+          }
+
+          @Override
+          public void afterStop() {
+            events.add("afterStop");
+          }
+        };
+    beanFactory.addBean("task", task);
+    runner.start();
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    runner.stop();
+
+    assertEquals(List.of("beforeStop", "completed", "afterStop"), events);
+    int runsAtStop = runs.get();
+    Thread.sleep(100);
+    assertEquals(runsAtStop, runs.get());
+  }
+
+  private static class TestTask implements PeriodicTask {
+
+    private final String threadName;
+    private final Duration stopTimeout;
+    private final Runnable action;
+
+    TestTask(String threadName, Duration stopTimeout, Runnable action) {
+      this.threadName = threadName;
+      this.stopTimeout = stopTimeout;
+      this.action = action;
+    }
+
+    @Override
+    public String threadName() {
+      return threadName;
+    }
+
+    @Override
+    public Duration interval() {
+      return Duration.ofMillis(10);
+    }
+
+    @Override
+    public Duration initialDelay() {
+      return Duration.ZERO;
+    }
+
+    @Override
+    public void runOnce() {
+      action.run();
+    }
+
+    @Override
+    public Duration stopTimeout() {
+      return stopTimeout;
+    }
+  }
+}
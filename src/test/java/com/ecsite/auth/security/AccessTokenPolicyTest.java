@@ -0,0 +1,87 @@
+package com.ecsite.auth.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecsite.auth.entity.User;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * AccessTokenPolicyのユニットテスト
+ *
+ * <p>アクセストークン以外・失効済み・不正な署名のトークンと、アクセストークンを受け付けないユーザーステータスを拒否することを検証します。
+ */
+@ExtendWith(MockitoExtension.class)
+class AccessTokenPolicyTest {
+
+  @Mock private AccessTokenRevocationList revocationList;
+
+  private JwtUtil jwtUtil;
+  private AccessTokenPolicy policy;
+  private UUID userId;
+
+  @BeforeEach
+  void setUp() {
+    jwtUtil =
+        new JwtUtil(
+            "test-secret-key-that-is-long-enough-for-hs256-algorithm", 900000L, 2592000000L);
+    policy =
+        new AccessTokenPolicy(
+            new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), 100), revocationList);
+    userId = UUID.randomUUID();
+  }
+
+  @Test
+  void verify_AccessToken_ReturnsVerifiedToken() {
+    String token = jwtUtil.generateAccessToken(userId, "test@example.com", "USER");
+
+    VerifiedTokenCache.VerifiedToken verified = policy.verify(token);
+
+    assertEquals(userId.toString(), verified.userId());
+    assertEquals("ACCESS", verified.type());
+  }
+
+  @Test
+  void verify_RefreshToken_Rejected() {
+    String token = jwtUtil.generateRefreshToken(userId, UUID.randomUUID(), UUID.randomUUID());
+
+    assertThrows(JwtException.class, () -> policy.verify(token));
+    verify(revocationList, never()).isRevoked(anyString());
+  }
+
+  @Test
+  void verify_RevokedToken_Rejected() {
+    String token = jwtUtil.generateAccessToken(userId, "test@example.com", "USER");
+    when(revocationList.isRevoked(jwtUtil.validateToken(token).getId())).thenReturn(true);
+
+    assertThrows(JwtException.class, () -> policy.verify(token));
+  }
+
+  @Test
+  void verify_TamperedToken_Rejected() {
+    String token = jwtUtil.generateAccessToken(userId, "test@example.com", "USER");
+
+    assertThrows(JwtException.class, () -> policy.verify(token + "x"));
+  }
+
+  @Test
+  void acceptsStatus_WithdrawingOrUnknownUser_Rejected() {
+    assertTrue(policy.acceptsStatus(User.UserStatus.ACTIVE));
+    assertFalse(policy.acceptsStatus(User.UserStatus.PENDING_DELETION));
+    assertFalse(policy.acceptsStatus(User.UserStatus.DELETED));
+    assertFalse(policy.acceptsStatus(null));
+  }
+}
@@ -0,0 +1,136 @@
+package com.ecsite.auth.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecsite.auth.cache.LocalCacheInvalidationBus;
+import com.ecsite.auth.entity.RevokedAccessToken;
+import com.ecsite.auth.repository.RevokedAccessTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class AccessTokenRevocationListTest {
+
+  @Mock private RevokedAccessTokenRepository repository;
+
+  private LocalCacheInvalidationBus invalidationBus;
+  private SimpleMeterRegistry meterRegistry;
+  private AccessTokenRevocationList revocationList;
+
+  @BeforeEach
+  void setUp() {
+    invalidationBus = new LocalCacheInvalidationBus();
+    meterRegistry = new SimpleMeterRegistry();
+    revocationList =
+        new AccessTokenRevocationList(
+            repository, invalidationBus, meterRegistry, 1000, 0.001, Duration.ofMinutes(5));
+  }
+
+  @Test
+  void isRevoked_NotRevoked_DoesNotQueryDatabase() {
+    assertFalse(revocationList.isRevoked(UUID.randomUUID().toString()));
+    assertFalse(revocationList.isRevoked(null));
+
+    verify(repository, never()).existsByJtiAndExpiresAtAfter(any(), any());
+  }
+
+  @Test
+  void revoke_PersistsAndRejectsToken() {
+    UUID jti = UUID.randomUUID();
+    UUID userId = UUID.randomUUID();
+    when(repository.existsByJtiAndExpiresAtAfter(eq(jti), any(LocalDateTime.class)))
+        .thenReturn(true);
+
+    revocationList.revoke(jti.toString(), userId, Instant.now().plusSeconds(900));
+
+    ArgumentCaptor<RevokedAccessToken> captor = ArgumentCaptor.forClass(RevokedAccessToken.class);
+    verify(repository).save(captor.capture());
+    assertEquals(jti, captor.getValue().getJti());
+    assertEquals(userId, captor.getValue().getUserId());
+    assertTrue(revocationList.isRevoked(jti.toString()));
+    assertTrue(revocationList.isRevoked(jti.toString()));
+    verify(repository, times(1)).existsByJtiAndExpiresAtAfter(eq(jti), any(LocalDateTime.class));
+    assertEquals(2.0, meterRegistry.counter("jwt.revocation.rejected").count());
+  }
+
+  @Test
+  void onInvalidate_RevocationFromOtherNode_AddedToFilter() {
+    UUID jti = UUID.randomUUID();
+    when(repository.existsByJtiAndExpiresAtAfter(eq(jti), any(LocalDateTime.class)))
+        .thenReturn(true);
+
+    invalidationBus.publish(AccessTokenRevocationList.CACHE_NAME, jti.toString());
+
+    assertTrue(revocationList.isRevoked(jti.toString()));
+  }
+
+  @Test
+  void isRevoked_BloomFalsePositive_ConfirmedByDatabase() {
+    UUID jti = UUID.randomUUID();
+    when(repository.existsByJtiAndExpiresAtAfter(eq(jti), any(LocalDateTime.class)))
+        .thenReturn(false);
+    revocationList.onInvalidate(jti.toString());
+
+    assertFalse(revocationList.isRevoked(jti.toString()));
+    assertEquals(1.0, meterRegistry.counter("jwt.revocation.bloom-hits").count());
+  }
+
+  @Test
+  void rebuild_LoadsActiveRevocationsAndPurgesExpiredRows() {
+    UUID active = UUID.randomUUID();
+    when(repository.findActiveJtis(any(LocalDateTime.class))).thenReturn(List.of(active));
+    when(repository.existsByJtiAndExpiresAtAfter(eq(active), any(LocalDateTime.class)))
+        .thenReturn(true);
+
+    revocationList.rebuild();
+
+    assertTrue(revocationList.isRevoked(active.toString()));
+    verify(repository).deleteExpired(any(LocalDateTime.class));
+  }
+
+  @Test
+  void rebuild_DropsRevocationsNoLongerInDatabase() {
+    UUID expired = UUID.randomUUID();
+    revocationList.onInvalidate(expired.toString());
+    when(repository.findActiveJtis(any(LocalDateTime.class))).thenReturn(List.of());
+
+    revocationList.rebuild();
+
+    assertFalse(revocationList.isRevoked(expired.toString()));
+    verify(repository, never()).existsByJtiAndExpiresAtAfter(any(), any());
+  }
+
+  @Test
+  void rebuild_DatabaseUnavailable_KeepsCurrentFilter() {
+    UUID jti = UUID.randomUUID();
+    revocationList.onInvalidate(jti.toString());
+    when(repository.findActiveJtis(any(LocalDateTime.class)))
+        .thenThrow(new DataAccessResourceFailureException("connection refused"));
+    when(repository.existsByJtiAndExpiresAtAfter(eq(jti), any(LocalDateTime.class)))
+        .thenReturn(true);
+
+    revocationList.rebuild();
+
+    assertTrue(revocationList.isRevoked(jti.toString()));
+    assertEquals(1.0, meterRegistry.counter("jwt.revocation.rebuild.failures").count());
+  }
+}
@@ -0,0 +1,76 @@
+package com.ecsite.auth.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BloomFilterのユニットテスト
+ *
+ * <p>登録済み要素が必ず陽性になること、および想定要素数での偽陽性率が設定値程度に収まることを検証します。
+ */
+class BloomFilterTest {
+
+  @Test
+  void mightContain_EmptyFilter_ReturnsFalse() {
+    BloomFilter filter = new BloomFilter(1000, 0.01);
+
+    assertFalse(filter.mightContain(UUID.randomUUID().toString()));
+  }
+
+  @Test
+  void mightContain_RegisteredValues_NeverFalseNegative() {
+    BloomFilter filter = new BloomFilter(10_000, 0.001);
+    List<String> values = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      String value = UUID.randomUUID().toString();
+      values.add(value);
+      filter.put(value);
+    }
+
+    for (String value : values) {
+      assertTrue(filter.mightContain(value));
+    }
+  }
+
+  @Test
+  void mightContain_AtExpectedInsertions_FalsePositiveRateNearTarget() {
+    BloomFilter filter = new BloomFilter(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      filter.put(UUID.randomUUID().toString());
+    }
+
+    int falsePositives = 0;
+    int probes = 100_000;
+    for (int i = 0; i < probes; i++) {
+      if (filter.mightContain(UUID.randomUUID().toString())) {
+        falsePositives++;
+      }
+    }
+
+    assertTrue(
+        falsePositives < probes * 0.02, "false positive rate: " + (double) falsePositives / probes);
+  }
+
+  @Test
+  void constructor_SizesBitsAndHashFunctionsFromTargetRate() {
+    BloomFilter filter = new BloomFilter(100_000, 0.001);
+
+    // m = -n ln p / (ln 2)^2 ≒ 1,437,759ビット、k = m / n ln 2 ≒ 10
+    assertEquals(1_437_760, filter.bitCount());
+    assertEquals(10, filter.hashFunctions());
+  }
+
+  @Test
+  void constructor_InvalidArguments_ThrowsException() {
+    assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+    assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 0));
+    assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1));
+  }
+}
@@ -0,0 +1,118 @@
+package com.ecsite.auth.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ecsite.auth.cache.UserStatusCache;
+import com.ecsite.auth.entity.User;
+import jakarta.servlet.FilterChain;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * JwtAuthenticationFilterのユニットテスト
+ *
+ * <p>認証不要の経路ではトークンの検証とユーザーステータスの参照を行わないこと、および設定される認証情報を検証します。
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+  private static final String AUTHORIZATION = "Bearer token";
+
+  @Mock private VerifiedTokenCache verifiedTokenCache;
+
+  @Mock private UserStatusCache userStatusCache;
+
+  @Mock private AccessTokenRevocationList revocationList;
+
+  @Mock private FilterChain filterChain;
+
+  private JwtAuthenticationFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    filter =
+        new JwtAuthenticationFilter(
+            new AccessTokenPolicy(verifiedTokenCache, revocationList),
+            userStatusCache,
+            new RouteClassifier(),
+            false);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void doFilter_ActuatorRoute_SkipsAuthentication() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+    request.addHeader("Authorization", AUTHORIZATION);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request, response, filterChain);
+
+    verify(filterChain).doFilter(request, response);
+    verifyNoInteractions(verifiedTokenCache, userStatusCache, revocationList);
+    assertNull(SecurityContextHolder.getContext().getAuthentication());
+  }
+
+  @Test
+  void doFilter_PublicRoute_SkipsAuthentication() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+    request.addHeader("Authorization", AUTHORIZATION);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request, response, filterChain);
+
+    verify(filterChain).doFilter(request, response);
+    verifyNoInteractions(verifiedTokenCache, userStatusCache, revocationList);
+  }
+
+  @Test
+  void doFilter_AuthenticatedRoute_SetsAuthentication() throws Exception {
+    UUID userId = UUID.randomUUID();
+    when(verifiedTokenCache.verify("token"))
+        .thenReturn(
+            new VerifiedTokenCache.VerifiedToken(
+                userId.toString(), "USER", "jti", Instant.now().plusSeconds(60), "ACCESS"));
+    when(userStatusCache.getStatus(userId)).thenReturn(User.UserStatus.ACTIVE);
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+    request.addHeader("Authorization", AUTHORIZATION);
+
+    filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+    assertEquals(
+        userId.toString(), SecurityContextHolder.getContext().getAuthentication().getName());
+  }
+
+  @Test
+  void doFilter_RefreshToken_DoesNotAuthenticate() throws Exception {
+    UUID userId = UUID.randomUUID();
+    when(verifiedTokenCache.verify("token"))
+        .thenReturn(
+            new VerifiedTokenCache.VerifiedToken(
+                userId.toString(), "USER", "jti", Instant.now().plusSeconds(60), "REFRESH"));
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+    request.addHeader("Authorization", AUTHORIZATION);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request, response, filterChain);
+
+    verify(filterChain).doFilter(request, response);
+    verifyNoInteractions(userStatusCache, revocationList);
+    assertNull(SecurityContextHolder.getContext().getAuthentication());
+  }
+}
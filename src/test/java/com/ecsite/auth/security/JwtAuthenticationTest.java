@@ -0,0 +1,45 @@
+package com.ecsite.auth.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JwtAuthenticationのユニットテスト
+ *
+ * <p>権限リストがロールごとに共有されること、および認証状態を変更できないことを検証します。
+ */
+class JwtAuthenticationTest {
+
+  private static final Instant EXPIRES_AT = Instant.parse("2026-01-01T00:15:00Z");
+
+  @Test
+  void authorities_AreSharedPerRole() {
+    JwtAuthentication first = new JwtAuthentication("user-1", "USER", "jti-1", EXPIRES_AT, null);
+    JwtAuthentication second = new JwtAuthentication("user-2", "USER", "jti-2", EXPIRES_AT, null);
+
+    assertSame(first.getAuthorities(), second.getAuthorities());
+    assertEquals("ROLE_USER", first.getAuthorities().iterator().next().getAuthority());
+  }
+
+  @Test
+  void authorities_NullRole_IsEmpty() {
+    assertEquals(
+        List.of(),
+        new JwtAuthentication("user-1", null, "jti-1", EXPIRES_AT, null).getAuthorities());
+  }
+
+  @Test
+  void setAuthenticated_False_Throws() {
+    JwtAuthentication authentication =
+        new JwtAuthentication("user-1", "USER", "jti-1", EXPIRES_AT, null);
+
+    assertThrows(IllegalArgumentException.class, () -> authentication.setAuthenticated(false));
+    assertTrue(authentication.isAuthenticated());
+  }
+}
@@ -0,0 +1,239 @@
+package com.ecsite.auth.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.KeyPair;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * JwtKeyRingのユニットテスト
+ *
+ * <p>非対称鍵による署名・検証、鍵IDによる検証鍵の選択、ローテーション時の新旧鍵の併用、公開鍵セットの内容を検証します。
+ */
+class JwtKeyRingTest {
+
+  private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs256-algorithm";
+
+  private final SecretKey secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+  private final UUID userId = UUID.randomUUID();
+
+  @Test
+  void es256_SignsWithKeyIdAndVerifies() {
+    JwtKeyRing keyRing = keyRing(JwtKeyRing.ES256, "key-1", Map.of("key-1", es256()));
+    JwtUtil jwtUtil = new JwtUtil(keyRing, 900000L, 2592000000L);
+
+    String token = jwtUtil.generateAccessToken(userId, "test@example.com", "USER");
+
+    String header = header(token);
+    assertTrue(header.contains("\"alg\":\"ES256\""));
+    assertTrue(header.contains("\"kid\":\"key-1\""));
+    assertEquals(userId.toString(), jwtUtil.validateToken(token).getSubject());
+  }
+
+  @Test
+  void eddsa_SignsAndVerifies() {
+    KeyPair keyPair = Jwks.CRV.Ed25519.keyPair().build();
+    JwtKeyRing keyRing = keyRing(JwtKeyRing.EDDSA, "ed-1", Map.of("ed-1", keyPair));
+    JwtUtil jwtUtil = new JwtUtil(keyRing, 900000L, 2592000000L);
+
+    String token = jwtUtil.generateAccessToken(userId, "test@example.com", "USER");
+
+    assertTrue(header(token).contains("\"alg\":\"EdDSA\""));
+    assertEquals(userId.toString(), jwtUtil.validateToken(token).getSubject());
+    assertTrue(keyRing.jwkSetJson().contains("\"crv\":\"Ed25519\""));
+  }
+
+  @Test
+  void rotation_TokensSignedWithPreviousKeyRemainValid() {
+    KeyPair oldKey = es256();
+    KeyPair newKey = es256();
+    JwtUtil before =
+        new JwtUtil(keyRing(JwtKeyRing.ES256, "old", Map.of("old", oldKey)), 900000L, 2592000000L);
+    String oldToken = before.generateAccessToken(userId, "test@example.com", "USER");
+
+    // 旧鍵は秘密鍵を削除し、公開鍵のみで検証を継続する
+    Map<String, KeyPair> keys = new LinkedHashMap<>();
+    keys.put("old", new KeyPair(oldKey.getPublic(), null));
+    keys.put("new", newKey);
+    JwtKeyRing rotated = keyRing(JwtKeyRing.ES256, "new", keys);
+    JwtUtil after = new JwtUtil(rotated, 900000L, 2592000000L);
+    String newToken = after.generateAccessToken(userId, "test@example.com", "USER");
+
+    assertEquals(userId.toString(), after.validateToken(oldToken).getSubject());
+    assertTrue(header(newToken).contains("\"kid\":\"new\""));
+    assertTrue(rotated.jwkSetJson().contains("\"kid\":\"old\""));
+    assertTrue(rotated.jwkSetJson().contains("\"kid\":\"new\""));
+    assertNotEquals(
+        keyRing(JwtKeyRing.ES256, "old", Map.of("old", oldKey)).jwkSetETag(), rotated.jwkSetETag());
+  }
+
+  @Test
+  void unknownKeyId_ThrowsUnsupportedJwtException() {
+    String token =
+        Jwts.builder()
+            .header()
+            .keyId("unknown")
+            .and()
+            .subject(userId.toString())
+            .signWith(es256().getPrivate(), Jwts.SIG.ES256)
+            .compact();
+    JwtKeyRing keyRing = keyRing(JwtKeyRing.ES256, "key-1", Map.of("key-1", es256()));
+
+    assertThrows(UnsupportedJwtException.class, () -> keyRing.parser().parseSignedClaims(token));
+  }
+
+  @Test
+  void legacyHs256Token_VerifiedOnlyWhenEnabled() {
+    String legacyToken =
+        new JwtUtil(SECRET, 900000L, 2592000000L)
+            .generateAccessToken(userId, "test@example.com", "USER");
+    Map<String, KeyPair> keys = Map.of("key-1", es256());
+
+    JwtKeyRing migrating = new JwtKeyRing(JwtKeyRing.ES256, secretKey, true, "key-1", keys);
+    JwtKeyRing migrated = new JwtKeyRing(JwtKeyRing.ES256, secretKey, false, "key-1", keys);
+
+    assertEquals(
+        userId.toString(),
+        migrating.parser().parseSignedClaims(legacyToken).getPayload().getSubject());
+    assertThrows(
+        UnsupportedJwtException.class, () -> migrated.parser().parseSignedClaims(legacyToken));
+  }
+
+  @Test
+  void legacyHs256Token_RejectedAfterDeadline() {
+    String legacyToken =
+        new JwtUtil(SECRET, 900000L, 2592000000L)
+            .generateAccessToken(userId, "test@example.com", "USER");
+    Instant deadline = Instant.parse("2026-11-01T00:00:00Z");
+    AtomicReference<Instant> now = new AtomicReference<>(deadline.minusSeconds(1));
+    JwtKeyRing keyRing =
+        new JwtKeyRing(
+            JwtKeyRing.ES256,
+            secretKey,
+            true,
+            deadline,
+            now::get,
+            "key-1",
+            Map.of("key-1", es256()));
+
+    assertEquals(
+        userId.toString(),
+        keyRing.parser().parseSignedClaims(legacyToken).getPayload().getSubject());
+
+    now.set(deadline);
+
+    assertThrows(
+        UnsupportedJwtException.class, () -> keyRing.parser().parseSignedClaims(legacyToken));
+  }
+
+  @Test
+  void jwkSet_ContainsPublicParametersOnly() {
+    JwtKeyRing keyRing = keyRing(JwtKeyRing.ES256, "key-1", Map.of("key-1", es256()));
+
+    String json = keyRing.jwkSetJson();
+
+    assertTrue(json.startsWith("{\"keys\":[{"));
+    assertTrue(json.contains("\"kty\":\"EC\""));
+    assertTrue(json.contains("\"alg\":\"ES256\""));
+    assertTrue(json.contains("\"use\":\"sig\""));
+    assertFalse(json.contains("\"d\""));
+  }
+
+  @Test
+  void hs256_PublishesEmptyJwkSet() {
+    JwtKeyRing keyRing = JwtKeyRing.hmac(SECRET);
+
+    assertEquals("{\"keys\":[]}", keyRing.jwkSetJson());
+    assertEquals(null, keyRing.activeKeyId());
+  }
+
+  @Test
+  void keyDirectory_LoadsPemKeysAndVerifyOnlyKeys(@TempDir Path directory) throws IOException {
+    KeyPair current = es256();
+    KeyPair retired = es256();
+    writePem(directory.resolve("2026-10.key"), "PRIVATE KEY", current.getPrivate());
+    writePem(directory.resolve("2026-10.pub"), "PUBLIC KEY", current.getPublic());
+    writePem(directory.resolve("2026-07.pub"), "PUBLIC KEY", retired.getPublic());
+
+    JwtKeyRing keyRing =
+        new JwtKeyRing(JwtKeyRing.ES256, SECRET, directory.toString(), "2026-10", false, "");
+
+    assertEquals("2026-10", keyRing.activeKeyId());
+    assertTrue(keyRing.jwkSetJson().contains("\"kid\":\"2026-07\""));
+    String retiredToken =
+        Jwts.builder()
+            .header()
+            .keyId("2026-07")
+            .and()
+            .subject(userId.toString())
+            .signWith(retired.getPrivate(), Jwts.SIG.ES256)
+            .compact();
+    assertEquals(
+        userId.toString(),
+        keyRing.parser().parseSignedClaims(retiredToken).getPayload().getSubject());
+  }
+
+  @Test
+  void keyDirectory_ActiveKeyWithoutPrivateKey_FailsFast(@TempDir Path directory)
+      throws IOException {
+    writePem(directory.resolve("retired.pub"), "PUBLIC KEY", es256().getPublic());
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> new JwtKeyRing(JwtKeyRing.ES256, SECRET, directory.toString(), "retired", false, ""));
+  }
+
+  @Test
+  void noKeyDirectory_GeneratesEphemeralKey() {
+    JwtKeyRing keyRing = new JwtKeyRing(JwtKeyRing.ES256, SECRET, "", "", false, "");
+    JwtUtil jwtUtil = new JwtUtil(keyRing, 900000L, 2592000000L);
+
+    String token = jwtUtil.generateAccessToken(userId, "test@example.com", "USER");
+
+    assertTrue(header(token).contains("\"kid\":\"" + keyRing.activeKeyId() + "\""));
+    assertEquals(userId.toString(), jwtUtil.validateToken(token).getSubject());
+  }
+
+  private JwtKeyRing keyRing(String algorithm, String activeKeyId, Map<String, KeyPair> keys) {
+    return new JwtKeyRing(algorithm, secretKey, false, activeKeyId, keys);
+  }
+
+  private static KeyPair es256() {
+    return Jwts.SIG.ES256.keyPair().build();
+  }
+
+  private static String header(String token) {
+    return new String(
+        Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))),
+        StandardCharsets.UTF_8);
+  }
+
+  private static void writePem(Path path, String type, Key key) throws IOException {
+    String body =
+        Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII))
+            .encodeToString(key.getEncoded());
+    Files.writeString(
+        path, "-----BEGIN " + type + "-----\n" + body + "\n-----END " + type + "-----\n");
+  }
+}
@@ -3,16 +3,22 @@ package com.ecsite.auth.security;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.SignatureException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.test.util.ReflectionTestUtils;
 
 class JwtUtilTest {
 
+  private static final String TEST_SECRET =
+      "test-secret-key-that-is-long-enough-for-hs256-algorithm";
+
   private JwtUtil jwtUtil;
   private UUID testUserId;
   private String testEmail;
@@ -20,11 +26,11 @@ class JwtUtilTest {
 
   @BeforeEach
   void setUp() {
-    jwtUtil = new JwtUtil();
-    ReflectionTestUtils.setField(
-        jwtUtil, "secret", "test-secret-key-that-is-long-enough-for-hs256-algorithm");
-    ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", 900000L); // 15 minutes
-    ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 2592000000L); // 30 days
+    jwtUtil =
+        new JwtUtil(
+            TEST_SECRET,
+            900000L, // 15 minutes
+            2592000000L); // 30 days
 
     testUserId = UUID.randomUUID();
     testEmail = "test@example.com";
@@ -48,7 +54,7 @@ class JwtUtilTest {
 
   @Test
   void generateRefreshToken_Success() {
-    String token = jwtUtil.generateRefreshToken(testUserId);
+    String token = jwtUtil.generateRefreshToken(testUserId, UUID.randomUUID(), UUID.randomUUID());
 
     assertNotNull(token);
     assertFalse(token.isEmpty());
@@ -59,6 +65,19 @@ class JwtUtilTest {
     assertNotNull(claims.get("jti"));
   }
 
+  @Test
+  void generateRefreshToken_WithFamily_ContainsFamilyIdAndJti() {
+    UUID familyId = UUID.randomUUID();
+    UUID jti = UUID.randomUUID();
+
+    Claims claims = jwtUtil.validateToken(jwtUtil.generateRefreshToken(testUserId, familyId, jti));
+
+    assertEquals(testUserId.toString(), claims.getSubject());
+    assertEquals("REFRESH", claims.get("type", String.class));
+    assertEquals(familyId.toString(), claims.get("fid", String.class));
+    assertEquals(jti.toString(), claims.getId());
+  }
+
   @Test
   void generateEmailVerificationToken_Success() {
     String token = jwtUtil.generateEmailVerificationToken(testUserId, testEmail);
@@ -103,7 +122,7 @@ class JwtUtilTest {
 
   @Test
   void getTokenType_RefreshToken() {
-    String token = jwtUtil.generateRefreshToken(testUserId);
+    String token = jwtUtil.generateRefreshToken(testUserId, UUID.randomUUID(), UUID.randomUUID());
 
     String tokenType = jwtUtil.getTokenType(token);
 
@@ -127,4 +146,34 @@ class JwtUtilTest {
 
     assertTrue(expired);
   }
+
+  @Test
+  void generateAccessToken_UsesHs256() {
+    String token = jwtUtil.generateAccessToken(testUserId, testEmail, testRole);
+
+    String header =
+        new String(
+            Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))),
+            StandardCharsets.UTF_8);
+
+    assertTrue(header.contains("\"alg\":\"HS256\""));
+  }
+
+  @Test
+  void validateToken_ReusedAcrossCalls() {
+    String first = jwtUtil.generateAccessToken(testUserId, testEmail, testRole);
+    String second = jwtUtil.generateRefreshToken(testUserId, UUID.randomUUID(), UUID.randomUUID());
+
+    assertEquals(testUserId.toString(), jwtUtil.validateToken(first).getSubject());
+    assertEquals(testUserId.toString(), jwtUtil.validateToken(second).getSubject());
+  }
+
+  @Test
+  void validateToken_DifferentSecret_ThrowsSignatureException() {
+    JwtUtil otherJwtUtil =
+        new JwtUtil("another-secret-key-that-is-long-enough-for-hs256-algo", 900000L, 900000L);
+    String token = otherJwtUtil.generateAccessToken(testUserId, testEmail, testRole);
+
+    assertThrows(SignatureException.class, () -> jwtUtil.validateToken(token));
+  }
 }
@@ -0,0 +1,30 @@
+package com.ecsite.auth.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PasswordHashCalibratorのユニットテスト
+ *
+ * <p>レイテンシ予算を超えた時点で計測を打ち切り、推奨コストをゲージに公開することを検証します。
+ */
+class PasswordHashCalibratorTest {
+
+  @Test
+  void calibrate_BudgetExceededAtMinimumCost_ReportsMinimumCost() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    PasswordHashCalibrator calibrator =
+        new PasswordHashCalibrator(
+            new PasswordHashPolicy("bcrypt", 12), meterRegistry, Duration.ZERO);
+
+    int cost = calibrator.calibrate();
+
+    assertEquals(PasswordHashCalibrator.MIN_COST, cost);
+    assertEquals(
+        PasswordHashCalibrator.MIN_COST,
+        meterRegistry.get("password.hashing.calibrated.cost").gauge().value());
+  }
+}
@@ -0,0 +1,72 @@
+package com.ecsite.auth.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * PasswordHashPolicyのユニットテスト
+ *
+ * <p>アルゴリズム・コストの差異による再ハッシュ判定と、既存ハッシュとの互換性を検証します。
+ */
+class PasswordHashPolicyTest {
+
+  private static final String PASSWORD = "SecurePass123!";
+
+  @Test
+  void createEncoder_MatchesLegacyUnprefixedBcryptHash() {
+    PasswordEncoder encoder = new PasswordHashPolicy("bcrypt", 4).createEncoder();
+    String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+    assertTrue(encoder.matches(PASSWORD, legacyHash));
+  }
+
+  @Test
+  void createEncoder_EncodesWithAlgorithmPrefix() {
+    PasswordEncoder encoder = new PasswordHashPolicy("bcrypt", 4).createEncoder();
+
+    String encoded = encoder.encode(PASSWORD);
+
+    assertTrue(encoded.startsWith("{bcrypt}$2a$04$"));
+    assertTrue(encoder.matches(PASSWORD, encoded));
+  }
+
+  @Test
+  void needsRehash_SameCost_ReturnsFalse() {
+    PasswordHashPolicy policy = new PasswordHashPolicy("bcrypt", 4);
+
+    assertFalse(policy.needsRehash(new BCryptPasswordEncoder(4).encode(PASSWORD)));
+    assertFalse(policy.needsRehash(policy.createEncoder().encode(PASSWORD)));
+  }
+
+  @Test
+  void needsRehash_LowerOrHigherCost_ReturnsTrue() {
+    PasswordHashPolicy policy = new PasswordHashPolicy("bcrypt", 5);
+
+    assertTrue(policy.needsRehash(new BCryptPasswordEncoder(4).encode(PASSWORD)));
+    assertTrue(policy.needsRehash(new BCryptPasswordEncoder(6).encode(PASSWORD)));
+  }
+
+  @Test
+  void needsRehash_DifferentAlgorithm_ReturnsTrue() {
+    PasswordHashPolicy bcryptPolicy = new PasswordHashPolicy("bcrypt", 4);
+    PasswordHashPolicy argon2Policy = new PasswordHashPolicy("argon2", 4);
+
+    String argon2Hash = argon2Policy.createEncoder().encode(PASSWORD);
+
+    assertTrue(argon2Hash.startsWith("{argon2}"));
+    assertTrue(bcryptPolicy.needsRehash(argon2Hash));
+    assertTrue(argon2Policy.needsRehash(new BCryptPasswordEncoder(4).encode(PASSWORD)));
+    assertFalse(argon2Policy.needsRehash(argon2Hash));
+    assertTrue(bcryptPolicy.createEncoder().matches(PASSWORD, argon2Hash));
+  }
+
+  @Test
+  void constructor_UnsupportedAlgorithm_ThrowsException() {
+    assertThrows(IllegalArgumentException.class, () -> new PasswordHashPolicy("md5", 4));
+  }
+}
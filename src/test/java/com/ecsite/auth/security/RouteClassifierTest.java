@@ -0,0 +1,75 @@
+package com.ecsite.auth.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ecsite.auth.security.RouteClassifier.Category;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * RouteClassifierのユニットテスト
+ *
+ * <p>経路表の分類と、コンテキストパス・URLエンコード・分類結果の再利用の扱いを検証します。
+ */
+class RouteClassifierTest {
+
+  private final RouteClassifier routeClassifier = new RouteClassifier();
+
+  @Test
+  void classify_PublicRoutes() {
+    assertEquals(Category.PUBLIC, routeClassifier.classify("POST", "/api/v1/auth/login"));
+    assertEquals(Category.PUBLIC, routeClassifier.classify("POST", "/api/v1/auth/register"));
+    assertEquals(Category.PUBLIC, routeClassifier.classify("GET", "/.well-known/jwks.json"));
+    assertEquals(
+        Category.PUBLIC,
+        routeClassifier.classify("POST", "/api/v1/%E4%BC%9A%E5%93%A1%E7%99%BB%E9%8C%B2"));
+  }
+
+  @Test
+  void classify_ActuatorRoutes() {
+    assertEquals(Category.ACTUATOR, routeClassifier.classify("GET", "/actuator/health"));
+    assertEquals(Category.ACTUATOR, routeClassifier.classify("GET", "/actuator/health/liveness"));
+  }
+
+  @Test
+  void classify_WithdrawalRoutes_OnlyForPost() {
+    assertEquals(
+        Category.WITHDRAWAL, routeClassifier.classify("POST", "/api/v1/users/me/withdraw"));
+    assertEquals(
+        Category.WITHDRAWAL,
+        routeClassifier.classify(
+            "POST", "/api/v1/users/3f2c8a9e-1b4d-4c6a-9e7f-2d1b0c9a8e7f/withdraw"));
+    assertEquals(
+        Category.AUTHENTICATED, routeClassifier.classify("GET", "/api/v1/users/me/withdraw"));
+    assertEquals(
+        Category.AUTHENTICATED,
+        routeClassifier.classify("POST", "/api/v1/users/me/withdraw/extra"));
+  }
+
+  @Test
+  void classify_UnknownRoute_IsAuthenticated() {
+    assertEquals(Category.AUTHENTICATED, routeClassifier.classify("GET", "/api/v1/users/me"));
+    assertEquals(Category.AUTHENTICATED, routeClassifier.classify("POST", "/api/v1/auth/logout"));
+  }
+
+  @Test
+  void classify_Request_StripsContextPath() {
+    MockHttpServletRequest request =
+        new MockHttpServletRequest("POST", "/auth/api/v1/users/me/withdraw");
+    request.setContextPath("/auth");
+
+    assertEquals(Category.WITHDRAWAL, routeClassifier.classify(request));
+  }
+
+  @Test
+  void classify_Request_ReclassifiesWhenUriChanges() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/auth/login");
+    assertTrue(routeClassifier.isPermitAll(request));
+
+    request.setRequestURI("/api/v1/users/me");
+
+    assertFalse(routeClassifier.isPermitAll(request));
+  }
+}
@@ -0,0 +1,92 @@
+package com.ecsite.auth.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * VerifiedTokenCacheのユニットテスト
+ *
+ * <p>キャッシュヒット時に署名検証が省略されること、およびメトリクスが記録されることを検証します。
+ */
+class VerifiedTokenCacheTest {
+
+  private JwtUtil jwtUtil;
+  private SimpleMeterRegistry meterRegistry;
+  private VerifiedTokenCache verifiedTokenCache;
+  private UUID userId;
+
+  @BeforeEach
+  void setUp() {
+    jwtUtil =
+        spy(
+            new JwtUtil(
+                "test-secret-key-that-is-long-enough-for-hs256-algorithm", 900000L, -1000L));
+    meterRegistry = new SimpleMeterRegistry();
+    verifiedTokenCache = new VerifiedTokenCache(jwtUtil, meterRegistry, 100);
+    userId = UUID.randomUUID();
+  }
+
+  @Test
+  void verify_ReturnsClaims() {
+    String token = jwtUtil.generateAccessToken(userId, "test@example.com", "USER");
+
+    VerifiedTokenCache.VerifiedToken verifiedToken = verifiedTokenCache.verify(token);
+
+    assertEquals(userId.toString(), verifiedToken.userId());
+    assertEquals("USER", verifiedToken.role());
+    assertNotNull(verifiedToken.jti());
+    assertNotNull(verifiedToken.expiresAt());
+  }
+
+  @Test
+  void verify_SameToken_ValidatesOnlyOnce() {
+    String token = jwtUtil.generateAccessToken(userId, "test@example.com", "USER");
+
+    verifiedTokenCache.verify(token);
+    verifiedTokenCache.verify(token);
+    verifiedTokenCache.verify(token);
+
+    verify(jwtUtil, times(1)).validateToken(token);
+    assertEquals(
+        2.0,
+        meterRegistry
+            .get("cache.gets")
+            .tag("cache", VerifiedTokenCache.CACHE_NAME)
+            .tag("result", "hit")
+            .functionCounter()
+            .count());
+    assertEquals(
+        1.0,
+        meterRegistry
+            .get("cache.gets")
+            .tag("cache", VerifiedTokenCache.CACHE_NAME)
+            .tag("result", "miss")
+            .functionCounter()
+            .count());
+  }
+
+  @Test
+  void verify_InvalidToken_ThrowsAndIsNotCached() {
+    assertThrows(JwtException.class, () -> verifiedTokenCache.verify("invalid.token.here"));
+    assertThrows(JwtException.class, () -> verifiedTokenCache.verify("invalid.token.here"));
+
+    assertEquals(0, verifiedTokenCache.size());
+  }
+
+  @Test
+  void verify_ExpiredToken_Throws() {
+    String token = jwtUtil.generateRefreshToken(userId, UUID.randomUUID(), UUID.randomUUID());
+
+    assertThrows(JwtException.class, () -> verifiedTokenCache.verify(token));
+  }
+}
@@ -9,6 +9,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.ecsite.auth.cache.UserStatusCache;
 import com.ecsite.auth.entity.EmailVerificationToken;
 import com.ecsite.auth.entity.User;
 import com.ecsite.auth.repository.EmailVerificationTokenRepository;
@@ -32,6 +33,8 @@ class EmailVerificationServiceTest {
 
   @Mock private NotificationService notificationService;
 
+  @Mock private UserStatusCache userStatusCache;
+
   @InjectMocks private EmailVerificationService emailVerificationService;
 
   private User testUser;
@@ -80,6 +83,7 @@ class EmailVerificationServiceTest {
     verify(tokenRepository).findByToken("test-token-123");
     verify(userRepository).save(testUser);
     verify(tokenRepository).save(testToken);
+    verify(userStatusCache).invalidate(testUser.getId());
   }
 
   @Test
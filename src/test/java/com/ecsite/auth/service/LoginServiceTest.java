@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.ecsite.auth.dto.LoginRequest;
@@ -23,7 +24,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 /**
  * LoginServiceの単体テスト
@@ -37,7 +37,11 @@ class LoginServiceTest {
 
   @Mock private UserRepository userRepository;
 
-  @Mock private BCryptPasswordEncoder passwordEncoder;
+  @Mock private PasswordHashingService passwordHashingService;
+
+  @Mock private PasswordRehashService passwordRehashService;
+
+  @Mock private RefreshTokenService refreshTokenService;
 
   @Mock private JwtUtil jwtUtil;
 
@@ -67,11 +71,11 @@ class LoginServiceTest {
   @Test
   void authenticateUser_Success() {
     when(userRepository.findByEmail(validRequest.getEmail())).thenReturn(Optional.of(activeUser));
-    when(passwordEncoder.matches(validRequest.getPassword(), activeUser.getPasswordHash()))
+    when(passwordHashingService.matches(validRequest.getPassword(), activeUser.getPasswordHash()))
         .thenReturn(true);
     when(jwtUtil.generateAccessToken(any(UUID.class), anyString(), anyString()))
         .thenReturn("access-token");
-    when(jwtUtil.generateRefreshToken(any(UUID.class))).thenReturn("refresh-token");
+    when(refreshTokenService.issue(any(UUID.class))).thenReturn("refresh-token");
 
     LoginResponse response = loginService.authenticateUser(validRequest);
 
@@ -88,9 +92,13 @@ class LoginServiceTest {
     assertEquals(false, response.getUser().isMfaEnabled());
 
     verify(userRepository).findByEmail(validRequest.getEmail());
-    verify(passwordEncoder).matches(validRequest.getPassword(), activeUser.getPasswordHash());
+    verify(passwordHashingService)
+        .matches(validRequest.getPassword(), activeUser.getPasswordHash());
     verify(jwtUtil).generateAccessToken(activeUser.getId(), activeUser.getEmail(), "USER");
-    verify(jwtUtil).generateRefreshToken(activeUser.getId());
+    verify(refreshTokenService).issue(activeUser.getId());
+    verify(passwordRehashService)
+        .rehashIfNeeded(
+            activeUser.getId(), validRequest.getPassword(), activeUser.getPasswordHash());
   }
 
   @Test
@@ -103,12 +111,13 @@ class LoginServiceTest {
 
     assertEquals("Invalid email or password", exception.getMessage());
     verify(userRepository).findByEmail(validRequest.getEmail());
+    verify(passwordHashingService).matchesDummy(validRequest.getPassword());
   }
 
   @Test
   void authenticateUser_InvalidPassword_ThrowsBadCredentialsException() {
     when(userRepository.findByEmail(validRequest.getEmail())).thenReturn(Optional.of(activeUser));
-    when(passwordEncoder.matches(validRequest.getPassword(), activeUser.getPasswordHash()))
+    when(passwordHashingService.matches(validRequest.getPassword(), activeUser.getPasswordHash()))
         .thenReturn(false);
 
     BadCredentialsException exception =
@@ -117,7 +126,9 @@ class LoginServiceTest {
 
     assertEquals("Invalid email or password", exception.getMessage());
     verify(userRepository).findByEmail(validRequest.getEmail());
-    verify(passwordEncoder).matches(validRequest.getPassword(), activeUser.getPasswordHash());
+    verify(passwordHashingService)
+        .matches(validRequest.getPassword(), activeUser.getPasswordHash());
+    verifyNoInteractions(passwordRehashService);
   }
 
   @Test
@@ -129,7 +140,7 @@ class LoginServiceTest {
     pendingUser.setStatus(User.UserStatus.PENDING);
 
     when(userRepository.findByEmail(validRequest.getEmail())).thenReturn(Optional.of(pendingUser));
-    when(passwordEncoder.matches(validRequest.getPassword(), pendingUser.getPasswordHash()))
+    when(passwordHashingService.matches(validRequest.getPassword(), pendingUser.getPasswordHash()))
         .thenReturn(true);
 
     BadCredentialsException exception =
@@ -140,7 +151,8 @@ class LoginServiceTest {
         "Account is not active. Please verify your email or contact support.",
         exception.getMessage());
     verify(userRepository).findByEmail(validRequest.getEmail());
-    verify(passwordEncoder).matches(validRequest.getPassword(), pendingUser.getPasswordHash());
+    verify(passwordHashingService)
+        .matches(validRequest.getPassword(), pendingUser.getPasswordHash());
   }
 
   @Test
@@ -152,7 +164,7 @@ class LoginServiceTest {
     inactiveUser.setStatus(User.UserStatus.INACTIVE);
 
     when(userRepository.findByEmail(validRequest.getEmail())).thenReturn(Optional.of(inactiveUser));
-    when(passwordEncoder.matches(validRequest.getPassword(), inactiveUser.getPasswordHash()))
+    when(passwordHashingService.matches(validRequest.getPassword(), inactiveUser.getPasswordHash()))
         .thenReturn(true);
 
     BadCredentialsException exception =
@@ -163,7 +175,8 @@ class LoginServiceTest {
         "Account is not active. Please verify your email or contact support.",
         exception.getMessage());
     verify(userRepository).findByEmail(validRequest.getEmail());
-    verify(passwordEncoder).matches(validRequest.getPassword(), inactiveUser.getPasswordHash());
+    verify(passwordHashingService)
+        .matches(validRequest.getPassword(), inactiveUser.getPasswordHash());
   }
 
   @Test
@@ -176,7 +189,8 @@ class LoginServiceTest {
 
     when(userRepository.findByEmail(validRequest.getEmail()))
         .thenReturn(Optional.of(suspendedUser));
-    when(passwordEncoder.matches(validRequest.getPassword(), suspendedUser.getPasswordHash()))
+    when(passwordHashingService.matches(
+            validRequest.getPassword(), suspendedUser.getPasswordHash()))
         .thenReturn(true);
 
     BadCredentialsException exception =
@@ -187,6 +201,7 @@ class LoginServiceTest {
         "Account is not active. Please verify your email or contact support.",
         exception.getMessage());
     verify(userRepository).findByEmail(validRequest.getEmail());
-    verify(passwordEncoder).matches(validRequest.getPassword(), suspendedUser.getPasswordHash());
+    verify(passwordHashingService)
+        .matches(validRequest.getPassword(), suspendedUser.getPasswordHash());
   }
 }
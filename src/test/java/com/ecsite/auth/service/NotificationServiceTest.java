@@ -1,84 +1,73 @@
 package com.ecsite.auth.service;
 
-import ch.qos.logback.classic.Logger;
-import ch.qos.logback.classic.spi.ILoggingEvent;
-import ch.qos.logback.core.read.ListAppender;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+
+import com.ecsite.auth.entity.NotificationOutbox;
+import com.ecsite.auth.repository.NotificationOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDateTime;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.slf4j.LoggerFactory;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
 
 /**
  * NotificationServiceのユニットテスト
  *
- * <p>通知サービスのログ出力を検証します。
+ * <p>通知がアウトボックスへ保存されることを検証します。
  */
+@ExtendWith(MockitoExtension.class)
 class NotificationServiceTest {
 
+  @Mock private NotificationOutboxRepository outboxRepository;
+
+  @Captor private ArgumentCaptor<NotificationOutbox> outboxCaptor;
+
   private NotificationService notificationService;
-  private Logger logger;
-  private ListAppender<ILoggingEvent> listAppender;
 
   @BeforeEach
   void setUp() {
-    notificationService = new NotificationService();
-    logger = (Logger) LoggerFactory.getLogger(NotificationService.class);
-    listAppender = new ListAppender<>();
-    listAppender.start();
-    logger.addAppender(listAppender);
-  }
-
-  @AfterEach
-  void tearDown() {
-    logger.detachAppender(listAppender);
+    notificationService = new NotificationService(outboxRepository, new ObjectMapper());
   }
 
   @Test
-  void sendVerificationEmail_LogsCorrectly() {
-    String email = "test@example.com";
-    String token = "verification-token-123";
-
-    notificationService.sendVerificationEmail(email, token);
+  void sendVerificationEmail_SavesToOutbox() {
+    notificationService.sendVerificationEmail("test@example.com", "verification-token-123");
 
-    assertLogContains("Sending verification email to: " + email);
-    assertLogContains("Verification token: " + token);
-    assertLogContains(
-        "Verification URL: http://localhost:8081/api/v1/auth/verify-email?token=" + token);
+    NotificationOutbox saved = savedOutbox();
+    assertEquals(NotificationOutbox.Type.VERIFICATION_EMAIL, saved.getType());
+    assertEquals("test@example.com", saved.getRecipient());
+    assertEquals("{\"token\":\"verification-token-123\"}", saved.getPayload());
+    assertEquals(NotificationOutbox.Status.PENDING, saved.getStatus());
+    assertEquals(0, saved.getAttempts());
   }
 
   @Test
-  void sendPasswordResetEmail_LogsCorrectly() {
-    String email = "test@example.com";
-    String token = "reset-token-456";
-
-    notificationService.sendPasswordResetEmail(email, token);
+  void sendPasswordResetEmail_SavesToOutbox() {
+    notificationService.sendPasswordResetEmail("test@example.com", "reset-token-456");
 
-    assertLogContains("Sending password reset email to: " + email);
-    assertLogContains("Password reset token: " + token);
-    assertLogContains(
-        "Password reset URL: http://localhost:8081/api/v1/auth/reset-password?token=" + token);
+    NotificationOutbox saved = savedOutbox();
+    assertEquals(NotificationOutbox.Type.PASSWORD_RESET_EMAIL, saved.getType());
+    assertEquals("{\"token\":\"reset-token-456\"}", saved.getPayload());
   }
 
   @Test
-  void sendWithdrawalConfirmation_LogsCorrectly() {
-    String email = "test@example.com";
+  void sendWithdrawalConfirmation_SavesToOutbox() {
     LocalDateTime scheduledDeletionAt = LocalDateTime.of(2025, 12, 31, 23, 59, 59);
 
-    notificationService.sendWithdrawalConfirmation(email, scheduledDeletionAt);
+    notificationService.sendWithdrawalConfirmation("test@example.com", scheduledDeletionAt);
 
-    assertLogContains("Sending withdrawal confirmation email to: " + email);
-    assertLogContains("Account will be permanently deleted at: " + scheduledDeletionAt.toString());
-    assertLogContains(
-        "If you did not request this, please contact support immediately at support@example.com");
+    NotificationOutbox saved = savedOutbox();
+    assertEquals(NotificationOutbox.Type.WITHDRAWAL_CONFIRMATION, saved.getType());
+    assertEquals("{\"scheduledDeletionAt\":\"2025-12-31T23:59:59\"}", saved.getPayload());
   }
 
-  private void assertLogContains(String expectedMessage) {
-    boolean found =
-        listAppender.list.stream()
-            .anyMatch(event -> event.getFormattedMessage().contains(expectedMessage));
-    if (!found) {
-      throw new AssertionError("Expected log message not found: " + expectedMessage);
-    }
+  private NotificationOutbox savedOutbox() {
+    verify(outboxRepository).save(outboxCaptor.capture());
+    return outboxCaptor.getValue();
   }
 }
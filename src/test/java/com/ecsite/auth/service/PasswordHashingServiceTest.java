@@ -0,0 +1,134 @@
+package com.ecsite.auth.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ecsite.auth.exception.PasswordHashingOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * PasswordHashingServiceのユニットテスト
+ *
+ * <p>専用スレッドプールでのハッシュ処理と、キュー満杯時の受付拒否を検証します。
+ */
+class PasswordHashingServiceTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private PasswordHashingService passwordHashingService;
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    passwordHashingService.shutdown();
+  }
+
+  @Test
+  void encodeAndMatches_RunOnHashingPool() {
+    passwordHashingService =
+        new PasswordHashingService(
+            new ThreadRecordingEncoder(), meterRegistry, 1, 1, Duration.ofSeconds(1));
+
+    String encoded = passwordHashingService.encode("secret");
+
+    assertTrue(encoded.startsWith("password-hashing-"));
+    assertTrue(passwordHashingService.matches("secret", "password-hashing-1:secret"));
+    assertFalse(passwordHashingService.matches("wrong", "password-hashing-1:secret"));
+    assertEquals(3, meterRegistry.get("password.hashing.wait").timer().count());
+  }
+
+  @Test
+  void matchesDummy_RunsOnHashingPoolAndReturnsFalse() {
+    passwordHashingService =
+        new PasswordHashingService(
+            new ThreadRecordingEncoder(), meterRegistry, 1, 1, Duration.ofSeconds(1));
+
+    assertFalse(passwordHashingService.matchesDummy("secret"));
+    assertEquals(1, meterRegistry.get("password.hashing.wait").timer().count());
+  }
+
+  @Test
+  void encode_QueueFull_ThrowsOverloadedException() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    passwordHashingService =
+        new PasswordHashingService(
+            new BlockingEncoder(started, release), meterRegistry, 1, 1, Duration.ofSeconds(3));
+
+    CompletableFuture<Boolean> running =
+        CompletableFuture.supplyAsync(() -> passwordHashingService.matches("first", "first"));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    CompletableFuture<Boolean> queued =
+        CompletableFuture.supplyAsync(() -> passwordHashingService.matches("second", "second"));
+    waitUntilQueued();
+
+    PasswordHashingOverloadedException exception =
+        assertThrows(
+            PasswordHashingOverloadedException.class, () -> passwordHashingService.encode("third"));
+
+    assertEquals(Duration.ofSeconds(3), exception.getRetryAfter());
+    assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+
+    release.countDown();
+    assertTrue(running.get(5, TimeUnit.SECONDS));
+    assertTrue(queued.get(5, TimeUnit.SECONDS));
+  }
+
+  private void waitUntilQueued() throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (meterRegistry.get("password.hashing.queue.size").gauge().value() < 1
+        && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+
+  /** 実行スレッド名をハッシュ値として返すエンコーダー */
+  private static final class ThreadRecordingEncoder implements PasswordEncoder {
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+      return Thread.currentThread().getName() + ":" + rawPassword;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+      return encodedPassword.endsWith(":" + rawPassword);
+    }
+  }
+
+  /** 解放されるまで照合処理をブロックするエンコーダー */
+  private static final class BlockingEncoder implements PasswordEncoder {
+
+    private final CountDownLatch started;
+    private final CountDownLatch release;
+
+    BlockingEncoder(CountDownLatch started, CountDownLatch release) {
+      this.started = started;
+      this.release = release;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+      return rawPassword.toString();
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+      started.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return rawPassword.toString().equals(encodedPassword);
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.ecsite.auth.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecsite.auth.exception.PasswordHashingOverloadedException;
+import com.ecsite.auth.repository.UserRepository;
+import com.ecsite.auth.security.PasswordHashPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * PasswordRehashServiceのユニットテスト
+ *
+ * <p>ハッシュのコストがターゲットと異なる場合のみ再ハッシュされることを検証します。
+ */
+@ExtendWith(MockitoExtension.class)
+class PasswordRehashServiceTest {
+
+  @Mock private PasswordHashingService passwordHashingService;
+
+  @Mock private UserRepository userRepository;
+
+  private PasswordRehashService passwordRehashService;
+  private UUID userId;
+
+  @BeforeEach
+  void setUp() {
+    passwordRehashService =
+        new PasswordRehashService(
+            new PasswordHashPolicy("bcrypt", 5),
+            passwordHashingService,
+            userRepository,
+            new SimpleMeterRegistry());
+    userId = UUID.randomUUID();
+  }
+
+  @Test
+  void rehashIfNeeded_OutdatedCost_SavesNewHash() {
+    String currentHash = new BCryptPasswordEncoder(4).encode("SecurePass123!");
+    when(passwordHashingService.encodeAsync("SecurePass123!"))
+        .thenReturn(CompletableFuture.completedFuture("{bcrypt}new-hash"));
+    when(userRepository.updatePasswordHash(userId, currentHash, "{bcrypt}new-hash")).thenReturn(1);
+
+    passwordRehashService.rehashIfNeeded(userId, "SecurePass123!", currentHash);
+
+    verify(userRepository).updatePasswordHash(userId, currentHash, "{bcrypt}new-hash");
+  }
+
+  @Test
+  void rehashIfNeeded_CurrentCost_DoesNothing() {
+    String currentHash = new BCryptPasswordEncoder(5).encode("SecurePass123!");
+
+    passwordRehashService.rehashIfNeeded(userId, "SecurePass123!", currentHash);
+
+    verify(passwordHashingService, never()).encodeAsync(any());
+    verify(userRepository, never()).updatePasswordHash(any(), anyString(), anyString());
+  }
+
+  @Test
+  void rehashIfNeeded_PoolSaturated_SkipsSilently() {
+    String currentHash = new BCryptPasswordEncoder(4).encode("SecurePass123!");
+    when(passwordHashingService.encodeAsync("SecurePass123!"))
+        .thenThrow(new PasswordHashingOverloadedException("busy", Duration.ofSeconds(1)));
+
+    passwordRehashService.rehashIfNeeded(userId, "SecurePass123!", currentHash);
+
+    verify(userRepository, never()).updatePasswordHash(any(), anyString(), anyString());
+  }
+}
@@ -6,13 +6,16 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.ecsite.auth.entity.PasswordResetToken;
+import com.ecsite.auth.entity.RefreshTokenFamily;
 import com.ecsite.auth.entity.User;
 import com.ecsite.auth.repository.PasswordResetTokenRepository;
+import com.ecsite.auth.repository.RefreshTokenFamilyRepository;
 import com.ecsite.auth.repository.UserRepository;
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -23,7 +26,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
 class PasswordResetServiceTest {
@@ -34,7 +36,9 @@ class PasswordResetServiceTest {
 
   @Mock private NotificationService notificationService;
 
-  @Mock private BCryptPasswordEncoder passwordEncoder;
+  @Mock private PasswordHashingService passwordHashingService;
+
+  @Mock private RefreshTokenFamilyRepository familyRepository;
 
   @InjectMocks private PasswordResetService passwordResetService;
 
@@ -89,7 +93,8 @@ class PasswordResetServiceTest {
   @Test
   void resetPassword_ValidToken_Success() {
     when(tokenRepository.findByToken("test-reset-token-123")).thenReturn(Optional.of(testToken));
-    when(passwordEncoder.encode("NewSecurePassword123!")).thenReturn("$2a$12$newHashedPassword");
+    when(passwordHashingService.encode("NewSecurePassword123!"))
+        .thenReturn("$2a$12$newHashedPassword");
     when(userRepository.save(any(User.class))).thenReturn(testUser);
     when(tokenRepository.save(any(PasswordResetToken.class))).thenReturn(testToken);
 
@@ -100,9 +105,14 @@ class PasswordResetServiceTest {
     assertEquals("$2a$12$newHashedPassword", testUser.getPasswordHash());
     assertNotNull(testToken.getUsedAt());
     verify(tokenRepository).findByToken("test-reset-token-123");
-    verify(passwordEncoder).encode("NewSecurePassword123!");
+    verify(passwordHashingService).encode("NewSecurePassword123!");
     verify(userRepository).save(testUser);
     verify(tokenRepository).save(testToken);
+    verify(familyRepository)
+        .revokeAllForUser(
+            eq(testUser.getId()),
+            eq(RefreshTokenFamily.REVOKED_PASSWORD_RESET),
+            any(LocalDateTime.class));
   }
 
   @Test
@@ -114,8 +124,9 @@ class PasswordResetServiceTest {
         () -> passwordResetService.resetPassword("invalid-token", "NewPassword123!"));
 
     verify(tokenRepository).findByToken("invalid-token");
-    verify(passwordEncoder, never()).encode(anyString());
+    verify(passwordHashingService, never()).encode(anyString());
     verify(userRepository, never()).save(any(User.class));
+    verify(familyRepository, never()).revokeAllForUser(any(), any(), any());
   }
 
   @Test
@@ -128,8 +139,9 @@ class PasswordResetServiceTest {
         () -> passwordResetService.resetPassword("test-reset-token-123", "NewPassword123!"));
 
     verify(tokenRepository).findByToken("test-reset-token-123");
-    verify(passwordEncoder, never()).encode(anyString());
+    verify(passwordHashingService, never()).encode(anyString());
     verify(userRepository, never()).save(any(User.class));
+    verify(familyRepository, never()).revokeAllForUser(any(), any(), any());
   }
 
   @Test
@@ -142,7 +154,8 @@ class PasswordResetServiceTest {
         () -> passwordResetService.resetPassword("test-reset-token-123", "NewPassword123!"));
 
     verify(tokenRepository).findByToken("test-reset-token-123");
-    verify(passwordEncoder, never()).encode(anyString());
+    verify(passwordHashingService, never()).encode(anyString());
     verify(userRepository, never()).save(any(User.class));
+    verify(familyRepository, never()).revokeAllForUser(any(), any(), any());
   }
 }
@@ -0,0 +1,242 @@
+package com.ecsite.auth.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ecsite.auth.dto.AuthTokenResponse;
+import com.ecsite.auth.entity.RefreshTokenFamily;
+import com.ecsite.auth.entity.User;
+import com.ecsite.auth.repository.RefreshTokenFamilyRepository;
+import com.ecsite.auth.repository.UserRepository;
+import com.ecsite.auth.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+  private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs256-algorithm";
+
+  @Mock private RefreshTokenFamilyRepository familyRepository;
+
+  @Mock private UserRepository userRepository;
+
+  private JwtUtil jwtUtil;
+  private SimpleMeterRegistry meterRegistry;
+  private RefreshTokenService refreshTokenService;
+  private User activeUser;
+  private UUID familyId;
+  private UUID currentJti;
+
+  @BeforeEach
+  void setUp() {
+    jwtUtil = new JwtUtil(SECRET, 900000L, 2592000000L);
+    meterRegistry = new SimpleMeterRegistry();
+    refreshTokenService =
+        new RefreshTokenService(familyRepository, userRepository, jwtUtil, meterRegistry, 1000);
+
+    activeUser = new User();
+    activeUser.setId(UUID.randomUUID());
+    activeUser.setEmail("test@example.com");
+    activeUser.setStatus(User.UserStatus.ACTIVE);
+    familyId = UUID.randomUUID();
+    currentJti = UUID.randomUUID();
+  }
+
+  @Test
+  void issue_CreatesFamilyAndReturnsTokenForHead() {
+    when(familyRepository.save(any(RefreshTokenFamily.class)))
+        .thenAnswer(
+            invocation -> {
+              RefreshTokenFamily family = invocation.getArgument(0);
+              family.setId(familyId);
+              return family;
+            });
+
+    String token = refreshTokenService.issue(activeUser.getId());
+
+    ArgumentCaptor<RefreshTokenFamily> captor = ArgumentCaptor.forClass(RefreshTokenFamily.class);
+    verify(familyRepository).save(captor.capture());
+    Claims claims = jwtUtil.validateToken(token);
+    assertEquals(activeUser.getId().toString(), claims.getSubject());
+    assertEquals(familyId.toString(), claims.get("fid", String.class));
+    assertEquals(captor.getValue().getCurrentJti().toString(), claims.getId());
+    assertEquals(0, captor.getValue().getGeneration());
+  }
+
+  @Test
+  void revokeAll_RevokesEveryFamilyOfUser() {
+    when(familyRepository.revokeAllForUser(
+            eq(activeUser.getId()),
+            eq(RefreshTokenFamily.REVOKED_LOGOUT),
+            any(LocalDateTime.class)))
+        .thenReturn(2);
+
+    assertEquals(
+        2, refreshTokenService.revokeAll(activeUser.getId(), RefreshTokenFamily.REVOKED_LOGOUT));
+  }
+
+  @Test
+  void refresh_CurrentToken_RotatesAndIssuesNewTokens() {
+    String token = jwtUtil.generateRefreshToken(activeUser.getId(), familyId, currentJti);
+    when(userRepository.findById(activeUser.getId())).thenReturn(Optional.of(activeUser));
+    when(familyRepository.rotate(
+            eq(familyId),
+            eq(currentJti),
+            any(UUID.class),
+            any(LocalDateTime.class),
+            any(LocalDateTime.class)))
+        .thenReturn(1);
+
+    AuthTokenResponse response = refreshTokenService.refresh(token);
+
+    Claims access = jwtUtil.validateToken(response.getAccessToken());
+    assertEquals("ACCESS", access.get("type", String.class));
+    assertEquals("test@example.com", access.get("email", String.class));
+    Claims refresh = jwtUtil.validateToken(response.getRefreshToken());
+    assertEquals(familyId.toString(), refresh.get("fid", String.class));
+    assertNotEquals(currentJti.toString(), refresh.getId());
+    assertEquals(1.0, meterRegistry.counter("jwt.refresh.rotated").count());
+  }
+
+  @Test
+  void refresh_ReusedToken_RevokesFamily() {
+    String token = jwtUtil.generateRefreshToken(activeUser.getId(), familyId, currentJti);
+    when(userRepository.findById(activeUser.getId())).thenReturn(Optional.of(activeUser));
+    when(familyRepository.rotate(
+            eq(familyId),
+            eq(currentJti),
+            any(UUID.class),
+            any(LocalDateTime.class),
+            any(LocalDateTime.class)))
+        .thenReturn(0);
+    when(familyRepository.findById(familyId))
+        .thenReturn(Optional.of(family(UUID.randomUUID(), null)));
+
+    assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh(token));
+
+    verify(familyRepository)
+        .revoke(
+            eq(familyId), eq(RefreshTokenFamily.REVOKED_REUSE_DETECTED), any(LocalDateTime.class));
+    assertEquals(1.0, meterRegistry.counter("jwt.refresh.reuse-detected").count());
+  }
+
+  @Test
+  void refresh_RevokedFamily_RejectsRetryWithoutDatabaseAccess() {
+    String token = jwtUtil.generateRefreshToken(activeUser.getId(), familyId, currentJti);
+    when(userRepository.findById(activeUser.getId())).thenReturn(Optional.of(activeUser));
+    when(familyRepository.rotate(
+            eq(familyId),
+            eq(currentJti),
+            any(UUID.class),
+            any(LocalDateTime.class),
+            any(LocalDateTime.class)))
+        .thenReturn(0);
+    when(familyRepository.findById(familyId))
+        .thenReturn(Optional.of(family(currentJti, LocalDateTime.now().minusMinutes(1))));
+
+    assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh(token));
+    assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh(token));
+
+    verify(userRepository).findById(activeUser.getId());
+    verify(familyRepository).findById(familyId);
+    verify(familyRepository, never())
+        .revoke(any(UUID.class), anyString(), any(LocalDateTime.class));
+  }
+
+  @Test
+  void refresh_ExpiredFamily_DoesNotRevoke() {
+    String token = jwtUtil.generateRefreshToken(activeUser.getId(), familyId, currentJti);
+    when(userRepository.findById(activeUser.getId())).thenReturn(Optional.of(activeUser));
+    when(familyRepository.rotate(
+            eq(familyId),
+            eq(currentJti),
+            any(UUID.class),
+            any(LocalDateTime.class),
+            any(LocalDateTime.class)))
+        .thenReturn(0);
+    when(familyRepository.findById(familyId)).thenReturn(Optional.of(family(currentJti, null)));
+
+    assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh(token));
+
+    verify(familyRepository, never())
+        .revoke(any(UUID.class), anyString(), any(LocalDateTime.class));
+  }
+
+  @Test
+  void refresh_AccessToken_ThrowsBadCredentials() {
+    String token = jwtUtil.generateAccessToken(activeUser.getId(), "test@example.com", "USER");
+
+    assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh(token));
+
+    verifyNoInteractions(familyRepository, userRepository);
+  }
+
+  @Test
+  void refresh_LegacyTokenWithoutFamily_ThrowsBadCredentials() {
+    // ファミリー導入前に発行された、fidクレームを持たないリフレッシュトークン
+    String token =
+        Jwts.builder()
+            .subject(activeUser.getId().toString())
+            .claim("type", "REFRESH")
+            .id(UUID.randomUUID().toString())
+            .expiration(new Date(System.currentTimeMillis() + 60_000))
+            .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+
+    assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh(token));
+
+    verifyNoInteractions(familyRepository, userRepository);
+  }
+
+  @Test
+  void refresh_InvalidSignature_ThrowsBadCredentials() {
+    assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh("not-a-jwt"));
+
+    verifyNoInteractions(familyRepository, userRepository);
+  }
+
+  @Test
+  void refresh_InactiveUser_ThrowsBadCredentials() {
+    activeUser.setStatus(User.UserStatus.PENDING_DELETION);
+    String token = jwtUtil.generateRefreshToken(activeUser.getId(), familyId, currentJti);
+    when(userRepository.findById(activeUser.getId())).thenReturn(Optional.of(activeUser));
+
+    assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh(token));
+
+    verifyNoInteractions(familyRepository);
+  }
+
+  private RefreshTokenFamily family(UUID headJti, LocalDateTime revokedAt) {
+    return RefreshTokenFamily.builder()
+        .id(familyId)
+        .userId(activeUser.getId())
+        .currentJti(headJti)
+        .generation(3)
+        .expiresAt(LocalDateTime.now().minusDays(1))
+        .revokedAt(revokedAt)
+        .build();
+  }
+}
@@ -0,0 +1,138 @@
+package com.ecsite.auth.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecsite.auth.cache.UserStatusCache;
+import com.ecsite.auth.dto.TokenIntrospectionResponse;
+import com.ecsite.auth.entity.User;
+import com.ecsite.auth.security.AccessTokenPolicy;
+import com.ecsite.auth.security.AccessTokenRevocationList;
+import com.ecsite.auth.security.JwtUtil;
+import com.ecsite.auth.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * TokenIntrospectionServiceのユニットテスト
+ *
+ * <p>認証フィルターと同じ基準で判定されること、およびユーザーステータスが1回の一括取得で解決されることを検証します。
+ */
+@ExtendWith(MockitoExtension.class)
+class TokenIntrospectionServiceTest {
+
+  @Mock private AccessTokenRevocationList accessTokenRevocationList;
+
+  @Mock private UserStatusCache userStatusCache;
+
+  private JwtUtil jwtUtil;
+  private TokenIntrospectionService tokenIntrospectionService;
+  private UUID userId;
+
+  @BeforeEach
+  void setUp() {
+    jwtUtil =
+        new JwtUtil(
+            "test-secret-key-that-is-long-enough-for-hs256-algorithm", 900000L, 2592000000L);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    tokenIntrospectionService =
+        new TokenIntrospectionService(
+            new AccessTokenPolicy(
+                new VerifiedTokenCache(jwtUtil, meterRegistry, 100), accessTokenRevocationList),
+            userStatusCache,
+            meterRegistry);
+    userId = UUID.randomUUID();
+  }
+
+  @Test
+  void introspect_ActiveAccessToken_ReturnsClaims() {
+    String token = jwtUtil.generateAccessToken(userId, "test@example.com", "USER");
+    when(userStatusCache.getStatuses(Set.of(userId)))
+        .thenReturn(Map.of(userId, User.UserStatus.ACTIVE));
+
+    List<TokenIntrospectionResponse.Result> results =
+        tokenIntrospectionService.introspect(List.of(token));
+
+    TokenIntrospectionResponse.Result result = results.get(0);
+    assertTrue(result.isActive());
+    assertEquals(userId.toString(), result.getSub());
+    assertEquals("USER", result.getRole());
+    assertEquals(jwtUtil.validateToken(token).getId(), result.getJti());
+    assertEquals(
+        jwtUtil.validateToken(token).getExpiration().toInstant().getEpochSecond(), result.getExp());
+  }
+
+  @Test
+  void introspect_Batch_ResolvesStatusesOnceAndKeepsOrder() {
+    UUID withdrawnUserId = UUID.randomUUID();
+    String first = jwtUtil.generateAccessToken(userId, "test@example.com", "USER");
+    String second = jwtUtil.generateAccessToken(withdrawnUserId, "gone@example.com", "USER");
+    String third = jwtUtil.generateAccessToken(userId, "test@example.com", "USER");
+    when(userStatusCache.getStatuses(Set.of(userId, withdrawnUserId)))
+        .thenReturn(
+            Map.of(
+                userId, User.UserStatus.ACTIVE, withdrawnUserId, User.UserStatus.PENDING_DELETION));
+
+    List<TokenIntrospectionResponse.Result> results =
+        tokenIntrospectionService.introspect(List.of(first, "not-a-jwt", second, third));
+
+    assertEquals(4, results.size());
+    assertTrue(results.get(0).isActive());
+    assertFalse(results.get(1).isActive());
+    assertFalse(results.get(2).isActive());
+    assertNull(results.get(2).getSub());
+    assertTrue(results.get(3).isActive());
+    verify(userStatusCache).getStatuses(any());
+  }
+
+  @Test
+  void introspect_RevokedToken_IsInactive() {
+    String token = jwtUtil.generateAccessToken(userId, "test@example.com", "USER");
+    when(accessTokenRevocationList.isRevoked(jwtUtil.validateToken(token).getId()))
+        .thenReturn(true);
+
+    List<TokenIntrospectionResponse.Result> results =
+        tokenIntrospectionService.introspect(List.of(token));
+
+    assertFalse(results.get(0).isActive());
+    verify(userStatusCache, never()).getStatuses(any());
+  }
+
+  @Test
+  void introspect_RefreshToken_IsInactive() {
+    String token = jwtUtil.generateRefreshToken(userId, UUID.randomUUID(), UUID.randomUUID());
+
+    List<TokenIntrospectionResponse.Result> results =
+        tokenIntrospectionService.introspect(List.of(token));
+
+    assertFalse(results.get(0).isActive());
+    verify(accessTokenRevocationList, never()).isRevoked(anyString());
+    verify(userStatusCache, never()).getStatuses(any());
+  }
+
+  @Test
+  void introspect_UnknownUser_IsInactive() {
+    String token = jwtUtil.generateAccessToken(userId, "test@example.com", "USER");
+    when(userStatusCache.getStatuses(Set.of(userId))).thenReturn(Map.of());
+
+    List<TokenIntrospectionResponse.Result> results =
+        tokenIntrospectionService.introspect(List.of(token));
+
+    assertFalse(results.get(0).isActive());
+  }
+}
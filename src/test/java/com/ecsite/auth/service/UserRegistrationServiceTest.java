@@ -28,7 +28,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
 class UserRegistrationServiceTest {
@@ -37,7 +36,7 @@ class UserRegistrationServiceTest {
 
   @Mock private EmailVerificationTokenRepository emailVerificationTokenRepository;
 
-  @Mock private BCryptPasswordEncoder passwordEncoder;
+  @Mock private PasswordHashingService passwordHashingService;
 
   @Mock private JwtUtil jwtUtil;
 
@@ -45,6 +44,8 @@ class UserRegistrationServiceTest {
 
   @Mock private EmailVerificationService emailVerificationService;
 
+  @Mock private RefreshTokenService refreshTokenService;
+
   @InjectMocks private UserRegistrationService userRegistrationService;
 
   private CreateUserRequest validRequest;
@@ -82,12 +83,13 @@ class UserRegistrationServiceTest {
     userResponse.setEmailVerified(false);
 
     when(userRepository.existsByEmail(validRequest.getEmail())).thenReturn(false);
-    when(passwordEncoder.encode(validRequest.getPassword())).thenReturn("$2a$12$hashedPassword");
+    when(passwordHashingService.encode(validRequest.getPassword()))
+        .thenReturn("$2a$12$hashedPassword");
     when(userRepository.save(any(User.class))).thenReturn(savedUser);
     when(userMapper.toUserResponse(any(User.class))).thenReturn(userResponse);
     when(jwtUtil.generateAccessToken(any(UUID.class), anyString(), anyString()))
         .thenReturn("access-token");
-    when(jwtUtil.generateRefreshToken(any(UUID.class))).thenReturn("refresh-token");
+    when(refreshTokenService.issue(any(UUID.class))).thenReturn("refresh-token");
 
     RegistrationResponse response = userRegistrationService.registerUser(validRequest);
 
@@ -102,10 +104,10 @@ class UserRegistrationServiceTest {
     assertEquals(900, response.getTokens().getExpiresIn());
 
     verify(userRepository).existsByEmail(validRequest.getEmail());
-    verify(passwordEncoder).encode(validRequest.getPassword());
+    verify(passwordHashingService).encode(validRequest.getPassword());
     verify(userRepository).save(any(User.class));
     verify(jwtUtil).generateAccessToken(any(UUID.class), anyString(), anyString());
-    verify(jwtUtil).generateRefreshToken(any(UUID.class));
+    verify(refreshTokenService).issue(any(UUID.class));
   }
 
   @Test
@@ -116,23 +118,24 @@ class UserRegistrationServiceTest {
         UserAlreadyExistsException.class, () -> userRegistrationService.registerUser(validRequest));
 
     verify(userRepository).existsByEmail(validRequest.getEmail());
-    verify(passwordEncoder, never()).encode(anyString());
+    verify(passwordHashingService, never()).encode(anyString());
     verify(userRepository, never()).save(any(User.class));
   }
 
   @Test
   void registerUser_PasswordIsHashed() {
     when(userRepository.existsByEmail(validRequest.getEmail())).thenReturn(false);
-    when(passwordEncoder.encode(validRequest.getPassword())).thenReturn("$2a$12$hashedPassword");
+    when(passwordHashingService.encode(validRequest.getPassword()))
+        .thenReturn("$2a$12$hashedPassword");
     when(userRepository.save(any(User.class))).thenReturn(savedUser);
     when(userMapper.toUserResponse(any(User.class))).thenReturn(new UserResponse());
     when(jwtUtil.generateAccessToken(any(UUID.class), anyString(), anyString()))
         .thenReturn("access-token");
-    when(jwtUtil.generateRefreshToken(any(UUID.class))).thenReturn("refresh-token");
+    when(refreshTokenService.issue(any(UUID.class))).thenReturn("refresh-token");
 
     userRegistrationService.registerUser(validRequest);
 
-    verify(passwordEncoder).encode("SecurePass123!");
+    verify(passwordHashingService).encode("SecurePass123!");
     verify(userRepository)
         .save(
             argThat(
@@ -144,12 +147,12 @@ class UserRegistrationServiceTest {
   @Test
   void registerUser_UserStatusIsPending() {
     when(userRepository.existsByEmail(validRequest.getEmail())).thenReturn(false);
-    when(passwordEncoder.encode(anyString())).thenReturn("$2a$12$hashedPassword");
+    when(passwordHashingService.encode(anyString())).thenReturn("$2a$12$hashedPassword");
     when(userRepository.save(any(User.class))).thenReturn(savedUser);
     when(userMapper.toUserResponse(any(User.class))).thenReturn(new UserResponse());
     when(jwtUtil.generateAccessToken(any(UUID.class), anyString(), anyString()))
         .thenReturn("access-token");
-    when(jwtUtil.generateRefreshToken(any(UUID.class))).thenReturn("refresh-token");
+    when(refreshTokenService.issue(any(UUID.class))).thenReturn("refresh-token");
 
     userRegistrationService.registerUser(validRequest);
 
@@ -159,12 +162,12 @@ class UserRegistrationServiceTest {
   @Test
   void registerUser_EmailVerifiedAtIsNull() {
     when(userRepository.existsByEmail(validRequest.getEmail())).thenReturn(false);
-    when(passwordEncoder.encode(anyString())).thenReturn("$2a$12$hashedPassword");
+    when(passwordHashingService.encode(anyString())).thenReturn("$2a$12$hashedPassword");
     when(userRepository.save(any(User.class))).thenReturn(savedUser);
     when(userMapper.toUserResponse(any(User.class))).thenReturn(new UserResponse());
     when(jwtUtil.generateAccessToken(any(UUID.class), anyString(), anyString()))
         .thenReturn("access-token");
-    when(jwtUtil.generateRefreshToken(any(UUID.class))).thenReturn("refresh-token");
+    when(refreshTokenService.issue(any(UUID.class))).thenReturn("refresh-token");
 
     userRegistrationService.registerUser(validRequest);
 
@@ -189,12 +192,12 @@ class UserRegistrationServiceTest {
     userResponse.setEmailVerified(false);
 
     when(userRepository.existsByEmail(memberRequest.getName())).thenReturn(false);
-    when(passwordEncoder.encode(anyString())).thenReturn("$2a$12$hashedPassword");
+    when(passwordHashingService.encode(anyString())).thenReturn("$2a$12$hashedPassword");
     when(userRepository.save(any(User.class))).thenReturn(savedUser);
     when(userMapper.toUserResponse(any(User.class))).thenReturn(userResponse);
     when(jwtUtil.generateAccessToken(any(UUID.class), anyString(), anyString()))
         .thenReturn("access-token");
-    when(jwtUtil.generateRefreshToken(any(UUID.class))).thenReturn("refresh-token");
+    when(refreshTokenService.issue(any(UUID.class))).thenReturn("refresh-token");
     when(emailVerificationService.generateVerificationToken(any(User.class)))
         .thenReturn("verification-token");
 
@@ -210,11 +213,11 @@ class UserRegistrationServiceTest {
     assertEquals("refresh-token", response.getTokens().getRefreshToken());
 
     verify(userRepository).existsByEmail(memberRequest.getName());
-    verify(passwordEncoder).encode(anyString());
+    verify(passwordHashingService).encode(anyString());
     verify(userRepository).save(any(User.class));
     verify(emailVerificationService).generateVerificationToken(any(User.class));
     verify(jwtUtil).generateAccessToken(any(UUID.class), anyString(), anyString());
-    verify(jwtUtil).generateRefreshToken(any(UUID.class));
+    verify(refreshTokenService).issue(any(UUID.class));
   }
 
   @Test
@@ -231,7 +234,7 @@ class UserRegistrationServiceTest {
         () -> userRegistrationService.registerMember(memberRequest));
 
     verify(userRepository).existsByEmail(memberRequest.getName());
-    verify(passwordEncoder, never()).encode(anyString());
+    verify(passwordHashingService, never()).encode(anyString());
     verify(userRepository, never()).save(any(User.class));
     verify(emailVerificationService, never()).generateVerificationToken(any(User.class));
   }
@@ -244,12 +247,12 @@ class UserRegistrationServiceTest {
     memberRequest.setStatus("INVALID_STATUS");
 
     when(userRepository.existsByEmail(memberRequest.getName())).thenReturn(false);
-    when(passwordEncoder.encode(anyString())).thenReturn("$2a$12$hashedPassword");
+    when(passwordHashingService.encode(anyString())).thenReturn("$2a$12$hashedPassword");
     when(userRepository.save(any(User.class))).thenReturn(savedUser);
     when(userMapper.toUserResponse(any(User.class))).thenReturn(new UserResponse());
     when(jwtUtil.generateAccessToken(any(UUID.class), anyString(), anyString()))
         .thenReturn("access-token");
-    when(jwtUtil.generateRefreshToken(any(UUID.class))).thenReturn("refresh-token");
+    when(refreshTokenService.issue(any(UUID.class))).thenReturn("refresh-token");
     when(emailVerificationService.generateVerificationToken(any(User.class)))
         .thenReturn("verification-token");
 
@@ -271,12 +274,12 @@ class UserRegistrationServiceTest {
     activeUser.setStatus(User.UserStatus.ACTIVE);
 
     when(userRepository.existsByEmail(memberRequest.getName())).thenReturn(false);
-    when(passwordEncoder.encode(anyString())).thenReturn("$2a$12$hashedPassword");
+    when(passwordHashingService.encode(anyString())).thenReturn("$2a$12$hashedPassword");
     when(userRepository.save(any(User.class))).thenReturn(activeUser);
     when(userMapper.toUserResponse(any(User.class))).thenReturn(new UserResponse());
     when(jwtUtil.generateAccessToken(any(UUID.class), anyString(), anyString()))
         .thenReturn("access-token");
-    when(jwtUtil.generateRefreshToken(any(UUID.class))).thenReturn("refresh-token");
+    when(refreshTokenService.issue(any(UUID.class))).thenReturn("refresh-token");
     when(emailVerificationService.generateVerificationToken(any(User.class)))
         .thenReturn("verification-token");
 
@@ -0,0 +1,35 @@
+package com.ecsite.auth.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * WithdrawalPurgerのユニットテスト
+ *
+ * <p>キーセットの開始位置の算出に使うUUIDの比較が、PostgreSQLのuuid型と同じ順序になることを検証します。
+ */
+class WithdrawalPurgerTest {
+
+  @Test
+  void compareUuid_ComparesAsUnsignedBytes() {
+    UUID low = UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffffff");
+    UUID high = UUID.fromString("80000000-0000-0000-0000-000000000000");
+
+    // UUID#compareToは符号付きで比較するため逆の順序になる
+    assertTrue(high.compareTo(low) < 0);
+    assertTrue(WithdrawalPurger.compareUuid(low, high) < 0);
+    assertTrue(WithdrawalPurger.compareUuid(high, low) > 0);
+  }
+
+  @Test
+  void compareUuid_SameMostSignificantBits_ComparesLeastSignificantBitsUnsigned() {
+    UUID low = UUID.fromString("00000000-0000-0000-7fff-ffffffffffff");
+    UUID high = UUID.fromString("00000000-0000-0000-8000-000000000000");
+
+    assertTrue(WithdrawalPurger.compareUuid(low, high) < 0);
+    assertEquals(0, WithdrawalPurger.compareUuid(high, UUID.fromString(high.toString())));
+  }
+}
@@ -6,13 +6,17 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.ecsite.auth.cache.UserStatusCache;
 import com.ecsite.auth.dto.WithdrawalRequest;
 import com.ecsite.auth.dto.WithdrawalResponse;
+import com.ecsite.auth.entity.RefreshTokenFamily;
 import com.ecsite.auth.entity.User;
+import com.ecsite.auth.repository.RefreshTokenFamilyRepository;
 import com.ecsite.auth.repository.UserRepository;
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -37,6 +41,10 @@ class WithdrawalServiceTest {
 
   @Mock private NotificationService notificationService;
 
+  @Mock private UserStatusCache userStatusCache;
+
+  @Mock private RefreshTokenFamilyRepository familyRepository;
+
   @InjectMocks private WithdrawalService withdrawalService;
 
   private UUID userId;
@@ -88,6 +96,10 @@ class WithdrawalServiceTest {
                         && user.getDeletionScheduledAt() != null
                         && user.getWithdrawalReason().equals("サービスを利用しなくなったため")));
     verify(notificationService).sendWithdrawalConfirmation(anyString(), any(LocalDateTime.class));
+    verify(userStatusCache).invalidate(userId);
+    verify(familyRepository)
+        .revokeAllForUser(
+            eq(userId), eq(RefreshTokenFamily.REVOKED_WITHDRAWN), any(LocalDateTime.class));
   }
 
   @Test